@@ -0,0 +1,57 @@
+package jpa.config;
+
+import jpa.dao.generic.EntityManagerHelper;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Runs each servlet invocation on its own virtual thread.
+ *
+ * <p>Virtual threads are unbounded, so admission is gated by a semaphore sized after the
+ * connection pool: requests above the limit park cheaply on their virtual thread instead of
+ * piling up on JDBC connection acquisition. The thread-bound entity manager is closed when
+ * the invocation ends, before its slot is released, as the thread is never reused by another
+ * request.</p>
+ *
+ * <p>Only compiled by the {@code java21} Maven profile; {@code RestServer} loads it by name
+ * when the virtual execution mode is selected.</p>
+ */
+public final class VirtualThreadRequestExecutor implements Executor {
+    private static final ThreadFactory VIRTUAL_THREAD_FACTORY = Thread.ofVirtual()
+            .name("request-vt-", 0)
+            .factory();
+
+    private final Semaphore permits;
+
+    /**
+     * Creates a new instance of VirtualThreadRequestExecutor.
+     *
+     * @param maxConcurrency maximum number of invocations running at the same time
+     */
+    public VirtualThreadRequestExecutor(int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be > 0");
+        }
+        this.permits = new Semaphore(maxConcurrency, true);
+    }
+
+    /**
+     * Starts the task on a new virtual thread, once a slot is available.
+     *
+     * @param task servlet invocation
+     */
+    @Override
+    public void execute(Runnable task) {
+        VIRTUAL_THREAD_FACTORY.newThread(() -> {
+            permits.acquireUninterruptibly();
+            try {
+                task.run();
+            } finally {
+                EntityManagerHelper.closeEntityManager();
+                permits.release();
+            }
+        }).start();
+    }
+}
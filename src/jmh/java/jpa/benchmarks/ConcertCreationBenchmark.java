@@ -0,0 +1,129 @@
+package jpa.benchmarks;
+
+import jpa.config.DatabaseConfig;
+import jpa.dao.generic.EntityManagerHelper;
+import jpa.dao.impl.ConcertDaoImpl;
+import jpa.dao.impl.OrganizerDaoImpl;
+import jpa.dao.impl.PlaceDaoImpl;
+import jpa.entities.Concert;
+import jpa.entities.Organizer;
+import jpa.entities.Place;
+import jpa.entities.Ticket;
+import jpa.enums.ConcertStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Concert creation with its tickets against an in-memory HSQLDB.
+ *
+ * <p>{@code saveWithTickets} is the batched insert path used by concert creation,
+ * {@code cascadingSave} the single cascading persist it replaced. Each JDBC batch size runs in
+ * its own fork, as Hibernate reads it once when the entity manager factory is built.</p>
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConcertCreationBenchmark {
+
+    @Param({"1", "50"})
+    public String jdbcBatchSize;
+
+    @Param({"10000"})
+    public int tickets;
+
+    private ConcertDaoImpl concertDao;
+    private Organizer organizer;
+    private Place place;
+    private Concert concert;
+
+    @Setup(Level.Trial)
+    public void setUpDatabase() {
+        System.setProperty(DatabaseConfig.JDBC_URL_PROPERTY, "jdbc:hsqldb:mem:jmh-" + UUID.randomUUID());
+        System.setProperty(DatabaseConfig.JDBC_BATCH_SIZE_PROPERTY, jdbcBatchSize);
+        concertDao = new ConcertDaoImpl();
+
+        organizer = new Organizer();
+        organizer.setEmail("bench.organizer@sir.local");
+        organizer.setPassword("benchmark-password");
+        organizer.setFirstName("Bench");
+        organizer.setLastName("Organizer");
+        new OrganizerDaoImpl().save(organizer);
+
+        place = new Place();
+        place.setName("Benchmark Arena");
+        place.setAddress("1 rue du Test");
+        place.setZipCode(75000);
+        place.setCity("Paris");
+        place.setCapacity(tickets);
+        new PlaceDaoImpl().save(place);
+        EntityManagerHelper.closeEntityManager();
+    }
+
+    @Setup(Level.Invocation)
+    public void prepareConcert() {
+        BigDecimal price = new BigDecimal("42.50");
+        concert = new Concert();
+        concert.setTitle("Benchmark concert");
+        concert.setDate(Instant.now().plus(30, ChronoUnit.DAYS));
+        concert.setOrganizer(organizer);
+        concert.setPlace(place);
+        concert.setStatus(ConcertStatus.PENDING_VALIDATION);
+        concert.setTicketQuantity(tickets);
+        concert.setTicketSold(0);
+        concert.setUnitPrice(price);
+
+        List<Ticket> concertTickets = new ArrayList<>(tickets);
+        for (int i = 0; i < tickets; i++) {
+            Ticket ticket = new Ticket();
+            ticket.setConcert(concert);
+            ticket.setPrice(price);
+            ticket.setBarcode(UUID.randomUUID().toString());
+            concertTickets.add(ticket);
+        }
+        concert.setTickets(concertTickets);
+    }
+
+    @TearDown(Level.Invocation)
+    public void releaseEntityManager() {
+        EntityManagerHelper.closeEntityManager();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownDatabase() {
+        EntityManagerHelper.closeEntityManagerFactory();
+    }
+
+    @Benchmark
+    public Concert saveWithTickets() {
+        concertDao.saveWithTickets(concert);
+        return concert;
+    }
+
+    @Benchmark
+    public Concert cascadingSave() {
+        concertDao.save(concert);
+        return concert;
+    }
+}
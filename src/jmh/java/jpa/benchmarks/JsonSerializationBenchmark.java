@@ -0,0 +1,92 @@
+package jpa.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jpa.config.JacksonObjectMapperProvider;
+import jpa.dto.concert.ResponseConcertPlaceDto;
+import jpa.dto.concert.ResponseOrganizerConcertStatsDto;
+import jpa.dto.concert.ResponseOrganizerConcertStatsRowDto;
+import jpa.enums.StatsGranularity;
+import jpa.services.stats.OrganizerStatsAccumulator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the largest response payloads with the application mapper.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    @Param({"1000", "10000"})
+    public int concerts;
+
+    private ObjectMapper objectMapper;
+    private ResponseOrganizerConcertStatsDto organizerStats;
+    private List<ResponseConcertPlaceDto> publishedConcertsWithPlace;
+
+    @Setup
+    public void setUp() {
+        objectMapper = JacksonObjectMapperProvider.createObjectMapper();
+
+        List<ResponseOrganizerConcertStatsRowDto> rows = SyntheticStatsRows.generate(concerts);
+        Instant now = Instant.parse("2025-01-01T00:00:00Z");
+        OrganizerStatsAccumulator accumulator = new OrganizerStatsAccumulator(now, StatsGranularity.WEEK, 10);
+        rows.forEach(accumulator::add);
+        organizerStats = new ResponseOrganizerConcertStatsDto(
+                now,
+                new ResponseOrganizerConcertStatsDto.Period(null, null, StatsGranularity.WEEK, 10, true),
+                accumulator.overview(),
+                new ResponseOrganizerConcertStatsDto.OverviewDelta(null, null, null, null),
+                accumulator.statusBreakdown(),
+                accumulator.cityBreakdown(),
+                accumulator.placeBreakdown(),
+                accumulator.timeline(),
+                accumulator.rankings(),
+                accumulator.concerts()
+        );
+
+        publishedConcertsWithPlace = rows.stream()
+                .map(row -> new ResponseConcertPlaceDto(
+                        row.concertId(),
+                        row.concertTitle(),
+                        row.concertArtist(),
+                        row.concertDate(),
+                        row.placeName(),
+                        row.placeAddress(),
+                        row.placeZipCode(),
+                        row.placeCity(),
+                        row.placeCapacity(),
+                        Math.toIntExact(row.ticketQuantity() - row.ticketSold()),
+                        row.ticketUnitPrice()
+                ))
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] organizerStats() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(organizerStats);
+    }
+
+    @Benchmark
+    public byte[] publishedConcertsWithPlace() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(publishedConcertsWithPlace);
+    }
+}
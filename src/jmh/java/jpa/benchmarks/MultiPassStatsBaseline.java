@@ -0,0 +1,399 @@
+package jpa.benchmarks;
+
+import jpa.dto.concert.ResponseOrganizerConcertStatsDto;
+import jpa.dto.concert.ResponseOrganizerConcertStatsRowDto;
+import jpa.enums.ConcertStatus;
+import jpa.enums.StatsGranularity;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.time.temporal.WeekFields;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Multi-pass stats aggregation as the stats service did it before {@code OrganizerStatsAccumulator}:
+ * one stream per overview figure, {@link BigDecimal} accumulation and a full sort per ranking.
+ *
+ * <p>Kept only as the reference point of {@link OrganizerStatsBenchmark}.</p>
+ */
+final class MultiPassStatsBaseline {
+
+    /**
+     * Aggregates the rows like the previous service implementation.
+     *
+     * @param rows stats rows
+     * @param now reference instant
+     * @param granularity timeline bucket size
+     * @param top ranking size
+     * @return overview, breakdowns, timeline and rankings
+     */
+    Result aggregate(
+            List<ResponseOrganizerConcertStatsRowDto> rows,
+            Instant now,
+            StatsGranularity granularity,
+            int top
+    ) {
+        List<ResponseOrganizerConcertStatsDto.ConcertItem> concertItems = rows.stream()
+                .map(row -> toConcertItem(row, now))
+                .toList();
+
+        return new Result(
+                buildOverview(concertItems, now),
+                buildBreakdown(
+                        concertItems,
+                        item -> item.concertStatus() == null ? "UNKNOWN_STATUS" : item.concertStatus(),
+                        item -> item.concertStatus() == null ? "Unknown status" : item.concertStatus()
+                ),
+                buildBreakdown(
+                        concertItems,
+                        item -> item.placeCity() == null ? "UNKNOWN_CITY" : item.placeCity(),
+                        item -> item.placeCity() == null ? "Unknown city" : item.placeCity()
+                ),
+                buildBreakdown(
+                        concertItems,
+                        item -> item.placeName() == null ? "UNKNOWN_PLACE" : item.placeName(),
+                        item -> item.placeName() == null ? "Unknown place" : item.placeName()
+                ),
+                buildTimeline(concertItems, granularity),
+                buildRankings(concertItems, top)
+        );
+    }
+
+    /**
+     * Aggregated figures.
+     */
+    record Result(
+            ResponseOrganizerConcertStatsDto.Overview overview,
+            List<ResponseOrganizerConcertStatsDto.BreakdownItem> statusBreakdown,
+            List<ResponseOrganizerConcertStatsDto.BreakdownItem> cityBreakdown,
+            List<ResponseOrganizerConcertStatsDto.BreakdownItem> placeBreakdown,
+            List<ResponseOrganizerConcertStatsDto.TimelinePoint> timeline,
+            ResponseOrganizerConcertStatsDto.Rankings rankings
+    ) {
+    }
+
+    private ResponseOrganizerConcertStatsDto.ConcertItem toConcertItem(
+            ResponseOrganizerConcertStatsRowDto row,
+            Instant now
+    ) {
+        int quantity = safeInt(row.ticketQuantity());
+        int sold = safeInt(row.ticketSold());
+        int available = Math.max(0, quantity - sold);
+
+        BigDecimal unitPrice = row.ticketUnitPrice() == null
+                ? BigDecimal.ZERO
+                : row.ticketUnitPrice().setScale(2, RoundingMode.HALF_UP);
+        BigDecimal revenue = unitPrice.multiply(BigDecimal.valueOf(sold)).setScale(2, RoundingMode.HALF_UP);
+        BigDecimal sellThrough = percent(sold, quantity);
+
+        Boolean isPublished = row.concertStatus() == ConcertStatus.PUBLISHED;
+        Boolean isPast = row.concertDate() == null ? null : row.concertDate().isBefore(now);
+        Long daysUntilConcert = row.concertDate() == null ? null : Duration.between(now, row.concertDate()).toDays();
+
+        return new ResponseOrganizerConcertStatsDto.ConcertItem(
+                row.concertId(),
+                row.concertTitle(),
+                row.concertArtist(),
+                row.concertCreatedAt(),
+                row.concertDate(),
+                row.concertStatus() == null ? null : row.concertStatus().name(),
+                row.placeName(),
+                row.placeAddress(),
+                row.placeZipCode(),
+                row.placeCity(),
+                row.placeCapacity(),
+                quantity,
+                sold,
+                available,
+                sellThrough,
+                revenue,
+                unitPrice,
+                isPublished,
+                isPast,
+                daysUntilConcert
+        );
+    }
+
+    private ResponseOrganizerConcertStatsDto.Overview buildOverview(
+            List<ResponseOrganizerConcertStatsDto.ConcertItem> concerts,
+            Instant now
+    ) {
+        int totalConcerts = concerts.size();
+        int published = (int) concerts.stream().filter(c -> "PUBLISHED".equals(c.concertStatus())).count();
+        int pending = (int) concerts.stream().filter(c -> "PENDING_VALIDATION".equals(c.concertStatus())).count();
+        int rejected = (int) concerts.stream().filter(c -> "REJECTED".equals(c.concertStatus())).count();
+        int upcoming = (int) concerts.stream()
+                .filter(c -> c.concertDate() != null && c.concertDate().isAfter(now))
+                .count();
+        int past = (int) concerts.stream()
+                .filter(c -> c.concertDate() != null && c.concertDate().isBefore(now))
+                .count();
+
+        int totalQty = concerts.stream().mapToInt(ResponseOrganizerConcertStatsDto.ConcertItem::ticketQuantity).sum();
+        int totalSold = concerts.stream().mapToInt(ResponseOrganizerConcertStatsDto.ConcertItem::ticketSold).sum();
+        int totalAvailable = Math.max(0, totalQty - totalSold);
+
+        BigDecimal grossRevenue = concerts.stream()
+                .map(ResponseOrganizerConcertStatsDto.ConcertItem::grossRevenue)
+                .reduce(BigDecimal.ZERO, BigDecimal::add)
+                .setScale(2, RoundingMode.HALF_UP);
+
+        BigDecimal globalSellThrough = percent(totalSold, totalQty);
+        BigDecimal averageConcertSellThrough = average(
+                concerts.stream().map(ResponseOrganizerConcertStatsDto.ConcertItem::sellThroughRatePct).toList()
+        );
+
+        BigDecimal averageTicketPrice = totalSold == 0
+                ? BigDecimal.ZERO.setScale(2, RoundingMode.HALF_UP)
+                : grossRevenue.divide(BigDecimal.valueOf(totalSold), 2, RoundingMode.HALF_UP);
+
+        BigDecimal averageRevenuePerConcert = totalConcerts == 0
+                ? BigDecimal.ZERO.setScale(2, RoundingMode.HALF_UP)
+                : grossRevenue.divide(BigDecimal.valueOf(totalConcerts), 2, RoundingMode.HALF_UP);
+
+        return new ResponseOrganizerConcertStatsDto.Overview(
+                totalConcerts,
+                published,
+                pending,
+                rejected,
+                upcoming,
+                past,
+                totalQty,
+                totalSold,
+                totalAvailable,
+                globalSellThrough,
+                averageConcertSellThrough,
+                grossRevenue,
+                averageTicketPrice,
+                averageRevenuePerConcert
+        );
+    }
+
+    private List<ResponseOrganizerConcertStatsDto.BreakdownItem> buildBreakdown(
+            List<ResponseOrganizerConcertStatsDto.ConcertItem> concerts,
+            Function<ResponseOrganizerConcertStatsDto.ConcertItem, String> keyFn,
+            Function<ResponseOrganizerConcertStatsDto.ConcertItem, String> labelFn
+    ) {
+        Map<String, BreakdownAccumulator> map = new LinkedHashMap<>();
+        for (ResponseOrganizerConcertStatsDto.ConcertItem item : concerts) {
+            String key = keyFn.apply(item);
+            String label = labelFn.apply(item);
+            map.computeIfAbsent(key, ignored -> new BreakdownAccumulator(label)).add(item);
+        }
+
+        int totalConcerts = concerts.size();
+
+        return map.entrySet().stream()
+                .map(entry -> {
+                    BreakdownAccumulator acc = entry.getValue();
+                    BigDecimal sharePct = percent(acc.concertCount, totalConcerts);
+                    BigDecimal sellThrough = percent(acc.ticketSold, acc.ticketQuantity);
+                    return new ResponseOrganizerConcertStatsDto.BreakdownItem(
+                            entry.getKey(),
+                            acc.label,
+                            acc.concertCount,
+                            acc.ticketQuantity,
+                            acc.ticketSold,
+                            Math.max(0, acc.ticketQuantity - acc.ticketSold),
+                            sellThrough,
+                            acc.grossRevenue.setScale(2, RoundingMode.HALF_UP),
+                            sharePct
+                    );
+                })
+                .sorted(Comparator.comparing(ResponseOrganizerConcertStatsDto.BreakdownItem::concertCount).reversed())
+                .toList();
+    }
+
+    private List<ResponseOrganizerConcertStatsDto.TimelinePoint> buildTimeline(
+            List<ResponseOrganizerConcertStatsDto.ConcertItem> concerts,
+            StatsGranularity granularity
+    ) {
+        Map<Instant, TimelineAccumulator> buckets = new TreeMap<>();
+        for (ResponseOrganizerConcertStatsDto.ConcertItem item : concerts) {
+            Instant source = item.concertCreatedAt() != null ? item.concertCreatedAt() : item.concertDate();
+            if (source == null) {
+                continue;
+            }
+            Instant bucketStart = bucketStart(source, granularity);
+            buckets.computeIfAbsent(bucketStart, ignored -> new TimelineAccumulator()).add(item);
+        }
+
+        return buckets.entrySet().stream()
+                .map(entry -> {
+                    Instant start = entry.getKey();
+                    Instant end = bucketEnd(start, granularity);
+                    String label = bucketLabel(start, granularity);
+                    TimelineAccumulator acc = entry.getValue();
+                    return new ResponseOrganizerConcertStatsDto.TimelinePoint(
+                            start,
+                            end,
+                            label,
+                            acc.concertsCreated,
+                            acc.ticketQuantity,
+                            acc.ticketSold,
+                            acc.grossRevenue.setScale(2, RoundingMode.HALF_UP)
+                    );
+                })
+                .toList();
+    }
+
+    private ResponseOrganizerConcertStatsDto.Rankings buildRankings(
+            List<ResponseOrganizerConcertStatsDto.ConcertItem> concerts,
+            int top
+    ) {
+        Comparator<ResponseOrganizerConcertStatsDto.ConcertItem> byRevenue =
+                Comparator.comparing(ResponseOrganizerConcertStatsDto.ConcertItem::grossRevenue).reversed();
+        Comparator<ResponseOrganizerConcertStatsDto.ConcertItem> bySellThrough =
+                Comparator.comparing(ResponseOrganizerConcertStatsDto.ConcertItem::sellThroughRatePct).reversed();
+        Comparator<ResponseOrganizerConcertStatsDto.ConcertItem> bySold =
+                Comparator.comparing(ResponseOrganizerConcertStatsDto.ConcertItem::ticketSold).reversed();
+
+        List<ResponseOrganizerConcertStatsDto.RankingItem> topByRevenue = concerts.stream()
+                .sorted(byRevenue)
+                .limit(top)
+                .map(this::toRanking)
+                .toList();
+        List<ResponseOrganizerConcertStatsDto.RankingItem> topBySellThrough = concerts.stream()
+                .sorted(bySellThrough)
+                .limit(top)
+                .map(this::toRanking)
+                .toList();
+        List<ResponseOrganizerConcertStatsDto.RankingItem> topByTicketsSold = concerts.stream()
+                .sorted(bySold)
+                .limit(top)
+                .map(this::toRanking)
+                .toList();
+        List<ResponseOrganizerConcertStatsDto.RankingItem> worstBySellThrough = concerts.stream()
+                .sorted(Comparator.comparing(ResponseOrganizerConcertStatsDto.ConcertItem::sellThroughRatePct))
+                .limit(top)
+                .map(this::toRanking)
+                .toList();
+
+        return new ResponseOrganizerConcertStatsDto.Rankings(
+                topByRevenue,
+                topBySellThrough,
+                topByTicketsSold,
+                worstBySellThrough
+        );
+    }
+
+    private ResponseOrganizerConcertStatsDto.RankingItem toRanking(ResponseOrganizerConcertStatsDto.ConcertItem item) {
+        return new ResponseOrganizerConcertStatsDto.RankingItem(
+                item.concertId(),
+                item.concertTitle(),
+                item.concertArtist(),
+                item.concertDate(),
+                item.concertStatus(),
+                item.ticketQuantity(),
+                item.ticketSold(),
+                item.sellThroughRatePct(),
+                item.grossRevenue()
+        );
+    }
+
+    private int safeInt(Long value) {
+        return value == null ? 0 : Math.toIntExact(value);
+    }
+
+    private BigDecimal average(List<BigDecimal> values) {
+        if (values == null || values.isEmpty()) {
+            return BigDecimal.ZERO.setScale(2, RoundingMode.HALF_UP);
+        }
+
+        BigDecimal sum = values.stream()
+                .filter(Objects::nonNull)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        return sum.divide(BigDecimal.valueOf(values.size()), 2, RoundingMode.HALF_UP);
+    }
+
+    private BigDecimal percent(int part, int total) {
+        if (total <= 0) {
+            return BigDecimal.ZERO.setScale(2, RoundingMode.HALF_UP);
+        }
+
+        return BigDecimal.valueOf(part)
+                .multiply(BigDecimal.valueOf(100))
+                .divide(BigDecimal.valueOf(total), 2, RoundingMode.HALF_UP);
+    }
+
+    private Instant bucketStart(Instant source, StatsGranularity granularity) {
+        ZonedDateTime zdt = source.atZone(ZoneOffset.UTC);
+        return switch (granularity) {
+            case DAY -> zdt.toLocalDate().atStartOfDay(ZoneOffset.UTC).toInstant();
+            case WEEK -> zdt.toLocalDate()
+                    .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                    .atStartOfDay(ZoneOffset.UTC)
+                    .toInstant();
+            case MONTH -> zdt.withDayOfMonth(1).toLocalDate().atStartOfDay(ZoneOffset.UTC).toInstant();
+        };
+    }
+
+    private Instant bucketEnd(Instant start, StatsGranularity granularity) {
+        ZonedDateTime zdt = start.atZone(ZoneOffset.UTC);
+        return switch (granularity) {
+            case DAY -> zdt.plusDays(1).toInstant();
+            case WEEK -> zdt.plusWeeks(1).toInstant();
+            case MONTH -> zdt.plusMonths(1).toInstant();
+        };
+    }
+
+    private String bucketLabel(Instant start, StatsGranularity granularity) {
+        ZonedDateTime zdt = start.atZone(ZoneOffset.UTC);
+        return switch (granularity) {
+            case DAY -> zdt.toLocalDate().toString();
+            case WEEK -> {
+                WeekFields weekFields = WeekFields.ISO;
+                int week = zdt.get(weekFields.weekOfWeekBasedYear());
+                int year = zdt.get(weekFields.weekBasedYear());
+                yield year + "-W" + String.format("%02d", week);
+            }
+            case MONTH -> String.format("%d-%02d", zdt.getYear(), zdt.getMonthValue());
+        };
+    }
+
+    private static final class BreakdownAccumulator {
+        private final String label;
+        private int concertCount;
+        private int ticketQuantity;
+        private int ticketSold;
+        private BigDecimal grossRevenue = BigDecimal.ZERO;
+
+        private BreakdownAccumulator(String label) {
+            this.label = label;
+        }
+
+        private void add(ResponseOrganizerConcertStatsDto.ConcertItem item) {
+            concertCount += 1;
+            ticketQuantity += item.ticketQuantity();
+            ticketSold += item.ticketSold();
+            grossRevenue = grossRevenue.add(item.grossRevenue());
+        }
+    }
+
+    private static final class TimelineAccumulator {
+        private int concertsCreated;
+        private int ticketQuantity;
+        private int ticketSold;
+        private BigDecimal grossRevenue = BigDecimal.ZERO;
+
+        private void add(ResponseOrganizerConcertStatsDto.ConcertItem item) {
+            concertsCreated += 1;
+            ticketQuantity += item.ticketQuantity();
+            ticketSold += item.ticketSold();
+            grossRevenue = grossRevenue.add(item.grossRevenue());
+        }
+    }
+}
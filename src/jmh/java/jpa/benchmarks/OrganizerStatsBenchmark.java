@@ -0,0 +1,117 @@
+package jpa.benchmarks;
+
+import jpa.dao.abstracts.OrganizerConcertStatsDao;
+import jpa.dao.abstracts.UserDao;
+import jpa.dto.concert.RequestOrganizerConcertStatsDto;
+import jpa.dto.concert.ResponseOrganizerConcertStatsDto;
+import jpa.dto.concert.ResponseOrganizerConcertStatsRowDto;
+import jpa.entities.Organizer;
+import jpa.entities.User;
+import jpa.enums.StatsGranularity;
+import jpa.services.impl.OrganizerConcertStatsServiceImpl;
+import jpa.services.stats.OrganizerStatsAccumulator;
+import jpa.services.stats.OrganizerStatsStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Organizer stats aggregation over synthetic rows.
+ *
+ * <p>{@code singlePass} and {@code multiPassBaseline} compute the same figures, the latter the
+ * way the service did before the single-pass accumulator. {@code service} is the whole endpoint
+ * computation from the materialized store, without HTTP or database.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrganizerStatsBenchmark {
+
+    private static final int TOP = 10;
+    private static final String ORGANIZER_EMAIL = "bench.organizer@sir.local";
+
+    @Param({"10000", "100000"})
+    public int rows;
+
+    private List<ResponseOrganizerConcertStatsRowDto> statsRows;
+    private Instant now;
+    private MultiPassStatsBaseline baseline;
+    private OrganizerConcertStatsServiceImpl service;
+    private RequestOrganizerConcertStatsDto request;
+
+    @Setup
+    public void setUp() {
+        statsRows = SyntheticStatsRows.generate(rows);
+        now = Instant.parse("2025-01-01T00:00:00Z");
+        baseline = new MultiPassStatsBaseline();
+
+        Organizer organizer = new Organizer();
+        organizer.setId(UUID.randomUUID());
+        organizer.setEmail(ORGANIZER_EMAIL);
+        UserDao userDao = new UserDao() {
+            @Override
+            public Optional<User> findByEmail(String email) {
+                return Optional.of(organizer);
+            }
+
+            @Override
+            public int normalizeStoredEmails() {
+                return 0;
+            }
+        };
+        OrganizerConcertStatsDao statsDao = new OrganizerConcertStatsDao() {
+            @Override
+            public List<ResponseOrganizerConcertStatsRowDto> findOrganizerConcertStatsRows(
+                    UUID organizerId,
+                    Instant fromInclusive,
+                    Instant toInclusive
+            ) {
+                return statsRows;
+            }
+        };
+        service = new OrganizerConcertStatsServiceImpl(statsDao, userDao, new OrganizerStatsStore());
+        request = new RequestOrganizerConcertStatsDto(null, null, StatsGranularity.WEEK, TOP, true);
+        // Loads the store once: measured calls are served from the rollup.
+        service.getOrganizerConcertStats(ORGANIZER_EMAIL, request);
+    }
+
+    @Benchmark
+    public void singlePass(Blackhole blackhole) {
+        OrganizerStatsAccumulator accumulator = new OrganizerStatsAccumulator(now, StatsGranularity.WEEK, TOP);
+        statsRows.forEach(accumulator::add);
+        blackhole.consume(accumulator.overview());
+        blackhole.consume(accumulator.statusBreakdown());
+        blackhole.consume(accumulator.cityBreakdown());
+        blackhole.consume(accumulator.placeBreakdown());
+        blackhole.consume(accumulator.timeline());
+        blackhole.consume(accumulator.rankings());
+    }
+
+    @Benchmark
+    public MultiPassStatsBaseline.Result multiPassBaseline() {
+        return baseline.aggregate(statsRows, now, StatsGranularity.WEEK, TOP);
+    }
+
+    @Benchmark
+    public ResponseOrganizerConcertStatsDto service() {
+        return service.getOrganizerConcertStats(ORGANIZER_EMAIL, request);
+    }
+}
@@ -0,0 +1,96 @@
+package jpa.benchmarks;
+
+import jpa.dto.security.AccessTokenClaimsDto;
+import jpa.entities.Customer;
+import jpa.security.PasswordHasher;
+import jpa.security.impl.AccessTokenServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Access token signing/verification and password hashing.
+ *
+ * <p>{@code verifyAccessTokenCached} hits the verified-token cache; {@code verifyAccessTokenUncached}
+ * alternates two tokens on a single-entry cache, so every call runs the HMAC and JSON parsing.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SecurityBenchmark {
+
+    private static final String SIGNING_KEY = "benchmark-signing-key-0123456789-abcdefgh";
+    private static final String PASSWORD = "correct horse battery staple";
+
+    private AccessTokenServiceImpl cachingService;
+    private AccessTokenServiceImpl nonCachingService;
+    private Customer customer;
+    private Instant issuedAt;
+    private Instant expiresAt;
+    private String token;
+    private String[] alternatingTokens;
+    private int next;
+    private String storedHash;
+
+    @Setup
+    public void setUp() {
+        cachingService = new AccessTokenServiceImpl(SIGNING_KEY, 900L, 604_800L, 10_000);
+        nonCachingService = new AccessTokenServiceImpl(SIGNING_KEY, 900L, 604_800L, 1);
+
+        customer = new Customer();
+        customer.setId(UUID.randomUUID());
+        customer.setEmail("bench.customer@sir.local");
+        issuedAt = Instant.now();
+        // Far enough for the tokens to stay valid during the whole run.
+        expiresAt = issuedAt.plusSeconds(86_400L);
+
+        token = cachingService.createAccessToken(customer, "ROLE_CUSTOMER", issuedAt, expiresAt);
+        alternatingTokens = new String[]{
+                token,
+                nonCachingService.createAccessToken(customer, "ROLE_CUSTOMER", issuedAt, expiresAt.plusSeconds(1L))
+        };
+        storedHash = PasswordHasher.hash(PASSWORD);
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return cachingService.createAccessToken(customer, "ROLE_CUSTOMER", issuedAt, expiresAt);
+    }
+
+    @Benchmark
+    public AccessTokenClaimsDto verifyAccessTokenCached() {
+        return cachingService.verifyAccessToken(token);
+    }
+
+    @Benchmark
+    public AccessTokenClaimsDto verifyAccessTokenUncached() {
+        next ^= 1;
+        return nonCachingService.verifyAccessToken(alternatingTokens[next]);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public String passwordHash() {
+        return PasswordHasher.hash(PASSWORD);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public boolean passwordMatches() {
+        return PasswordHasher.matches(PASSWORD, storedHash);
+    }
+}
@@ -0,0 +1,57 @@
+package jpa.benchmarks;
+
+import jpa.dto.concert.ResponseOrganizerConcertStatsRowDto;
+import jpa.enums.ConcertStatus;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic organizer stats rows shaped like the stats query output.
+ */
+final class SyntheticStatsRows {
+
+    private static final Instant BASE = Instant.parse("2024-01-01T00:00:00Z");
+    private static final String[] CITIES = {"Paris", "Lyon", "Marseille", "Nantes", "Rennes", "Lille", "Bordeaux"};
+    private static final ConcertStatus[] STATUSES = ConcertStatus.values();
+
+    private SyntheticStatsRows() {}
+
+    /**
+     * Generates rows ordered by creation date, newest first.
+     *
+     * @param count number of rows
+     * @return rows
+     */
+    static List<ResponseOrganizerConcertStatsRowDto> generate(int count) {
+        Random random = new Random(42L);
+        List<ResponseOrganizerConcertStatsRowDto> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long quantity = 50L + random.nextInt(950);
+            String city = CITIES[random.nextInt(CITIES.length)];
+            rows.add(new ResponseOrganizerConcertStatsRowDto(
+                    new UUID(random.nextLong(), random.nextLong()),
+                    "Concert " + i,
+                    "Artist " + random.nextInt(500),
+                    BASE.plusSeconds(random.nextInt(730 * 86_400)),
+                    BASE.plusSeconds(random.nextInt(1_460 * 86_400)),
+                    STATUSES[random.nextInt(STATUSES.length)],
+                    city + " Arena " + random.nextInt(20),
+                    random.nextInt(200) + " rue de la Musique",
+                    10_000 + random.nextInt(85_000),
+                    city,
+                    (int) quantity + random.nextInt(500),
+                    quantity,
+                    (long) random.nextInt((int) quantity + 1),
+                    BigDecimal.valueOf(1_000 + random.nextInt(9_000), 2)
+            ));
+        }
+        rows.sort(Comparator.comparing(ResponseOrganizerConcertStatsRowDto::concertCreatedAt).reversed());
+        return rows;
+    }
+}
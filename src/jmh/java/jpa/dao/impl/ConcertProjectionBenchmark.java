@@ -0,0 +1,102 @@
+package jpa.dao.impl;
+
+import jpa.enums.ConcertStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping of JPQL tuple rows to response DTOs, for 1000 rows per operation.
+ *
+ * <p>Lives in the DAO package to reach the package-private projection methods of
+ * {@link ConcertDaoImpl}.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConcertProjectionBenchmark {
+
+    private static final int ROWS = 1_000;
+
+    private ConcertDaoImpl concertDao;
+    private List<Object[]> concertPlaceRows;
+    private List<Object[]> pendingDetailsRows;
+    private List<Object[]> organizerConcertRows;
+    private List<Object[]> moderationRows;
+
+    @Setup
+    public void setUp() {
+        concertDao = new ConcertDaoImpl(50, 100);
+        concertPlaceRows = new ArrayList<>(ROWS);
+        pendingDetailsRows = new ArrayList<>(ROWS);
+        organizerConcertRows = new ArrayList<>(ROWS);
+        moderationRows = new ArrayList<>(ROWS);
+
+        Instant now = Instant.parse("2025-01-01T00:00:00Z");
+        for (int i = 0; i < ROWS; i++) {
+            UUID id = UUID.randomUUID();
+            Instant date = now.plusSeconds(i * 3_600L);
+            concertPlaceRows.add(new Object[]{
+                    id, "Concert " + i, "Artist", date, "Zenith", "1 rue", 75019, "Paris", 6_000, 120L,
+                    BigDecimal.valueOf(4_550, 2)
+            });
+            pendingDetailsRows.add(new Object[]{
+                    id, "Concert " + i, "Artist", date, ConcertStatus.PENDING_VALIDATION,
+                    UUID.randomUUID(), null, UUID.randomUUID(), now, now
+            });
+            organizerConcertRows.add(new Object[]{
+                    "Concert " + i, "Artist", now, date, ConcertStatus.PUBLISHED, "1 rue", 75019, "Paris", 6_000,
+                    40, 500
+            });
+            moderationRows.add(new Object[]{
+                    id, "Concert " + i, "Artist", now, date, "1 rue", 75019, "Paris", 6_000, 500, "Ada", "Lovelace"
+            });
+        }
+    }
+
+    @Benchmark
+    public void concertPlaceProjection(Blackhole blackhole) {
+        for (Object[] row : concertPlaceRows) {
+            blackhole.consume(concertDao.toConcertPlaceProjection(row));
+        }
+    }
+
+    @Benchmark
+    public void pendingConcertDetailsProjection(Blackhole blackhole) {
+        for (Object[] row : pendingDetailsRows) {
+            blackhole.consume(concertDao.toPendingConcertDetailsProjection(row));
+        }
+    }
+
+    @Benchmark
+    public void organizerConcertProjection(Blackhole blackhole) {
+        for (Object[] row : organizerConcertRows) {
+            blackhole.consume(concertDao.toOrganizerConcertProjection(row));
+        }
+    }
+
+    @Benchmark
+    public void adminConcertModerationProjection(Blackhole blackhole) {
+        for (Object[] row : moderationRows) {
+            blackhole.consume(concertDao.toAdminConcertModerationProjection(row));
+        }
+    }
+}
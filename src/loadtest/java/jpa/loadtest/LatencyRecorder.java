@@ -0,0 +1,133 @@
+package jpa.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Latencies and status codes of one endpoint during one scenario.
+ *
+ * <p>Each client thread owns its recorder; recorders are merged once the scenario is over,
+ * so recording needs no synchronization.</p>
+ */
+final class LatencyRecorder {
+
+    /**
+     * Status recorded for requests that failed before a response was received.
+     */
+    static final int TRANSPORT_ERROR = -1;
+
+    private long[] latenciesNanos = new long[1024];
+    private int count;
+    private final Map<Integer, Long> statusCounts = new TreeMap<>();
+
+    /**
+     * Records one request.
+     *
+     * @param status HTTP status, or {@link #TRANSPORT_ERROR}
+     * @param latencyNanos time from sending to receiving the whole body
+     */
+    void record(int status, long latencyNanos) {
+        if (count == latenciesNanos.length) {
+            latenciesNanos = Arrays.copyOf(latenciesNanos, count * 2);
+        }
+        latenciesNanos[count++] = latencyNanos;
+        statusCounts.merge(status, 1L, Long::sum);
+    }
+
+    /**
+     * Adds the requests of another recorder to this one.
+     *
+     * @param other recorder of another thread
+     */
+    void merge(LatencyRecorder other) {
+        for (int i = 0; i < other.count; i++) {
+            if (count == latenciesNanos.length) {
+                latenciesNanos = Arrays.copyOf(latenciesNanos, Math.max(count * 2, count + other.count));
+            }
+            latenciesNanos[count++] = other.latenciesNanos[i];
+        }
+        other.statusCounts.forEach((status, n) -> statusCounts.merge(status, n, Long::sum));
+    }
+
+    /**
+     * Summarizes the recorded requests.
+     *
+     * @param scenario scenario name
+     * @param endpoint endpoint label
+     * @param elapsedSeconds measured scenario duration
+     * @return summary with throughput and percentiles
+     */
+    EndpointResult summarize(String scenario, String endpoint, double elapsedSeconds) {
+        long[] sorted = Arrays.copyOf(latenciesNanos, count);
+        Arrays.sort(sorted);
+        long failed = statusCounts.entrySet().stream()
+                .filter(entry -> isFailure(entry.getKey()))
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+        Map<String, Long> statuses = new TreeMap<>();
+        statusCounts.forEach((status, n) -> statuses.put(status == TRANSPORT_ERROR ? "transport-error" : status.toString(), n));
+
+        return new EndpointResult(
+                scenario,
+                endpoint,
+                count,
+                elapsedSeconds <= 0 ? 0 : count / elapsedSeconds,
+                millis(percentile(sorted, 50)),
+                millis(percentile(sorted, 90)),
+                millis(percentile(sorted, 99)),
+                millis(count == 0 ? 0 : sorted[count - 1]),
+                count == 0 ? 0 : (double) failed / count,
+                statuses
+        );
+    }
+
+    /**
+     * Transport failures and server errors fail a request; 503 is the server shedding load by
+     * design, and 4xx are expected outcomes such as a sold-out concert.
+     */
+    private static boolean isFailure(int status) {
+        return status == TRANSPORT_ERROR || (status >= 500 && status != 503);
+    }
+
+    private static long percentile(long[] sorted, int percent) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        // Nearest-rank percentile.
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+
+    /**
+     * Figures of one endpoint, serialized as-is in the JSON report.
+     *
+     * @param scenario scenario name
+     * @param endpoint endpoint label
+     * @param requests completed requests
+     * @param throughputPerSecond requests per second
+     * @param p50Ms median latency
+     * @param p90Ms 90th percentile latency
+     * @param p99Ms 99th percentile latency
+     * @param maxMs slowest request
+     * @param errorRate share of transport failures and 5xx other than 503
+     * @param statuses request count per status
+     */
+    record EndpointResult(
+            String scenario,
+            String endpoint,
+            long requests,
+            double throughputPerSecond,
+            double p50Ms,
+            double p90Ms,
+            double p99Ms,
+            double maxMs,
+            double errorRate,
+            Map<String, Long> statuses
+    ) {
+    }
+}
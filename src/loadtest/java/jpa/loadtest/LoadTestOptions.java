@@ -0,0 +1,85 @@
+package jpa.loadtest;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Load test parameters, read from {@code --name=value} arguments.
+ *
+ * @param port HTTP port of the embedded server
+ * @param customers customer accounts seeded and logged in
+ * @param concerts concerts seeded for the organizer, in mixed workflow statuses
+ * @param ticketsPerConcert tickets of each seeded concert
+ * @param onSaleTickets tickets of the concert hit by the purchase storm
+ * @param threads concurrent client threads per scenario
+ * @param durationSeconds measured duration of each scenario
+ * @param warmupSeconds unmeasured duration run before each scenario
+ * @param maxP99Millis regression gate on every endpoint p99, {@code 0} to disable
+ * @param maxErrorRate regression gate on the share of failed requests
+ * @param output JSON report file
+ */
+record LoadTestOptions(
+        int port,
+        int customers,
+        int concerts,
+        int ticketsPerConcert,
+        int onSaleTickets,
+        int threads,
+        int durationSeconds,
+        int warmupSeconds,
+        long maxP99Millis,
+        double maxErrorRate,
+        Path output
+) {
+
+    private static final Set<String> KNOWN = Set.of(
+            "port", "customers", "concerts", "tickets-per-concert", "on-sale-tickets", "threads",
+            "duration-seconds", "warmup-seconds", "max-p99-ms", "max-error-rate", "output"
+    );
+
+    /**
+     * Parses the command-line arguments.
+     *
+     * @param args {@code --name=value} pairs
+     * @return options, defaults for missing values
+     * @throws IllegalArgumentException when an argument is unknown or malformed
+     */
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0 || !KNOWN.contains(arg.substring(2, separator))) {
+                throw new IllegalArgumentException("unknown load test argument: " + arg + ", expected --name=value among " + KNOWN);
+            }
+            values.put(arg.substring(2, separator), arg.substring(separator + 1).trim());
+        }
+
+        return new LoadTestOptions(
+                positiveInt(values, "port", 18081),
+                positiveInt(values, "customers", 50),
+                positiveInt(values, "concerts", 200),
+                positiveInt(values, "tickets-per-concert", 100),
+                positiveInt(values, "on-sale-tickets", 20_000),
+                positiveInt(values, "threads", 32),
+                positiveInt(values, "duration-seconds", 20),
+                Integer.parseInt(values.getOrDefault("warmup-seconds", "5")),
+                Long.parseLong(values.getOrDefault("max-p99-ms", "0")),
+                Double.parseDouble(values.getOrDefault("max-error-rate", "0.01")),
+                Path.of(values.getOrDefault("output", "target/loadtest-result.json"))
+        );
+    }
+
+    private static int positiveInt(Map<String, String> values, String name, int defaultValue) {
+        String raw = values.get(name);
+        if (raw == null) {
+            return defaultValue;
+        }
+        int value = Integer.parseInt(raw);
+        if (value <= 0) {
+            throw new IllegalArgumentException(name + " must be > 0");
+        }
+        return value;
+    }
+}
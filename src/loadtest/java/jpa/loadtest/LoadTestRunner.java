@@ -0,0 +1,339 @@
+package jpa.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jpa.RestServer;
+import jpa.config.ServerConfig;
+import jpa.config.ServerConfig.Listener;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Offline load test of the REST API.
+ *
+ * <p>Boots {@link RestServer} in-process against an in-memory HSQLDB database, seeds it with
+ * {@link LoadTestSeeder}, then runs each scenario with a fixed number of closed-loop clients
+ * and reports throughput and latency percentiles per endpoint. The process exits with status
+ * {@code 1} when a regression gate is exceeded, so it can fail a build.</p>
+ */
+public final class LoadTestRunner {
+
+    private static final Logger logger = Logger.getLogger(LoadTestRunner.class.getName());
+    private static final String SIGNING_KEY = "loadtest-signing-key-0123456789abcdefghijklmnop";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final String OPEN_ENTITY_MANAGERS_METRIC = "jpa_entity_managers_open";
+    private static final int ENTITY_MANAGER_CHECK_ATTEMPTS = 20;
+    private static final Duration ENTITY_MANAGER_CHECK_INTERVAL = Duration.ofMillis(100);
+
+    private final LoadTestOptions options;
+    private final HttpClient client;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private URI baseUri;
+
+    private LoadTestRunner(LoadTestOptions options) {
+        this.options = options;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    /**
+     * Runs the load test.
+     *
+     * @param args {@code --name=value} options, see {@link LoadTestOptions}
+     * @throws Exception when the server cannot be started or the report cannot be written
+     */
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        configureServer(options);
+        // Request logs of every call would dominate the measurements.
+        Logger.getLogger("").setLevel(Level.WARNING);
+        logger.setLevel(Level.INFO);
+
+        boolean passed;
+        LoadTestSeeder.SeededData seeded = LoadTestSeeder.seed(options);
+        try (RestServer.Running server = RestServer.start()) {
+            Listener listener = server.listeners().get(0);
+            LoadTestRunner runner = new LoadTestRunner(options);
+            runner.baseUri = URI.create("http://" + listener.host() + ":" + listener.port());
+            passed = runner.run(seeded);
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    /**
+     * Points the server at a private in-memory database before anything reads the configuration.
+     */
+    private static void configureServer(LoadTestOptions options) {
+        setIfAbsent("app.db.url", "jdbc:hsqldb:mem:loadtest-" + UUID.randomUUID());
+        setIfAbsent("app.auth.jwt.signing.key", SIGNING_KEY);
+        setIfAbsent("app.admin.registration.key", SIGNING_KEY);
+        setIfAbsent("app.db.show-sql", "false");
+        // A route going over its SQL statement budget fails, and the error-rate gate with it.
+        setIfAbsent("app.metrics.statement-budget.mode", "fail");
+        setIfAbsent("app.server.host", "127.0.0.1");
+        System.setProperty("app.server.port", Integer.toString(options.port()));
+        System.clearProperty("app.server.listeners");
+    }
+
+    private static void setIfAbsent(String name, String value) {
+        if (System.getProperty(name) == null) {
+            System.setProperty(name, value);
+        }
+    }
+
+    private boolean run(LoadTestSeeder.SeededData seeded) throws Exception {
+        List<String> customerTokens = new ArrayList<>();
+        for (String email : seeded.customerEmails()) {
+            customerTokens.add(login(email));
+        }
+        String organizerToken = login(LoadTestSeeder.ORGANIZER_EMAIL);
+        String purchaseBody = "{\"concertId\":\"" + seeded.onSaleConcertId() + "\",\"quantity\":1}";
+
+        List<LatencyRecorder.EndpointResult> results = new ArrayList<>();
+        results.addAll(runScenario("purchase-storm", List.of(
+                new Call("POST /tickets/purchase", () -> post(
+                        "/tickets/purchase", purchaseBody, pick(customerTokens)))
+        )));
+        results.addAll(runScenario("catalogue-browsing", List.of(
+                new Call("GET /concerts/public", () -> get("/concerts/public", null)),
+                new Call("GET /concerts/public/places", () -> get("/concerts/public/places", null)),
+                new Call("GET /concerts/public?limit=20", () -> get("/concerts/public?limit=20", null)),
+                new Call("GET /places/all", () -> get("/places/all", null))
+        )));
+        results.addAll(runScenario("login-burst", List.of(
+                new Call("POST /auth/login", () -> post(
+                        "/auth/login", credentials(pick(seeded.customerEmails())), null))
+        )));
+        results.addAll(runScenario("organizer-stats", List.of(
+                new Call("GET /stats/me/concerts", () -> get("/stats/me/concerts", organizerToken)),
+                new Call("GET /stats/me/concerts?granularity=WEEK&top=5", () -> get(
+                        "/stats/me/concerts?granularity=WEEK&top=5&includeConcerts=false", organizerToken))
+        )));
+
+        printTable(results);
+        long openEntityManagers = awaitEntityManagersClosed();
+        List<String> violations = checkGates(results);
+        if (openEntityManagers > 0) {
+            violations.add(openEntityManagers + " thread-bound entity managers still open after the run");
+        }
+        writeReport(results, openEntityManagers, violations);
+        violations.forEach(violation -> logger.severe("Load test gate exceeded: " + violation));
+        return violations.isEmpty();
+    }
+
+    /**
+     * Request of a scenario, picked uniformly at random by each client on every iteration.
+     *
+     * @param endpoint label reported for the request
+     * @param request sends the request and returns its status
+     */
+    private record Call(String endpoint, CallAction request) {}
+
+    @FunctionalInterface
+    private interface CallAction {
+        int send() throws IOException, InterruptedException;
+    }
+
+    private List<LatencyRecorder.EndpointResult> runScenario(String scenario, List<Call> calls) throws Exception {
+        logger.info(() -> "Running scenario " + scenario + " with " + options.threads() + " clients");
+        if (options.warmupSeconds() > 0) {
+            drive(calls, Duration.ofSeconds(options.warmupSeconds()));
+        }
+
+        long start = System.nanoTime();
+        List<Map<String, LatencyRecorder>> perThread = drive(calls, Duration.ofSeconds(options.durationSeconds()));
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        Map<String, LatencyRecorder> merged = new LinkedHashMap<>();
+        calls.forEach(call -> merged.put(call.endpoint(), new LatencyRecorder()));
+        perThread.forEach(recorders -> recorders.forEach((endpoint, recorder) -> merged.get(endpoint).merge(recorder)));
+
+        List<LatencyRecorder.EndpointResult> results = new ArrayList<>();
+        merged.forEach((endpoint, recorder) -> results.add(recorder.summarize(scenario, endpoint, elapsedSeconds)));
+        return results;
+    }
+
+    private List<Map<String, LatencyRecorder>> drive(List<Call> calls, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService clients = Executors.newFixedThreadPool(options.threads());
+        try {
+            List<Future<Map<String, LatencyRecorder>>> futures = new ArrayList<>();
+            for (int i = 0; i < options.threads(); i++) {
+                futures.add(clients.submit(() -> {
+                    Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+                    calls.forEach(call -> recorders.put(call.endpoint(), new LatencyRecorder()));
+                    while (System.nanoTime() < deadline) {
+                        Call call = pick(calls);
+                        long sent = System.nanoTime();
+                        int status;
+                        try {
+                            status = call.request().send();
+                        } catch (IOException e) {
+                            status = LatencyRecorder.TRANSPORT_ERROR;
+                        }
+                        recorders.get(call.endpoint()).record(status, System.nanoTime() - sent);
+                    }
+                    return recorders;
+                }));
+            }
+            List<Map<String, LatencyRecorder>> recorders = new ArrayList<>();
+            for (Future<Map<String, LatencyRecorder>> future : futures) {
+                recorders.add(future.get());
+            }
+            return recorders;
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    /**
+     * Reads the open entity manager gauge until it drops to zero, as a request thread that never
+     * closes its entity manager leaks one per request.
+     *
+     * @return entity managers still open, {@code 0} when every request released its own
+     */
+    private long awaitEntityManagersClosed() throws IOException, InterruptedException {
+        long open = 0;
+        for (int attempt = 0; attempt < ENTITY_MANAGER_CHECK_ATTEMPTS; attempt++) {
+            // A maintenance job may briefly hold one on its own thread.
+            open = readOpenEntityManagers();
+            if (open == 0) {
+                return 0;
+            }
+            Thread.sleep(ENTITY_MANAGER_CHECK_INTERVAL.toMillis());
+        }
+        return open;
+    }
+
+    private long readOpenEntityManagers() throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(
+                request("/metrics", null).setHeader("Accept", "text/plain").GET().build(),
+                HttpResponse.BodyHandlers.ofString()
+        );
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET /metrics failed with HTTP " + response.statusCode());
+        }
+        for (String line : response.body().split("\n")) {
+            if (line.startsWith(OPEN_ENTITY_MANAGERS_METRIC + " ")) {
+                return (long) Double.parseDouble(line.substring(OPEN_ENTITY_MANAGERS_METRIC.length() + 1).trim());
+            }
+        }
+        throw new IllegalStateException(OPEN_ENTITY_MANAGERS_METRIC + " missing from GET /metrics");
+    }
+
+    private String login(String email) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(
+                request("/auth/login", null)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(credentials(email)))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString()
+        );
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("login of " + email + " failed with HTTP " + response.statusCode());
+        }
+        JsonNode body = mapper.readTree(response.body());
+        return body.get("accessToken").asText();
+    }
+
+    private int get(String path, String token) throws IOException, InterruptedException {
+        return client.send(request(path, token).GET().build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private int post(String path, String json, String token) throws IOException, InterruptedException {
+        HttpRequest request = request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private static String credentials(String email) {
+        return "{\"email\":\"" + email + "\",\"password\":\"" + LoadTestSeeder.PASSWORD + "\"}";
+    }
+
+    private static <T> T pick(List<T> values) {
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+
+    private List<String> checkGates(List<LatencyRecorder.EndpointResult> results) {
+        List<String> violations = new ArrayList<>();
+        for (LatencyRecorder.EndpointResult result : results) {
+            if (result.requests() == 0) {
+                violations.add(result.endpoint() + " completed no request");
+            }
+            if (result.errorRate() > options.maxErrorRate()) {
+                violations.add(result.endpoint() + " error rate " + result.errorRate()
+                        + " > " + options.maxErrorRate());
+            }
+            if (options.maxP99Millis() > 0 && result.p99Ms() > options.maxP99Millis()) {
+                violations.add(result.endpoint() + " p99 " + result.p99Ms() + " ms > " + options.maxP99Millis() + " ms");
+            }
+        }
+        return violations;
+    }
+
+    private static void printTable(List<LatencyRecorder.EndpointResult> results) {
+        StringBuilder table = new StringBuilder(System.lineSeparator());
+        table.append(String.format("%-20s %-48s %9s %9s %9s %9s %9s %9s %7s%n",
+                "scenario", "endpoint", "requests", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms", "errors"));
+        for (LatencyRecorder.EndpointResult r : results) {
+            table.append(String.format("%-20s %-48s %9d %9.1f %9.2f %9.2f %9.2f %9.2f %6.2f%%  %s%n",
+                    r.scenario(), r.endpoint(), r.requests(), r.throughputPerSecond(),
+                    r.p50Ms(), r.p90Ms(), r.p99Ms(), r.maxMs(), r.errorRate() * 100, r.statuses()));
+        }
+        System.out.print(table);
+    }
+
+    private void writeReport(
+            List<LatencyRecorder.EndpointResult> results,
+            long openEntityManagers,
+            List<String> violations
+    ) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("generatedAt", Instant.now().toString());
+        report.put("javaVersion", Runtime.version().toString());
+        report.put("executionMode", ServerConfig.resolveExecutionMode().name());
+        report.put("options", options.toString());
+        report.put("results", results);
+        report.put("entityManagersOpenAfterRun", openEntityManagers);
+        report.put("gateViolations", violations);
+
+        if (options.output().getParent() != null) {
+            Files.createDirectories(options.output().getParent());
+        }
+        mapper.enable(SerializationFeature.INDENT_OUTPUT).writeValue(options.output().toFile(), report);
+        logger.info(() -> "Load test report written to " + options.output().toAbsolutePath());
+    }
+}
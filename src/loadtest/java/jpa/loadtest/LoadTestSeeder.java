@@ -0,0 +1,151 @@
+package jpa.loadtest;
+
+import jpa.config.ReferenceDataInitializer;
+import jpa.dao.generic.EntityManagerHelper;
+import jpa.dao.impl.ConcertDaoImpl;
+import jpa.dao.impl.CustomerDaoImpl;
+import jpa.dao.impl.OrganizerDaoImpl;
+import jpa.dao.impl.PlaceDaoImpl;
+import jpa.entities.Concert;
+import jpa.entities.Customer;
+import jpa.entities.Organizer;
+import jpa.entities.Place;
+import jpa.entities.Ticket;
+import jpa.enums.ConcertStatus;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * Seeds the in-memory database with the load test data set, in the style of
+ * {@link ReferenceDataInitializer}: reference places, one organizer owning every concert,
+ * customers, and a large published concert for the purchase storm.
+ */
+final class LoadTestSeeder {
+
+    static final String PASSWORD = "loadtest-password";
+    static final String ORGANIZER_EMAIL = "loadtest.organizer@sir.local";
+
+    private static final BigDecimal[] PRICES = {
+            new BigDecimal("19.90"), new BigDecimal("29.90"), new BigDecimal("45.00"), new BigDecimal("59.90")
+    };
+
+    private LoadTestSeeder() {}
+
+    /**
+     * Seeded identifiers the scenarios need.
+     *
+     * @param onSaleConcertId concert of the purchase storm
+     * @param customerEmails seeded customer emails
+     */
+    record SeededData(UUID onSaleConcertId, List<String> customerEmails) {}
+
+    /**
+     * Inserts the data set. Must run before the server starts so the inventory is rehydrated from it.
+     *
+     * @param options load test parameters
+     * @return seeded identifiers
+     */
+    static SeededData seed(LoadTestOptions options) {
+        ReferenceDataInitializer.seedPlacesIfEmpty();
+        List<Place> places = new PlaceDaoImpl().findAll();
+
+        Organizer organizer = new Organizer();
+        organizer.setEmail(ORGANIZER_EMAIL);
+        organizer.setPassword(PASSWORD);
+        organizer.setFirstName("Load");
+        organizer.setLastName("Organizer");
+        new OrganizerDaoImpl().save(organizer);
+
+        ConcertDaoImpl concertDao = new ConcertDaoImpl();
+        Instant firstDate = Instant.now().plus(30, ChronoUnit.DAYS).truncatedTo(ChronoUnit.MINUTES);
+        for (int i = 0; i < options.concerts(); i++) {
+            // Mostly published, with pending and rejected ones for the stats breakdowns.
+            ConcertStatus status = i % 10 == 8
+                    ? ConcertStatus.PENDING_VALIDATION
+                    : i % 10 == 9 ? ConcertStatus.REJECTED : ConcertStatus.PUBLISHED;
+            concertDao.saveWithTickets(newConcert(
+                    "Load concert " + i,
+                    firstDate.plus(i, ChronoUnit.HOURS),
+                    status,
+                    organizer,
+                    places.get(i % places.size()),
+                    options.ticketsPerConcert(),
+                    PRICES[i % PRICES.length]
+            ));
+        }
+
+        Concert onSale = newConcert(
+                "On-sale concert",
+                firstDate.minus(1, ChronoUnit.DAYS),
+                ConcertStatus.PUBLISHED,
+                organizer,
+                places.get(0),
+                options.onSaleTickets(),
+                PRICES[2]
+        );
+        concertDao.saveWithTickets(onSale);
+
+        // PBKDF2 dominates customer creation: hash in parallel, insert sequentially.
+        List<Customer> customers = IntStream.range(0, options.customers())
+                .parallel()
+                .mapToObj(LoadTestSeeder::newCustomer)
+                .toList();
+        CustomerDaoImpl customerDao = new CustomerDaoImpl();
+        List<String> emails = new ArrayList<>(customers.size());
+        for (Customer customer : customers) {
+            customerDao.save(customer);
+            emails.add(customer.getEmail());
+        }
+
+        EntityManagerHelper.closeEntityManager();
+        return new SeededData(onSale.getId(), List.copyOf(emails));
+    }
+
+    private static Concert newConcert(
+            String title,
+            Instant date,
+            ConcertStatus status,
+            Organizer organizer,
+            Place place,
+            int quantity,
+            BigDecimal unitPrice
+    ) {
+        Concert concert = new Concert();
+        concert.setTitle(title);
+        concert.setArtist("Load Test Band");
+        concert.setDate(date);
+        concert.setStatus(status);
+        concert.setOrganizer(organizer);
+        concert.setPlace(place);
+        concert.setTicketQuantity(quantity);
+        concert.setTicketSold(0);
+        concert.setUnitPrice(unitPrice);
+
+        List<Ticket> tickets = new ArrayList<>(quantity);
+        for (int i = 0; i < quantity; i++) {
+            Ticket ticket = new Ticket();
+            ticket.setConcert(concert);
+            ticket.setPrice(unitPrice);
+            ticket.setBarcode(UUID.randomUUID().toString().replace("-", "").toUpperCase(Locale.ROOT));
+            tickets.add(ticket);
+        }
+        concert.setTickets(tickets);
+        return concert;
+    }
+
+    private static Customer newCustomer(int index) {
+        Customer customer = new Customer();
+        customer.setEmail("loadtest.customer" + index + "@sir.local");
+        customer.setPassword(PASSWORD);
+        customer.setFirstName("Load");
+        customer.setLastName("Customer " + index);
+        return customer;
+    }
+}
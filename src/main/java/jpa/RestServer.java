@@ -1,11 +1,27 @@
 package jpa;
 
 import io.undertow.Undertow;
+import io.undertow.UndertowOptions;
+import io.undertow.servlet.Servlets;
+import io.undertow.servlet.api.DeploymentInfo;
+import org.jboss.resteasy.core.ResteasyDeploymentImpl;
 import org.jboss.resteasy.plugins.server.undertow.UndertowJaxrsServer;
+import org.jboss.resteasy.spi.ResteasyDeployment;
+import jpa.config.EntityManagerRequestListener;
+import jpa.config.Instance;
+import jpa.config.MaintenanceScheduler;
 import jpa.config.ReferenceDataInitializer;
+import jpa.config.ServerConfig;
+import jpa.config.ServerConfig.ExecutionMode;
+import jpa.config.ServerConfig.Listener;
+import jpa.config.UserEmailMigration;
+import jpa.dao.generic.EntityManagerHelper;
+import org.xnio.Options;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.logging.Level;
 import java.util.logging.LogManager;
 import java.util.logging.Logger;
@@ -15,10 +31,13 @@ import java.util.logging.Logger;
  */
 public class RestServer {
 
-    private static final int PORT = 8081;
-    private static final String HOST = "localhost";
     private static final Logger logger = Logger.getLogger(RestServer.class.getName());
 
+    /**
+     * Executor of the virtual execution mode, compiled from {@code src/java21/java} by the {@code java21} profile only.
+     */
+    private static final String VIRTUAL_THREAD_EXECUTOR = "jpa.config.VirtualThreadRequestExecutor";
+
     /**
      * Executes main operation.
      *
@@ -26,18 +45,138 @@ public class RestServer {
      */
     public static void main(String[] args) {
         configureLogging();
+        start();
+    }
 
+    /**
+     * Seeds reference data, starts the maintenance jobs and opens the HTTP listeners.
+     *
+     * <p>Configuration is read from system properties and environment variables, so callers
+     * embedding the server (load tests) set them before the first call.</p>
+     *
+     * @return handle stopping the server
+     */
+    public static Running start() {
+        // Backfill emails written before they were normalized; lookups by email rely on it.
+        UserEmailMigration.migrate();
         ReferenceDataInitializer.seedPlacesIfEmpty();
         ReferenceDataInitializer.seedConcertsIfEmpty();
+        // Fill counter caches of rows created before they existed, before any listing reads them.
+        MaintenanceScheduler.reconcileTicketCounters();
+        Instance.TICKET_INVENTORY.rehydrate();
+        // Startup work ran on the main thread's entity manager; release it before serving requests.
+        EntityManagerHelper.closeEntityManager();
+        MaintenanceScheduler.start();
 
         UndertowJaxrsServer ut = new UndertowJaxrsServer();
-        TestApplication ta = new TestApplication();
+        List<Listener> listeners = ServerConfig.resolveListeners();
 
         // Deploy JAX-RS resources and providers before opening the HTTP listener.
-        ut.deploy(ta);
-        ut.start(Undertow.builder().addHttpListener(PORT, HOST));
+        ut.deploy(createDeployment(ut, new TestApplication()));
+        ut.start(createServerBuilder(listeners));
 
         logger.info("JAX-RS based micro-service running!");
+        return new Running(ut, listeners);
+    }
+
+    /**
+     * Running server started by {@link #start()}.
+     */
+    public static final class Running implements AutoCloseable {
+        private final UndertowJaxrsServer server;
+        private final List<Listener> listeners;
+
+        private Running(UndertowJaxrsServer server, List<Listener> listeners) {
+            this.server = server;
+            this.listeners = listeners;
+        }
+
+        /**
+         * Returns the addresses the server listens on.
+         *
+         * @return HTTP listeners
+         */
+        public List<Listener> listeners() {
+            return listeners;
+        }
+
+        /**
+         * Stops the HTTP listeners, the maintenance jobs and the connection pool.
+         */
+        @Override
+        public void close() {
+            server.stop();
+            MaintenanceScheduler.stop();
+            EntityManagerHelper.closeEntityManagerFactory();
+        }
+    }
+
+    private static Undertow.Builder createServerBuilder(List<Listener> listeners) {
+        int ioThreads = ServerConfig.resolveIoThreads();
+        int workerThreads = ServerConfig.resolveWorkerThreads(ioThreads);
+        int bufferSize = ServerConfig.resolveBufferSize();
+        boolean directBuffers = ServerConfig.resolveDirectBuffers();
+        int backlog = ServerConfig.resolveBacklog();
+        boolean http2 = ServerConfig.resolveHttp2Enabled();
+
+        Undertow.Builder builder = Undertow.builder()
+                .setIoThreads(ioThreads)
+                .setWorkerThreads(workerThreads)
+                .setBufferSize(bufferSize)
+                .setDirectBuffers(directBuffers)
+                .setSocketOption(Options.BACKLOG, backlog)
+                .setServerOption(UndertowOptions.ENABLE_HTTP2, http2);
+        for (Listener listener : listeners) {
+            builder.addHttpListener(listener.port(), listener.host());
+        }
+
+        logger.info("HTTP server tuning: listeners=" + listeners
+                + ", ioThreads=" + ioThreads
+                + ", workerThreads=" + workerThreads
+                + ", bufferSize=" + bufferSize
+                + ", directBuffers=" + directBuffers
+                + ", backlog=" + backlog
+                + ", http2=" + http2);
+        return builder;
+    }
+
+    private static DeploymentInfo createDeployment(UndertowJaxrsServer ut, TestApplication application) {
+        ResteasyDeployment deployment = new ResteasyDeploymentImpl();
+        deployment.setApplication(application);
+        deployment.start();
+
+        DeploymentInfo info = ut.undertowDeployment(deployment)
+                .setClassLoader(application.getClass().getClassLoader())
+                .setContextPath("/")
+                .setDeploymentName("Resteasy")
+                .addListener(Servlets.listener(EntityManagerRequestListener.class));
+
+        if (ServerConfig.resolveExecutionMode() == ExecutionMode.VIRTUAL) {
+            int maxConcurrency = ServerConfig.resolveVirtualMaxConcurrency();
+            // Servlet invocations leave the IO thread for this executor instead of the Undertow worker pool.
+            info.setExecutor(createVirtualThreadExecutor(maxConcurrency));
+            logger.info("Requests run on virtual threads, at most " + maxConcurrency + " concurrently.");
+        } else {
+            logger.info("Requests run on Undertow platform worker threads.");
+        }
+        return info;
+    }
+
+    private static Executor createVirtualThreadExecutor(int maxConcurrency) {
+        Class<? extends Executor> executorType;
+        try {
+            executorType = Class.forName(VIRTUAL_THREAD_EXECUTOR).asSubclass(Executor.class);
+        } catch (ClassNotFoundException ex) {
+            throw new IllegalStateException(
+                    "virtual execution mode requires a build with the java21 Maven profile (mvn -Pjava21)",
+                    ex
+            );
+        }
+        try {
+            return executorType.getConstructor(int.class).newInstance(maxConcurrency);
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("cannot create the virtual-thread request executor", ex);
+        }
     }
 
     private static void configureLogging() {
@@ -5,12 +5,15 @@ import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.info.Info;
 import jakarta.ws.rs.ApplicationPath;
 import jakarta.ws.rs.core.Application;
+import jpa.config.ConditionalGetFilter;
+import jpa.config.ResponseCompressionFilter;
 import jpa.config.CorsFilter;
 import jpa.config.EntityManagerPerRequestFilter;
 import jpa.config.JacksonObjectMapperProvider;
 import jpa.controllers.AuthController;
 import jpa.controllers.AdminController;
 import jpa.controllers.ConcertController;
+import jpa.controllers.MetricsController;
 import jpa.controllers.OpenApiAliasController;
 import jpa.controllers.OrganizerConcertStatsController;
 import jpa.controllers.PlaceController;
@@ -18,6 +21,8 @@ import jpa.controllers.SwaggerUiController;
 import jpa.controllers.TicketController;
 import jpa.controllers.UserController;
 import jpa.exceptionhandlers.*;
+import jpa.metrics.RequestMetricsFilter;
+import jpa.metrics.ResponseMetricsFilter;
 import jpa.security.JwtAuthorizationFilter;
 import org.jboss.resteasy.plugins.interceptors.RoleBasedSecurityFeature;
 
@@ -51,10 +56,15 @@ public class TestApplication extends Application {
         clazzes.add(PlaceController.class);
         clazzes.add(OrganizerConcertStatsController.class);
         clazzes.add(TicketController.class);
+        clazzes.add(MetricsController.class);
         clazzes.add(OpenApiAliasController.class);
         clazzes.add(SwaggerUiController.class);
+        clazzes.add(RequestMetricsFilter.class);
+        clazzes.add(ResponseMetricsFilter.class);
         clazzes.add(CorsFilter.class);
         clazzes.add(EntityManagerPerRequestFilter.class);
+        clazzes.add(ConditionalGetFilter.class);
+        clazzes.add(ResponseCompressionFilter.class);
         clazzes.add(JwtAuthorizationFilter.class);
         clazzes.add(RoleBasedSecurityFeature.class);
 
@@ -68,6 +78,7 @@ public class TestApplication extends Application {
         clazzes.add(NotSupportedExceptionHandler.class);
         clazzes.add(ClientErrorExceptionHandler.class);
         clazzes.add(ServerErrorExceptionHandler.class);
+        clazzes.add(ServiceUnavailableExceptionHandler.class);
         clazzes.add(InvalidFormatExceptionHandler.class);
         clazzes.add(IllegalArgumentExceptionHandler.class);
         clazzes.add(IllegalStateExceptionHandler.class);
@@ -40,8 +40,53 @@ public final class AuthConfig {
      */
     public static final String REFRESH_TOKEN_TTL_ENV = "APP_AUTH_REFRESH_TOKEN_TTL_SECONDS";
 
+    /**
+     * System property holding the maximum number of verified access tokens kept in memory.
+     */
+    public static final String ACCESS_TOKEN_CACHE_MAX_ENTRIES_PROPERTY = "app.auth.access-token.cache.max-entries";
+
+    /**
+     * Environment variable holding the maximum number of verified access tokens kept in memory.
+     */
+    public static final String ACCESS_TOKEN_CACHE_MAX_ENTRIES_ENV = "APP_AUTH_ACCESS_TOKEN_CACHE_MAX_ENTRIES";
+
+    /**
+     * System property holding the maximum number of revoked refresh token hashes kept in memory.
+     */
+    public static final String REVOKED_REFRESH_TOKEN_CACHE_MAX_ENTRIES_PROPERTY =
+            "app.auth.refresh-token.revoked-cache.max-entries";
+
+    /**
+     * Environment variable holding the maximum number of revoked refresh token hashes kept in memory.
+     */
+    public static final String REVOKED_REFRESH_TOKEN_CACHE_MAX_ENTRIES_ENV =
+            "APP_AUTH_REFRESH_TOKEN_REVOKED_CACHE_MAX_ENTRIES";
+
+    /**
+     * System property holding the number of threads dedicated to password hashing.
+     */
+    public static final String PASSWORD_HASHING_THREADS_PROPERTY = "app.auth.password-hashing.threads";
+
+    /**
+     * Environment variable holding the number of threads dedicated to password hashing.
+     */
+    public static final String PASSWORD_HASHING_THREADS_ENV = "APP_AUTH_PASSWORD_HASHING_THREADS";
+
+    /**
+     * System property holding how many password hashing requests may wait for a thread.
+     */
+    public static final String PASSWORD_HASHING_QUEUE_CAPACITY_PROPERTY = "app.auth.password-hashing.queue-capacity";
+
+    /**
+     * Environment variable holding how many password hashing requests may wait for a thread.
+     */
+    public static final String PASSWORD_HASHING_QUEUE_CAPACITY_ENV = "APP_AUTH_PASSWORD_HASHING_QUEUE_CAPACITY";
+
     private static final long DEFAULT_ACCESS_TOKEN_TTL_SECONDS = 900L;
     private static final long DEFAULT_REFRESH_TOKEN_TTL_SECONDS = 2_592_000L;
+    private static final int DEFAULT_ACCESS_TOKEN_CACHE_MAX_ENTRIES = 10_000;
+    private static final int DEFAULT_REVOKED_REFRESH_TOKEN_CACHE_MAX_ENTRIES = 10_000;
+    private static final int DEFAULT_PASSWORD_HASHING_QUEUE_CAPACITY = 64;
     private static final int MIN_SIGNING_KEY_LENGTH = 32;
 
     private AuthConfig() {}
@@ -102,6 +147,88 @@ public final class AuthConfig {
         );
     }
 
+    /**
+     * Resolves the maximum number of verified access tokens kept in memory.
+     *
+     * @return strictly positive entry count
+     */
+    public static int resolveAccessTokenCacheMaxEntries() {
+        return resolvePositiveInt(
+                ACCESS_TOKEN_CACHE_MAX_ENTRIES_PROPERTY,
+                ACCESS_TOKEN_CACHE_MAX_ENTRIES_ENV,
+                DEFAULT_ACCESS_TOKEN_CACHE_MAX_ENTRIES,
+                "access token cache max entries"
+        );
+    }
+
+    /**
+     * Resolves the maximum number of revoked refresh token hashes kept in memory.
+     *
+     * @return strictly positive entry count
+     */
+    public static int resolveRevokedRefreshTokenCacheMaxEntries() {
+        return resolvePositiveInt(
+                REVOKED_REFRESH_TOKEN_CACHE_MAX_ENTRIES_PROPERTY,
+                REVOKED_REFRESH_TOKEN_CACHE_MAX_ENTRIES_ENV,
+                DEFAULT_REVOKED_REFRESH_TOKEN_CACHE_MAX_ENTRIES,
+                "revoked refresh token cache max entries"
+        );
+    }
+
+    /**
+     * Resolves the number of threads dedicated to password hashing, defaulting to the CPU count.
+     *
+     * @return strictly positive thread count
+     */
+    public static int resolvePasswordHashingThreads() {
+        return resolvePositiveInt(
+                PASSWORD_HASHING_THREADS_PROPERTY,
+                PASSWORD_HASHING_THREADS_ENV,
+                Runtime.getRuntime().availableProcessors(),
+                "password hashing threads"
+        );
+    }
+
+    /**
+     * Resolves how many password hashing requests may wait for a thread before being rejected.
+     *
+     * @return strictly positive queue capacity
+     */
+    public static int resolvePasswordHashingQueueCapacity() {
+        return resolvePositiveInt(
+                PASSWORD_HASHING_QUEUE_CAPACITY_PROPERTY,
+                PASSWORD_HASHING_QUEUE_CAPACITY_ENV,
+                DEFAULT_PASSWORD_HASHING_QUEUE_CAPACITY,
+                "password hashing queue capacity"
+        );
+    }
+
+    /**
+     * Resolves and validates a positive int value from property/env/default.
+     *
+     * @param propertyName property key to read first
+     * @param envName environment variable to read second
+     * @param defaultValue fallback value when no property/env is set
+     * @param label human-readable label used in error messages
+     * @return strictly positive int value
+     */
+    private static int resolvePositiveInt(String propertyName, String envName, int defaultValue, String label) {
+        String raw = firstNonBlank(System.getProperty(propertyName), System.getenv(envName));
+        if (raw == null) {
+            return defaultValue;
+        }
+
+        try {
+            int value = Integer.parseInt(raw.trim());
+            if (value <= 0) {
+                throw new IllegalStateException(label + " must be > 0");
+            }
+            return value;
+        } catch (NumberFormatException ex) {
+            throw new IllegalStateException(label + " must be a valid number", ex);
+        }
+    }
+
     /**
      * Resolves and validates a positive long value from property/env/default.
      *
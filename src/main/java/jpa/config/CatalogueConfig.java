@@ -0,0 +1,40 @@
+package jpa.config;
+
+import static jpa.utils.StringValidation.firstNonBlank;
+
+/**
+ * Public catalogue cache configuration keys and resolvers.
+ */
+public final class CatalogueConfig {
+    public static final String AVAILABILITY_STALENESS_PROPERTY = "app.catalogue.availability-staleness.ms";
+    public static final String AVAILABILITY_STALENESS_ENV = "APP_CATALOGUE_AVAILABILITY_STALENESS_MS";
+    private static final long DEFAULT_AVAILABILITY_STALENESS_MS = 2_000L;
+
+    private CatalogueConfig() {}
+
+    /**
+     * Resolves how long cached availability counts may lag behind ticket sales.
+     *
+     * @return staleness budget in milliseconds, {@code 0} to rebuild on the next read after a sale
+     */
+    public static long resolveAvailabilityStalenessMs() {
+        String rawValue = firstNonBlank(
+                System.getProperty(AVAILABILITY_STALENESS_PROPERTY),
+                System.getenv(AVAILABILITY_STALENESS_ENV)
+        );
+
+        if (rawValue == null) {
+            return DEFAULT_AVAILABILITY_STALENESS_MS;
+        }
+
+        try {
+            long parsed = Long.parseLong(rawValue.trim());
+            if (parsed < 0L) {
+                throw new IllegalStateException("Catalogue availability staleness must be >= 0");
+            }
+            return parsed;
+        } catch (NumberFormatException ex) {
+            throw new IllegalStateException("Catalogue availability staleness must be a valid integer", ex);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package jpa.config;
+
+import static jpa.utils.StringValidation.firstNonBlank;
+
+/**
+ * HTTP response compression configuration keys and resolvers.
+ */
+public final class CompressionConfig {
+    public static final String MIN_SIZE_PROPERTY = "app.compression.min-size.bytes";
+    public static final String MIN_SIZE_ENV = "APP_COMPRESSION_MIN_SIZE_BYTES";
+    private static final int DEFAULT_MIN_SIZE_BYTES = 1_024;
+
+    private CompressionConfig() {}
+
+    /**
+     * Resolves the smallest response body worth compressing.
+     *
+     * <p>Below roughly one kilobyte the gzip header and CPU cost outweigh the bytes saved.</p>
+     *
+     * @return threshold in bytes, {@code 0} when compression is disabled
+     */
+    public static int resolveMinSizeBytes() {
+        String rawValue = firstNonBlank(System.getProperty(MIN_SIZE_PROPERTY), System.getenv(MIN_SIZE_ENV));
+
+        if (rawValue == null) {
+            return DEFAULT_MIN_SIZE_BYTES;
+        }
+
+        try {
+            int parsed = Integer.parseInt(rawValue.trim());
+            if (parsed < 0) {
+                throw new IllegalStateException("Compression min size must be >= 0");
+            }
+            return parsed;
+        } catch (NumberFormatException ex) {
+            throw new IllegalStateException("Compression min size must be a valid integer", ex);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package jpa.config;
+
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.Provider;
+import jpa.entities.listeners.CatalogueVersion;
+import jpa.services.cache.CachedJson;
+
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * Answers conditional GET requests on catalogue endpoints without touching the database.
+ *
+ * <p>Validators are derived from {@link CatalogueVersion}: when the client already holds the
+ * current version, the request is aborted with HTTP 304 before the resource method runs.
+ * Otherwise the validators captured before the resource ran are added to the response, so a
+ * write committed meanwhile can only make the client revalidate once more.</p>
+ *
+ * <p>Entity tags carry the {@link CatalogueVersion#epoch()} of this process: a tag issued before
+ * a restart, or by another instance, never matches a version counted here.</p>
+ */
+@Provider
+@ConditionalGet
+@Priority(Priorities.USER)
+public class ConditionalGetFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+    private static final String VERSION_PROPERTY = ConditionalGetFilter.class.getName() + ".version";
+    private static final String LAST_MODIFIED_PROPERTY = ConditionalGetFilter.class.getName() + ".lastModified";
+    private static final String CACHE_CONTROL = "no-cache";
+
+    /**
+     * Returns HTTP 304 when the client validators match the current catalogue version.
+     *
+     * @param requestContext current request context
+     */
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        if (!isConditionalMethod(requestContext.getMethod())) {
+            return;
+        }
+
+        // Read lastModified first: it is updated before the version, so it never overstates it.
+        Instant lastModified = CatalogueVersion.lastModified();
+        long version = CatalogueVersion.current();
+        requestContext.setProperty(VERSION_PROPERTY, version);
+        requestContext.setProperty(LAST_MODIFIED_PROPERTY, lastModified);
+
+        Response.ResponseBuilder notModified = requestContext.getRequest()
+                .evaluatePreconditions(Date.from(lastModified), entityTag(version));
+        if (notModified != null) {
+            requestContext.abortWith(withValidators(notModified, version, lastModified).build());
+        }
+    }
+
+    /**
+     * Adds validators to successful responses that do not carry their own.
+     *
+     * @param requestContext current request context
+     * @param responseContext current response context
+     */
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        Object version = requestContext.getProperty(VERSION_PROPERTY);
+        MultivaluedMap<String, Object> headers = responseContext.getHeaders();
+        if (!(version instanceof Long)
+                || responseContext.getStatus() != Response.Status.OK.getStatusCode()
+                || headers.containsKey(HttpHeaders.ETAG)) {
+            return;
+        }
+
+        Instant lastModified = (Instant) requestContext.getProperty(LAST_MODIFIED_PROPERTY);
+        headers.putSingle(HttpHeaders.ETAG, entityTag((Long) version));
+        headers.putSingle(HttpHeaders.LAST_MODIFIED, Date.from(lastModified));
+        headers.putSingle(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+    }
+
+    /**
+     * Builds the response of a cached catalogue payload, honouring the client validators.
+     *
+     * <p>The payload may lag behind the catalogue (see the availability staleness budget), so its
+     * own version is used instead of the current one. Its pre-compressed copy is sent to clients
+     * accepting gzip.</p>
+     *
+     * @param request current request
+     * @param headers current request headers
+     * @param payload cached JSON payload
+     * @return HTTP 304 when the client holds this payload, HTTP 200 with the payload otherwise
+     */
+    public static Response respond(Request request, HttpHeaders headers, CachedJson payload) {
+        Date lastModified = Date.from(payload.lastModified());
+        EntityTag tag = entityTag(payload.version());
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(lastModified, tag);
+        if (notModified != null) {
+            return withValidators(notModified, payload.version(), payload.lastModified()).build();
+        }
+
+        if (payload.gzip() != null && ResponseCompressionFilter.acceptsGzip(headers)) {
+            return withValidators(Response.ok(payload.gzip(), MediaType.APPLICATION_JSON_TYPE),
+                    payload.version(), payload.lastModified())
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .build();
+        }
+        return withValidators(Response.ok(payload.json(), MediaType.APPLICATION_JSON_TYPE),
+                payload.version(), payload.lastModified())
+                .build();
+    }
+
+    /**
+     * Builds the weak entity tag of a catalogue version counted by this process.
+     *
+     * @param version catalogue version
+     * @return weak entity tag
+     */
+    public static EntityTag entityTag(long version) {
+        return new EntityTag(CatalogueVersion.epoch() + "-" + version, true);
+    }
+
+    private static boolean isConditionalMethod(String method) {
+        return HttpMethod.GET.equalsIgnoreCase(method) || HttpMethod.HEAD.equalsIgnoreCase(method);
+    }
+
+    private static Response.ResponseBuilder withValidators(
+            Response.ResponseBuilder builder,
+            long version,
+            Instant lastModified
+    ) {
+        return builder.tag(entityTag(version))
+                .lastModified(Date.from(lastModified))
+                .header(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+    }
+}
@@ -7,6 +7,7 @@ import jakarta.ws.rs.container.ContainerRequestFilter;
 import jakarta.ws.rs.container.ContainerResponseContext;
 import jakarta.ws.rs.container.ContainerResponseFilter;
 import jakarta.ws.rs.container.PreMatching;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MultivaluedMap;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.ext.Provider;
@@ -78,7 +79,8 @@ public class CorsFilter implements ContainerRequestFilter, ContainerResponseFilt
 
         MultivaluedMap<String, Object> headers = responseContext.getHeaders();
         headers.putSingle("Access-Control-Allow-Origin", origin);
-        headers.putSingle("Vary", ORIGIN_HEADER);
+        // Appended rather than replaced: compression also varies these responses.
+        headers.add(HttpHeaders.VARY, ORIGIN_HEADER);
         headers.putSingle("Access-Control-Allow-Methods", ALLOWED_METHODS);
         headers.putSingle("Access-Control-Allow-Headers", ALLOWED_HEADERS);
         headers.putSingle("Access-Control-Expose-Headers", EXPOSED_HEADERS);
@@ -0,0 +1,525 @@
+package jpa.config;
+
+import jpa.metrics.JdbcMetricsSessionListener;
+import jpa.metrics.StatementBudgetInspector;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import static jpa.utils.StringValidation.firstNonBlank;
+
+/**
+ * Resolves database and connection-pool runtime configuration.
+ *
+ * <p>Values are resolved with this precedence:
+ * Java system property, then environment variable, then default value when supported.
+ * Resolved values are handed to Hibernate as persistence-unit overrides, so they take
+ * precedence over {@code META-INF/persistence.xml}.</p>
+ */
+public final class DatabaseConfig {
+
+    /**
+     * System property overriding the JDBC URL of the persistence unit.
+     */
+    public static final String JDBC_URL_PROPERTY = "app.db.url";
+
+    /**
+     * Environment variable overriding the JDBC URL of the persistence unit.
+     */
+    public static final String JDBC_URL_ENV = "APP_DB_URL";
+
+    /**
+     * System property overriding the JDBC user of the persistence unit.
+     */
+    public static final String JDBC_USER_PROPERTY = "app.db.user";
+
+    /**
+     * Environment variable overriding the JDBC user of the persistence unit.
+     */
+    public static final String JDBC_USER_ENV = "APP_DB_USER";
+
+    /**
+     * System property overriding the JDBC password of the persistence unit.
+     */
+    public static final String JDBC_PASSWORD_PROPERTY = "app.db.password";
+
+    /**
+     * Environment variable overriding the JDBC password of the persistence unit.
+     */
+    public static final String JDBC_PASSWORD_ENV = "APP_DB_PASSWORD";
+
+    /**
+     * System property holding the minimum number of idle pooled connections.
+     */
+    public static final String POOL_MIN_IDLE_PROPERTY = "app.db.pool.min-idle";
+
+    /**
+     * Environment variable holding the minimum number of idle pooled connections.
+     */
+    public static final String POOL_MIN_IDLE_ENV = "APP_DB_POOL_MIN_IDLE";
+
+    /**
+     * System property holding the maximum number of pooled connections.
+     */
+    public static final String POOL_MAX_SIZE_PROPERTY = "app.db.pool.max-size";
+
+    /**
+     * Environment variable holding the maximum number of pooled connections.
+     */
+    public static final String POOL_MAX_SIZE_ENV = "APP_DB_POOL_MAX_SIZE";
+
+    /**
+     * System property holding the connection acquisition timeout in milliseconds.
+     */
+    public static final String POOL_CONNECTION_TIMEOUT_PROPERTY = "app.db.pool.connection-timeout.ms";
+
+    /**
+     * Environment variable holding the connection acquisition timeout in milliseconds.
+     */
+    public static final String POOL_CONNECTION_TIMEOUT_ENV = "APP_DB_POOL_CONNECTION_TIMEOUT_MS";
+
+    /**
+     * System property holding the idle eviction delay in milliseconds.
+     */
+    public static final String POOL_IDLE_TIMEOUT_PROPERTY = "app.db.pool.idle-timeout.ms";
+
+    /**
+     * Environment variable holding the idle eviction delay in milliseconds.
+     */
+    public static final String POOL_IDLE_TIMEOUT_ENV = "APP_DB_POOL_IDLE_TIMEOUT_MS";
+
+    /**
+     * System property holding the maximum lifetime of a pooled connection in milliseconds.
+     */
+    public static final String POOL_MAX_LIFETIME_PROPERTY = "app.db.pool.max-lifetime.ms";
+
+    /**
+     * Environment variable holding the maximum lifetime of a pooled connection in milliseconds.
+     */
+    public static final String POOL_MAX_LIFETIME_ENV = "APP_DB_POOL_MAX_LIFETIME_MS";
+
+    /**
+     * System property holding the connection leak detection threshold in milliseconds (0 disables it).
+     */
+    public static final String POOL_LEAK_DETECTION_PROPERTY = "app.db.pool.leak-detection-threshold.ms";
+
+    /**
+     * Environment variable holding the connection leak detection threshold in milliseconds (0 disables it).
+     */
+    public static final String POOL_LEAK_DETECTION_ENV = "APP_DB_POOL_LEAK_DETECTION_THRESHOLD_MS";
+
+    /**
+     * System property holding the JDBC batch size used for bulk inserts.
+     */
+    public static final String JDBC_BATCH_SIZE_PROPERTY = "app.db.jdbc.batch-size";
+
+    /**
+     * Environment variable holding the JDBC batch size used for bulk inserts.
+     */
+    public static final String JDBC_BATCH_SIZE_ENV = "APP_DB_JDBC_BATCH_SIZE";
+
+    /**
+     * System property holding the JDBC fetch size used when streaming large result sets.
+     */
+    public static final String JDBC_FETCH_SIZE_PROPERTY = "app.db.jdbc.fetch-size";
+
+    /**
+     * Environment variable holding the JDBC fetch size used when streaming large result sets.
+     */
+    public static final String JDBC_FETCH_SIZE_ENV = "APP_DB_JDBC_FETCH_SIZE";
+
+    /**
+     * System property telling whether Hibernate echoes SQL statements to standard output.
+     */
+    public static final String SHOW_SQL_PROPERTY = "app.db.show-sql";
+
+    /**
+     * Environment variable telling whether Hibernate echoes SQL statements to standard output.
+     */
+    public static final String SHOW_SQL_ENV = "APP_DB_SHOW_SQL";
+
+    /**
+     * System property telling whether reference entities and queries are kept in the second-level cache.
+     */
+    public static final String SECOND_LEVEL_CACHE_PROPERTY = "app.db.second-level-cache.enabled";
+
+    /**
+     * Environment variable telling whether reference entities and queries are kept in the second-level cache.
+     */
+    public static final String SECOND_LEVEL_CACHE_ENV = "APP_DB_SECOND_LEVEL_CACHE_ENABLED";
+
+    /**
+     * System property holding the maximum number of entries of each second-level cache region.
+     */
+    public static final String SECOND_LEVEL_CACHE_MAX_ENTRIES_PROPERTY = "app.db.second-level-cache.max-entries";
+
+    /**
+     * Environment variable holding the maximum number of entries of each second-level cache region.
+     */
+    public static final String SECOND_LEVEL_CACHE_MAX_ENTRIES_ENV = "APP_DB_SECOND_LEVEL_CACHE_MAX_ENTRIES";
+
+    /**
+     * System property holding how long a second-level cache entry is kept after being written, in seconds.
+     */
+    public static final String SECOND_LEVEL_CACHE_TTL_PROPERTY = "app.db.second-level-cache.ttl.seconds";
+
+    /**
+     * Environment variable holding how long a second-level cache entry is kept after being written, in seconds.
+     */
+    public static final String SECOND_LEVEL_CACHE_TTL_ENV = "APP_DB_SECOND_LEVEL_CACHE_TTL_SECONDS";
+
+    /**
+     * Name given to the connection pool in logs and metrics.
+     */
+    public static final String POOL_NAME = "sir-hsqldb-pool";
+
+    private static final int DEFAULT_POOL_MIN_IDLE = 2;
+    private static final int DEFAULT_POOL_MAX_SIZE = 10;
+    private static final long DEFAULT_POOL_CONNECTION_TIMEOUT_MS = 5_000L;
+    private static final long DEFAULT_POOL_IDLE_TIMEOUT_MS = 300_000L;
+    private static final long DEFAULT_POOL_MAX_LIFETIME_MS = 1_800_000L;
+    private static final long DEFAULT_POOL_LEAK_DETECTION_MS = 0L;
+    private static final int DEFAULT_JDBC_BATCH_SIZE = 50;
+    private static final int DEFAULT_JDBC_FETCH_SIZE = 100;
+    private static final long DEFAULT_SECOND_LEVEL_CACHE_MAX_ENTRIES = 1_000L;
+    private static final long DEFAULT_SECOND_LEVEL_CACHE_TTL_SECONDS = 3_600L;
+
+    private static final String HIKARI_PREFIX = "hibernate.hikari.";
+
+    private DatabaseConfig() {}
+
+    /**
+     * Builds the persistence-unit overrides passed to the entity manager factory.
+     *
+     * @return mutable map of Hibernate/JPA properties
+     * @throws IllegalStateException when a configured value is invalid
+     */
+    public static Map<String, Object> resolvePersistenceOverrides() {
+        Map<String, Object> overrides = new HashMap<>();
+
+        String url = firstNonBlank(System.getProperty(JDBC_URL_PROPERTY), System.getenv(JDBC_URL_ENV));
+        if (url != null) {
+            overrides.put("jakarta.persistence.jdbc.url", url.trim());
+            overrides.put("hibernate.connection.url", url.trim());
+        }
+        String user = firstNonBlank(System.getProperty(JDBC_USER_PROPERTY), System.getenv(JDBC_USER_ENV));
+        if (user != null) {
+            overrides.put("jakarta.persistence.jdbc.user", user.trim());
+            overrides.put("hibernate.connection.username", user.trim());
+        }
+        // Passwords may legitimately be blank, so only explicit values are forwarded.
+        String password = System.getProperty(JDBC_PASSWORD_PROPERTY, System.getenv(JDBC_PASSWORD_ENV));
+        if (password != null) {
+            overrides.put("jakarta.persistence.jdbc.password", password);
+            overrides.put("hibernate.connection.password", password);
+        }
+
+        int maxSize = resolveMaxPoolSize();
+        int minIdle = resolveMinIdle();
+        if (minIdle > maxSize) {
+            throw new IllegalStateException("connection pool min idle must be <= max size");
+        }
+
+        overrides.put(HIKARI_PREFIX + "poolName", POOL_NAME);
+        overrides.put(HIKARI_PREFIX + "minimumIdle", String.valueOf(minIdle));
+        overrides.put(HIKARI_PREFIX + "maximumPoolSize", String.valueOf(maxSize));
+        overrides.put(HIKARI_PREFIX + "connectionTimeout", String.valueOf(resolvePositiveLong(
+                POOL_CONNECTION_TIMEOUT_PROPERTY,
+                POOL_CONNECTION_TIMEOUT_ENV,
+                DEFAULT_POOL_CONNECTION_TIMEOUT_MS,
+                "connection pool acquisition timeout"
+        )));
+        overrides.put(HIKARI_PREFIX + "idleTimeout", String.valueOf(resolvePositiveLong(
+                POOL_IDLE_TIMEOUT_PROPERTY,
+                POOL_IDLE_TIMEOUT_ENV,
+                DEFAULT_POOL_IDLE_TIMEOUT_MS,
+                "connection pool idle timeout"
+        )));
+        overrides.put(HIKARI_PREFIX + "maxLifetime", String.valueOf(resolvePositiveLong(
+                POOL_MAX_LIFETIME_PROPERTY,
+                POOL_MAX_LIFETIME_ENV,
+                DEFAULT_POOL_MAX_LIFETIME_MS,
+                "connection pool max lifetime"
+        )));
+        overrides.put(HIKARI_PREFIX + "leakDetectionThreshold", String.valueOf(resolveLeakDetectionThresholdMs()));
+
+        // UUID identifiers are assigned in memory, so inserts can be grouped into JDBC batches.
+        overrides.put("hibernate.jdbc.batch_size", String.valueOf(resolveJdbcBatchSize()));
+        overrides.put("hibernate.order_inserts", "true");
+        overrides.put("hibernate.order_updates", "true");
+
+        boolean secondLevelCache = resolveSecondLevelCacheEnabled();
+        overrides.put("hibernate.cache.use_second_level_cache", String.valueOf(secondLevelCache));
+        overrides.put("hibernate.cache.use_query_cache", String.valueOf(secondLevelCache));
+        if (secondLevelCache) {
+            // In-process Ehcache behind JCache; only @Cacheable entities and queries flagged cacheable
+            // are stored, in the bounded regions declared up front. An undeclared region fails startup.
+            overrides.put("hibernate.cache.region.factory_class", "jcache");
+            overrides.put("hibernate.javax.cache.cache_manager", SecondLevelCacheRegions.createCacheManager(
+                    resolveSecondLevelCacheMaxEntries(),
+                    Duration.ofSeconds(resolveSecondLevelCacheTtlSeconds())
+            ));
+            overrides.put("hibernate.javax.cache.missing_cache_strategy", "fail");
+        }
+
+        boolean metrics = MetricsConfig.resolveEnabled();
+        // Hibernate statistics feed the cache hit/miss metrics; per-session summaries stay off.
+        overrides.put("hibernate.generate_statistics", String.valueOf(metrics && secondLevelCache));
+        overrides.put("hibernate.session.events.log", "false");
+        if (metrics) {
+            // Instantiated by Hibernate for every session, times JDBC executions per request.
+            overrides.put("hibernate.session.events.auto", JdbcMetricsSessionListener.class.getName());
+            // Keeps the SQL text so a request over its statement budget can name its N+1 statement.
+            overrides.put("hibernate.session_factory.statement_inspector", StatementBudgetInspector.class.getName());
+        }
+
+        // Unset keeps the persistence.xml value.
+        String showSql = firstNonBlank(System.getProperty(SHOW_SQL_PROPERTY), System.getenv(SHOW_SQL_ENV));
+        if (showSql != null) {
+            String value = showSql.trim().toLowerCase(Locale.ROOT);
+            if (!"true".equals(value) && !"false".equals(value)) {
+                throw new IllegalStateException("SQL statement logging must be true or false");
+            }
+            overrides.put("hibernate.show_sql", value);
+        }
+        return overrides;
+    }
+
+    /**
+     * Resolves the maximum number of pooled connections.
+     *
+     * @return strictly positive pool size
+     */
+    public static int resolveMaxPoolSize() {
+        return resolvePositiveInt(
+                POOL_MAX_SIZE_PROPERTY,
+                POOL_MAX_SIZE_ENV,
+                DEFAULT_POOL_MAX_SIZE,
+                "connection pool max size"
+        );
+    }
+
+    /**
+     * Resolves the minimum number of idle pooled connections.
+     *
+     * @return idle count, {@code 0} to let the pool close every idle connection
+     */
+    public static int resolveMinIdle() {
+        return resolveNonNegativeInt(
+                POOL_MIN_IDLE_PROPERTY,
+                POOL_MIN_IDLE_ENV,
+                DEFAULT_POOL_MIN_IDLE,
+                "connection pool min idle"
+        );
+    }
+
+    /**
+     * Resolves the JDBC batch size, also used as flush interval for bulk inserts.
+     *
+     * @return strictly positive batch size
+     */
+    public static int resolveJdbcBatchSize() {
+        return resolvePositiveInt(
+                JDBC_BATCH_SIZE_PROPERTY,
+                JDBC_BATCH_SIZE_ENV,
+                DEFAULT_JDBC_BATCH_SIZE,
+                "JDBC batch size"
+        );
+    }
+
+    /**
+     * Resolves the JDBC fetch size, also used as persistence-context clearing interval when streaming.
+     *
+     * @return strictly positive fetch size
+     */
+    public static int resolveJdbcFetchSize() {
+        return resolvePositiveInt(
+                JDBC_FETCH_SIZE_PROPERTY,
+                JDBC_FETCH_SIZE_ENV,
+                DEFAULT_JDBC_FETCH_SIZE,
+                "JDBC fetch size"
+        );
+    }
+
+    /**
+     * Resolves whether the second-level and query caches are enabled.
+     *
+     * @return {@code true} unless explicitly disabled
+     */
+    public static boolean resolveSecondLevelCacheEnabled() {
+        String raw = firstNonBlank(
+                System.getProperty(SECOND_LEVEL_CACHE_PROPERTY),
+                System.getenv(SECOND_LEVEL_CACHE_ENV)
+        );
+        if (raw == null) {
+            return true;
+        }
+
+        String value = raw.trim().toLowerCase(Locale.ROOT);
+        if ("true".equals(value)) {
+            return true;
+        }
+        if ("false".equals(value)) {
+            return false;
+        }
+        throw new IllegalStateException("Second-level cache flag must be true or false");
+    }
+
+    /**
+     * Resolves the maximum number of entries of each second-level cache region.
+     *
+     * @return strictly positive entry count
+     */
+    public static long resolveSecondLevelCacheMaxEntries() {
+        return resolvePositiveLong(
+                SECOND_LEVEL_CACHE_MAX_ENTRIES_PROPERTY,
+                SECOND_LEVEL_CACHE_MAX_ENTRIES_ENV,
+                DEFAULT_SECOND_LEVEL_CACHE_MAX_ENTRIES,
+                "second-level cache max entries"
+        );
+    }
+
+    /**
+     * Resolves how long a second-level cache entry is kept after being written, in seconds.
+     *
+     * @return strictly positive time to live
+     */
+    public static long resolveSecondLevelCacheTtlSeconds() {
+        return resolvePositiveLong(
+                SECOND_LEVEL_CACHE_TTL_PROPERTY,
+                SECOND_LEVEL_CACHE_TTL_ENV,
+                DEFAULT_SECOND_LEVEL_CACHE_TTL_SECONDS,
+                "second-level cache time to live"
+        );
+    }
+
+    /**
+     * Resolves the leak detection threshold in milliseconds.
+     *
+     * @return threshold, {@code 0} when leak detection is disabled
+     */
+    public static long resolveLeakDetectionThresholdMs() {
+        return resolveNonNegativeLong(
+                POOL_LEAK_DETECTION_PROPERTY,
+                POOL_LEAK_DETECTION_ENV,
+                DEFAULT_POOL_LEAK_DETECTION_MS,
+                "connection pool leak detection threshold"
+        );
+    }
+
+    /**
+     * Resolves and validates a positive int value from property/env/default.
+     *
+     * @param propertyName property key to read first
+     * @param envName environment variable to read second
+     * @param defaultValue fallback value when no property/env is set
+     * @param label human-readable label used in error messages
+     * @return strictly positive int value
+     */
+    private static int resolvePositiveInt(String propertyName, String envName, int defaultValue, String label) {
+        String raw = firstNonBlank(System.getProperty(propertyName), System.getenv(envName));
+        if (raw == null) {
+            return defaultValue;
+        }
+
+        try {
+            int value = Integer.parseInt(raw.trim());
+            if (value <= 0) {
+                throw new IllegalStateException(label + " must be > 0");
+            }
+            return value;
+        } catch (NumberFormatException ex) {
+            throw new IllegalStateException(label + " must be a valid number", ex);
+        }
+    }
+
+    /**
+     * Resolves and validates a non-negative int value from property/env/default.
+     *
+     * @param propertyName property key to read first
+     * @param envName environment variable to read second
+     * @param defaultValue fallback value when no property/env is set
+     * @param label human-readable label used in error messages
+     * @return int value, {@code 0} included
+     */
+    private static int resolveNonNegativeInt(String propertyName, String envName, int defaultValue, String label) {
+        String raw = firstNonBlank(System.getProperty(propertyName), System.getenv(envName));
+        if (raw == null) {
+            return defaultValue;
+        }
+
+        try {
+            int value = Integer.parseInt(raw.trim());
+            if (value < 0) {
+                throw new IllegalStateException(label + " must be >= 0");
+            }
+            return value;
+        } catch (NumberFormatException ex) {
+            throw new IllegalStateException(label + " must be a valid number", ex);
+        }
+    }
+
+    /**
+     * Resolves and validates a positive long value from property/env/default.
+     *
+     * @param propertyName property key to read first
+     * @param envName environment variable to read second
+     * @param defaultValue fallback value when no property/env is set
+     * @param label human-readable label used in error messages
+     * @return strictly positive long value
+     */
+    private static long resolvePositiveLong(
+            String propertyName,
+            String envName,
+            long defaultValue,
+            String label
+    ) {
+        String raw = firstNonBlank(System.getProperty(propertyName), System.getenv(envName));
+        if (raw == null) {
+            return defaultValue;
+        }
+
+        try {
+            long value = Long.parseLong(raw.trim());
+            if (value <= 0L) {
+                throw new IllegalStateException(label + " must be > 0");
+            }
+            return value;
+        } catch (NumberFormatException ex) {
+            throw new IllegalStateException(label + " must be a valid number", ex);
+        }
+    }
+
+    /**
+     * Resolves and validates a non-negative long value from property/env/default.
+     *
+     * @param propertyName property key to read first
+     * @param envName environment variable to read second
+     * @param defaultValue fallback value when no property/env is set
+     * @param label human-readable label used in error messages
+     * @return long value, {@code 0} included
+     */
+    private static long resolveNonNegativeLong(
+            String propertyName,
+            String envName,
+            long defaultValue,
+            String label
+    ) {
+        String raw = firstNonBlank(System.getProperty(propertyName), System.getenv(envName));
+        if (raw == null) {
+            return defaultValue;
+        }
+
+        try {
+            long value = Long.parseLong(raw.trim());
+            if (value < 0L) {
+                throw new IllegalStateException(label + " must be >= 0");
+            }
+            return value;
+        } catch (NumberFormatException ex) {
+            throw new IllegalStateException(label + " must be a valid number", ex);
+        }
+    }
+}
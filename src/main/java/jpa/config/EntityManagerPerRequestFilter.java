@@ -27,13 +27,18 @@ public class EntityManagerPerRequestFilter implements ContainerRequestFilter, Co
     }
 
     /**
-     * Closes the EntityManager after response writing.
+     * Closes the EntityManager once the resource method returned, unless the body streams from it.
      *
      * @param requestContext request context
      * @param responseContext response context
      */
     @Override
     public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        if (responseContext.getEntity() instanceof JsonArrayStreamingOutput<?>) {
+            // The body is still to be read from an open cursor; the streaming output closes it,
+            // or EntityManagerRequestListener when the body is never written.
+            return;
+        }
         EntityManagerHelper.closeEntityManager();
     }
 }
@@ -0,0 +1,27 @@
+package jpa.config;
+
+import jakarta.servlet.ServletRequestEvent;
+import jakarta.servlet.ServletRequestListener;
+import jpa.dao.generic.EntityManagerHelper;
+
+/**
+ * Closes the thread-bound EntityManager when the servlet container ends a request.
+ *
+ * <p>{@link EntityManagerPerRequestFilter} and {@link JsonArrayStreamingOutput} close it on the
+ * usual paths, but a streamed body is not always written: {@code HEAD} requests, a later filter
+ * throwing, or a client gone before the body. The container calls this listener in every case,
+ * on the thread that ran the request; closing the session also releases the JDBC cursor of a
+ * stream left unread.</p>
+ */
+public class EntityManagerRequestListener implements ServletRequestListener {
+
+    /**
+     * Closes the EntityManager left open by the request, if any.
+     *
+     * @param event request event
+     */
+    @Override
+    public void requestDestroyed(ServletRequestEvent event) {
+        EntityManagerHelper.closeEntityManager();
+    }
+}
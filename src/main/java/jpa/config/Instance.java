@@ -2,10 +2,16 @@ package jpa.config;
 
 import jpa.dao.abstracts.*;
 import jpa.dao.impl.*;
+import jpa.metrics.MetricsRegistry;
+import jpa.security.PasswordHashingExecutor;
+import jpa.security.RevokedRefreshTokenCache;
 import jpa.security.impl.AccessTokenServiceImpl;
 import jpa.security.interfaces.AccessTokenService;
 import jpa.services.impl.*;
+import jpa.services.cache.CatalogueCache;
 import jpa.services.interfaces.*;
+import jpa.services.inventory.TicketInventoryRegistry;
+import jpa.services.stats.OrganizerStatsStore;
 
 /**
  * Configuration component Instance.
@@ -26,30 +32,60 @@ public final class Instance {
     public static final AccessTokenService ACCESS_TOKEN_SERVICE = new AccessTokenServiceImpl(
             AuthConfig.resolveJwtSigningKey(),
             AuthConfig.resolveAccessTokenTtlSeconds(),
-            AuthConfig.resolveRefreshTokenTtlSeconds()
+            AuthConfig.resolveRefreshTokenTtlSeconds(),
+            AuthConfig.resolveAccessTokenCacheMaxEntries()
     );
+    public static final PasswordHashingExecutor PASSWORD_HASHING_EXECUTOR = new PasswordHashingExecutor(
+            AuthConfig.resolvePasswordHashingThreads(),
+            AuthConfig.resolvePasswordHashingQueueCapacity()
+    );
+
+    // INVENTORY
+    public static final TicketInventoryRegistry TICKET_INVENTORY = new TicketInventoryRegistry(TICKET_DAO);
+
+    // CACHES
+    public static final CatalogueCache CATALOGUE_CACHE = new CatalogueCache(
+            JacksonObjectMapperProvider.createObjectMapper(),
+            CatalogueConfig.resolveAvailabilityStalenessMs(),
+            CompressionConfig.resolveMinSizeBytes()
+    );
+    public static final OrganizerStatsStore ORGANIZER_STATS_STORE = new OrganizerStatsStore();
+    public static final MetricsRegistry METRICS_REGISTRY = MetricsRegistry.get();
 
     // SERVICES
     public static final AdminService ADMIN_SERVICE = new AdminServiceImpl(ADMIN_DAO);
     public static final OrganizerService ORGANIZER_SERVICE = new OrganizerServiceImpl(ORGANIZER_DAO);
     public static final OrganizerConcertStatsService ORGANIZER_CONCERT_STATS_SERVICE =
-            new OrganizerConcertStatsServiceImpl(ORGANIZER_CONCERT_STATS_DAO, USER_DAO);
+            new OrganizerConcertStatsServiceImpl(ORGANIZER_CONCERT_STATS_DAO, USER_DAO, ORGANIZER_STATS_STORE);
     public static final PlaceService PLACE_SERVICE = new PlaceServiceImpl(PLACE_DAO);
     public static final TicketService TICKET_SERVICE = new TicketServiceImpl(
             TICKET_DAO,
             CONCERT_DAO,
-            CUSTOMER_DAO
+            CUSTOMER_DAO,
+            TICKET_INVENTORY,
+            CATALOGUE_CACHE,
+            ORGANIZER_STATS_STORE
     );
     public static final UserRegistrationService USER_REGISTRATION_SERVICE = new UserRegistrationServiceImpl(USER_DAO);
     public static final ConcertService CONCERT_SERVICE = new ConcertServiceImpl(
             CONCERT_DAO,
             ORGANIZER_DAO,
             PLACE_DAO,
-            ADMIN_DAO,
             USER_DAO,
-            TicketConfig.resolveMaxTicketBatchSize()
+            TicketConfig.resolveMaxTicketBatchSize(),
+            CATALOGUE_CACHE,
+            ORGANIZER_STATS_STORE
+    );
+    public static final AuthService AUTH_SERVICE = new AuthServiceImpl(
+            USER_DAO,
+            REFRESH_TOKEN_DAO,
+            ACCESS_TOKEN_SERVICE,
+            new RevokedRefreshTokenCache(AuthConfig.resolveRevokedRefreshTokenCacheMaxEntries())
+    );
+    public static final MonitoringService MONITORING_SERVICE = new MonitoringServiceImpl(
+            PASSWORD_HASHING_EXECUTOR,
+            METRICS_REGISTRY
     );
-    public static final AuthService AUTH_SERVICE = new AuthServiceImpl(USER_DAO, REFRESH_TOKEN_DAO, ACCESS_TOKEN_SERVICE);
 
     private Instance() {}
 }
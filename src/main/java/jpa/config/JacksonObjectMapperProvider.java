@@ -18,9 +18,21 @@ public class JacksonObjectMapperProvider implements ContextResolver<ObjectMapper
      * Creates a new instance of JacksonObjectMapperProvider.
      */
     public JacksonObjectMapperProvider() {
-        this.mapper = new ObjectMapper();
-        this.mapper.registerModule(new JavaTimeModule());
-        this.mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        this.mapper = createObjectMapper();
+    }
+
+    /**
+     * Creates an object mapper configured like the one used for HTTP responses.
+     *
+     * <p>Components that pre-serialize payloads use it so cached bytes match regular responses.</p>
+     *
+     * @return configured object mapper
+     */
+    public static ObjectMapper createObjectMapper() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        return objectMapper;
     }
 
     @Override
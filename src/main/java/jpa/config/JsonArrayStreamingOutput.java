@@ -0,0 +1,74 @@
+package jpa.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import jpa.dao.generic.EntityManagerHelper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes a lazily fetched result stream as one JSON array, element by element.
+ *
+ * <p>Only the element being serialized and Jackson's output buffer are held in memory, whatever
+ * the number of rows. The stream keeps the request entity manager and its JDBC cursor open until
+ * the body is written, so {@link EntityManagerPerRequestFilter} leaves closing them to this class;
+ * when the body is never written, {@link EntityManagerRequestListener} closes them at the end of
+ * the request.</p>
+ *
+ * @param <T> element type
+ */
+public final class JsonArrayStreamingOutput<T> implements StreamingOutput {
+
+    private static final ObjectMapper OBJECT_MAPPER = JacksonObjectMapperProvider.createObjectMapper();
+
+    private final Stream<T> elements;
+
+    /**
+     * Creates a new instance of JsonArrayStreamingOutput.
+     *
+     * @param elements elements to write, closed once written
+     */
+    public JsonArrayStreamingOutput(Stream<T> elements) {
+        this.elements = elements;
+    }
+
+    /**
+     * Builds an HTTP 200 JSON response streaming the given elements.
+     *
+     * @param elements elements to write, closed once written
+     * @param <T> element type
+     * @return response whose body is written incrementally
+     */
+    public static <T> Response ok(Stream<T> elements) {
+        return Response.ok(new JsonArrayStreamingOutput<>(elements), MediaType.APPLICATION_JSON_TYPE).build();
+    }
+
+    /**
+     * Serializes the elements into the response body.
+     *
+     * @param output response body
+     * @throws IOException when writing fails
+     */
+    @Override
+    public void write(OutputStream output) throws IOException {
+        try (Stream<T> source = elements;
+             JsonGenerator generator = OBJECT_MAPPER.getFactory().createGenerator(output)) {
+            // The container owns the response stream; compression may still need to finish it.
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartArray();
+            Iterator<T> iterator = source.iterator();
+            while (iterator.hasNext()) {
+                OBJECT_MAPPER.writeValue(generator, iterator.next());
+            }
+            generator.writeEndArray();
+        } finally {
+            EntityManagerHelper.closeEntityManager();
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package jpa.config;
+
+import static jpa.utils.StringValidation.firstNonBlank;
+
+/**
+ * Resolves background maintenance job configuration.
+ *
+ * <p>Values are resolved with this precedence:
+ * Java system property, then environment variable, then default value.</p>
+ */
+public final class MaintenanceConfig {
+
+    /**
+     * System property holding the ticket counter reconciliation interval in seconds.
+     */
+    public static final String TICKET_COUNTERS_INTERVAL_PROPERTY = "app.maintenance.ticket-counters.interval.seconds";
+
+    /**
+     * Environment variable holding the ticket counter reconciliation interval in seconds.
+     */
+    public static final String TICKET_COUNTERS_INTERVAL_ENV = "APP_MAINTENANCE_TICKET_COUNTERS_INTERVAL_SECONDS";
+
+    /**
+     * System property holding the number of concerts reconciled per transaction.
+     */
+    public static final String TICKET_COUNTERS_BATCH_SIZE_PROPERTY = "app.maintenance.ticket-counters.batch-size";
+
+    /**
+     * Environment variable holding the number of concerts reconciled per transaction.
+     */
+    public static final String TICKET_COUNTERS_BATCH_SIZE_ENV = "APP_MAINTENANCE_TICKET_COUNTERS_BATCH_SIZE";
+
+    /**
+     * System property holding the organizer stats consistency check interval in seconds.
+     */
+    public static final String ORGANIZER_STATS_INTERVAL_PROPERTY = "app.maintenance.organizer-stats.interval.seconds";
+
+    /**
+     * Environment variable holding the organizer stats consistency check interval in seconds.
+     */
+    public static final String ORGANIZER_STATS_INTERVAL_ENV = "APP_MAINTENANCE_ORGANIZER_STATS_INTERVAL_SECONDS";
+
+    /**
+     * System property holding the refresh token purge interval in seconds.
+     */
+    public static final String REFRESH_TOKEN_PURGE_INTERVAL_PROPERTY = "app.maintenance.refresh-token-purge.interval.seconds";
+
+    /**
+     * Environment variable holding the refresh token purge interval in seconds.
+     */
+    public static final String REFRESH_TOKEN_PURGE_INTERVAL_ENV = "APP_MAINTENANCE_REFRESH_TOKEN_PURGE_INTERVAL_SECONDS";
+
+    /**
+     * System property holding how long expired or revoked refresh tokens are kept, in seconds.
+     */
+    public static final String REFRESH_TOKEN_RETENTION_PROPERTY = "app.maintenance.refresh-token-purge.retention.seconds";
+
+    /**
+     * Environment variable holding how long expired or revoked refresh tokens are kept, in seconds.
+     */
+    public static final String REFRESH_TOKEN_RETENTION_ENV = "APP_MAINTENANCE_REFRESH_TOKEN_PURGE_RETENTION_SECONDS";
+
+    /**
+     * System property holding the number of refresh tokens deleted per transaction.
+     */
+    public static final String REFRESH_TOKEN_PURGE_BATCH_SIZE_PROPERTY = "app.maintenance.refresh-token-purge.batch-size";
+
+    /**
+     * Environment variable holding the number of refresh tokens deleted per transaction.
+     */
+    public static final String REFRESH_TOKEN_PURGE_BATCH_SIZE_ENV = "APP_MAINTENANCE_REFRESH_TOKEN_PURGE_BATCH_SIZE";
+
+    private static final long DEFAULT_TICKET_COUNTERS_INTERVAL_SECONDS = 21_600L;
+    private static final int DEFAULT_TICKET_COUNTERS_BATCH_SIZE = 200;
+    private static final long DEFAULT_ORGANIZER_STATS_INTERVAL_SECONDS = 900L;
+    private static final long DEFAULT_REFRESH_TOKEN_PURGE_INTERVAL_SECONDS = 3_600L;
+    private static final long DEFAULT_REFRESH_TOKEN_RETENTION_SECONDS = 86_400L;
+    private static final int DEFAULT_REFRESH_TOKEN_PURGE_BATCH_SIZE = 500;
+
+    private MaintenanceConfig() {}
+
+    /**
+     * Resolves the ticket counter reconciliation interval in seconds.
+     *
+     * @return strictly positive interval
+     */
+    public static long resolveTicketCountersIntervalSeconds() {
+        return resolvePositiveLong(
+                TICKET_COUNTERS_INTERVAL_PROPERTY,
+                TICKET_COUNTERS_INTERVAL_ENV,
+                DEFAULT_TICKET_COUNTERS_INTERVAL_SECONDS,
+                "ticket counters reconciliation interval"
+        );
+    }
+
+    /**
+     * Resolves the number of concerts reconciled per transaction.
+     *
+     * @return strictly positive batch size
+     */
+    public static int resolveTicketCountersBatchSize() {
+        return resolvePositiveInt(
+                TICKET_COUNTERS_BATCH_SIZE_PROPERTY,
+                TICKET_COUNTERS_BATCH_SIZE_ENV,
+                DEFAULT_TICKET_COUNTERS_BATCH_SIZE,
+                "ticket counters reconciliation batch size"
+        );
+    }
+
+    /**
+     * Resolves the organizer stats consistency check interval in seconds.
+     *
+     * @return strictly positive interval
+     */
+    public static long resolveOrganizerStatsIntervalSeconds() {
+        return resolvePositiveLong(
+                ORGANIZER_STATS_INTERVAL_PROPERTY,
+                ORGANIZER_STATS_INTERVAL_ENV,
+                DEFAULT_ORGANIZER_STATS_INTERVAL_SECONDS,
+                "organizer stats consistency check interval"
+        );
+    }
+
+    /**
+     * Resolves the refresh token purge interval in seconds.
+     *
+     * @return strictly positive interval
+     */
+    public static long resolveRefreshTokenPurgeIntervalSeconds() {
+        return resolvePositiveLong(
+                REFRESH_TOKEN_PURGE_INTERVAL_PROPERTY,
+                REFRESH_TOKEN_PURGE_INTERVAL_ENV,
+                DEFAULT_REFRESH_TOKEN_PURGE_INTERVAL_SECONDS,
+                "refresh token purge interval"
+        );
+    }
+
+    /**
+     * Resolves how long expired or revoked refresh tokens are kept before being purged, in seconds.
+     *
+     * @return strictly positive retention
+     */
+    public static long resolveRefreshTokenRetentionSeconds() {
+        return resolvePositiveLong(
+                REFRESH_TOKEN_RETENTION_PROPERTY,
+                REFRESH_TOKEN_RETENTION_ENV,
+                DEFAULT_REFRESH_TOKEN_RETENTION_SECONDS,
+                "refresh token retention"
+        );
+    }
+
+    /**
+     * Resolves the number of refresh tokens deleted per purge transaction.
+     *
+     * @return strictly positive batch size
+     */
+    public static int resolveRefreshTokenPurgeBatchSize() {
+        return resolvePositiveInt(
+                REFRESH_TOKEN_PURGE_BATCH_SIZE_PROPERTY,
+                REFRESH_TOKEN_PURGE_BATCH_SIZE_ENV,
+                DEFAULT_REFRESH_TOKEN_PURGE_BATCH_SIZE,
+                "refresh token purge batch size"
+        );
+    }
+
+    /**
+     * Resolves and validates a positive int value from property/env/default.
+     *
+     * @param propertyName property key to read first
+     * @param envName environment variable to read second
+     * @param defaultValue fallback value when no property/env is set
+     * @param label human-readable label used in error messages
+     * @return strictly positive int value
+     */
+    private static int resolvePositiveInt(String propertyName, String envName, int defaultValue, String label) {
+        String raw = firstNonBlank(System.getProperty(propertyName), System.getenv(envName));
+        if (raw == null) {
+            return defaultValue;
+        }
+
+        try {
+            int value = Integer.parseInt(raw.trim());
+            if (value <= 0) {
+                throw new IllegalStateException(label + " must be > 0");
+            }
+            return value;
+        } catch (NumberFormatException ex) {
+            throw new IllegalStateException(label + " must be a valid number", ex);
+        }
+    }
+
+    /**
+     * Resolves and validates a positive long value from property/env/default.
+     *
+     * @param propertyName property key to read first
+     * @param envName environment variable to read second
+     * @param defaultValue fallback value when no property/env is set
+     * @param label human-readable label used in error messages
+     * @return strictly positive long value
+     */
+    private static long resolvePositiveLong(
+            String propertyName,
+            String envName,
+            long defaultValue,
+            String label
+    ) {
+        String raw = firstNonBlank(System.getProperty(propertyName), System.getenv(envName));
+        if (raw == null) {
+            return defaultValue;
+        }
+
+        try {
+            long value = Long.parseLong(raw.trim());
+            if (value <= 0L) {
+                throw new IllegalStateException(label + " must be > 0");
+            }
+            return value;
+        } catch (NumberFormatException ex) {
+            throw new IllegalStateException(label + " must be a valid number", ex);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package jpa.config;
+
+import jpa.dao.generic.EntityManagerHelper;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs periodic maintenance jobs on a single background thread.
+ *
+ * <p>Each run uses the thread-bound entity manager and releases it afterwards, like the
+ * per-request filter does for HTTP requests.</p>
+ */
+public final class MaintenanceScheduler {
+
+    private static final Logger logger = Logger.getLogger(MaintenanceScheduler.class.getName());
+    private static ScheduledExecutorService executor;
+
+    private MaintenanceScheduler() {}
+
+    /**
+     * Starts the maintenance jobs. Calling this method more than once has no effect.
+     */
+    public static synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "maintenance-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long ticketCountersInterval = MaintenanceConfig.resolveTicketCountersIntervalSeconds();
+        executor.scheduleWithFixedDelay(
+                () -> runJob("ticket counters reconciliation", MaintenanceScheduler::reconcileTicketCounters),
+                ticketCountersInterval,
+                ticketCountersInterval,
+                TimeUnit.SECONDS
+        );
+
+        long organizerStatsInterval = MaintenanceConfig.resolveOrganizerStatsIntervalSeconds();
+        executor.scheduleWithFixedDelay(
+                () -> runJob("organizer stats consistency check", MaintenanceScheduler::verifyOrganizerStats),
+                organizerStatsInterval,
+                organizerStatsInterval,
+                TimeUnit.SECONDS
+        );
+
+        long refreshTokenPurgeInterval = MaintenanceConfig.resolveRefreshTokenPurgeIntervalSeconds();
+        long refreshTokenRetention = MaintenanceConfig.resolveRefreshTokenRetentionSeconds();
+        int refreshTokenPurgeBatchSize = MaintenanceConfig.resolveRefreshTokenPurgeBatchSize();
+        executor.scheduleWithFixedDelay(
+                () -> runJob("refresh token purge",
+                        () -> purgeRefreshTokens(refreshTokenRetention, refreshTokenPurgeBatchSize)),
+                refreshTokenPurgeInterval,
+                refreshTokenPurgeInterval,
+                TimeUnit.SECONDS
+        );
+    }
+
+    /**
+     * Stops the maintenance jobs.
+     */
+    public static synchronized void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    /**
+     * Recomputes concert ticket counters from ticket rows, batch by batch in concert id order.
+     *
+     * <p>Every batch commits on its own and only reads the tickets of its concerts. Purchases
+     * update the counters in their own transaction, so a run only repairs drift.</p>
+     */
+    public static void reconcileTicketCounters() {
+        int batchSize = MaintenanceConfig.resolveTicketCountersBatchSize();
+        int updated = 0;
+        UUID lastId = null;
+        List<UUID> batch;
+        do {
+            batch = Instance.CONCERT_DAO.findConcertIdsAfter(lastId, batchSize);
+            if (batch.isEmpty()) {
+                break;
+            }
+            lastId = batch.get(batch.size() - 1);
+            updated += Instance.CONCERT_DAO.reconcileTicketCounters(batch);
+        } while (batch.size() == batchSize && !Thread.currentThread().isInterrupted());
+
+        if (updated > 0) {
+            Instance.CATALOGUE_CACHE.markAvailabilityStale();
+        }
+        int total = updated;
+        logger.fine(() -> "Ticket counters reconciled for " + total + " concerts.");
+    }
+
+    /**
+     * Recomputes the materialized organizer statistics and repairs any drift.
+     */
+    public static void verifyOrganizerStats() {
+        int repaired = Instance.ORGANIZER_CONCERT_STATS_SERVICE.verifyOrganizerStats();
+        logger.fine(() -> "Organizer stats verified, " + repaired + " organizers repaired.");
+    }
+
+    /**
+     * Deletes refresh tokens expired or revoked for longer than the retention, batch by batch.
+     *
+     * <p>Every batch commits on its own, so the login and refresh paths never wait on a long
+     * delete; the run stops at the first partial batch or when the scheduler is stopped.</p>
+     *
+     * @param retentionSeconds how long expired or revoked tokens are kept
+     * @param batchSize rows deleted per transaction
+     */
+    public static void purgeRefreshTokens(long retentionSeconds, int batchSize) {
+        Instant cutoff = Instant.now().minusSeconds(retentionSeconds);
+        int purged = 0;
+        int deleted;
+        do {
+            deleted = Instance.REFRESH_TOKEN_DAO.deleteExpiredOrRevoked(cutoff, batchSize);
+            Instance.METRICS_REGISTRY.refreshTokensPurged(deleted);
+            purged += deleted;
+        } while (deleted == batchSize && !Thread.currentThread().isInterrupted());
+
+        int total = purged;
+        logger.fine(() -> "Refresh token purge deleted " + total + " tokens.");
+    }
+
+    private static void runJob(String name, Runnable job) {
+        long start = System.nanoTime();
+        boolean succeeded = false;
+        try {
+            job.run();
+            succeeded = true;
+        } catch (RuntimeException ex) {
+            // Keep the schedule alive: a failed run is retried at the next tick.
+            logger.log(Level.WARNING, "Maintenance job failed: " + name, ex);
+        } finally {
+            EntityManagerHelper.closeEntityManager();
+            Instance.METRICS_REGISTRY.maintenanceJobCompleted(name, succeeded, System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package jpa.config;
+
+import java.util.Locale;
+
+import static jpa.utils.StringValidation.firstNonBlank;
+
+/**
+ * Request and persistence metrics configuration keys and resolvers.
+ */
+public final class MetricsConfig {
+    public static final String ENABLED_PROPERTY = "app.metrics.enabled";
+    public static final String ENABLED_ENV = "APP_METRICS_ENABLED";
+    public static final String STATEMENT_BUDGET_PROPERTY = "app.metrics.statement-budget";
+    public static final String STATEMENT_BUDGET_ENV = "APP_METRICS_STATEMENT_BUDGET";
+    public static final String STATEMENT_BUDGET_MODE_PROPERTY = "app.metrics.statement-budget.mode";
+    public static final String STATEMENT_BUDGET_MODE_ENV = "APP_METRICS_STATEMENT_BUDGET_MODE";
+    private static final int DEFAULT_STATEMENT_BUDGET = 25;
+
+    /**
+     * Reaction to a request executing more JDBC statements than its budget.
+     */
+    public enum StatementBudgetMode {
+        /**
+         * Logs the route and its most repeated statement, the request proceeds.
+         */
+        WARN,
+
+        /**
+         * Fails the statement that exceeds the budget, for load tests and local runs.
+         */
+        FAIL
+    }
+
+    private MetricsConfig() {}
+
+    /**
+     * Resolves whether requests, JDBC statements and entity managers are instrumented and
+     * exposed on {@code /metrics}.
+     *
+     * @return {@code true} unless explicitly disabled
+     */
+    public static boolean resolveEnabled() {
+        String rawValue = firstNonBlank(System.getProperty(ENABLED_PROPERTY), System.getenv(ENABLED_ENV));
+
+        if (rawValue == null) {
+            return true;
+        }
+
+        String value = rawValue.trim().toLowerCase(Locale.ROOT);
+        if ("true".equals(value)) {
+            return true;
+        }
+        if ("false".equals(value)) {
+            return false;
+        }
+        throw new IllegalStateException("Metrics enabled flag must be true or false");
+    }
+
+    /**
+     * Resolves how many non-batched JDBC statements a single request may execute.
+     *
+     * <p>A request going over it usually loads an association row by row (N+1). JDBC batches,
+     * such as ticket inserts, are not counted.</p>
+     *
+     * @return budget, {@code 0} when disabled
+     */
+    public static int resolveStatementBudget() {
+        String raw = firstNonBlank(System.getProperty(STATEMENT_BUDGET_PROPERTY), System.getenv(STATEMENT_BUDGET_ENV));
+        if (raw == null) {
+            return DEFAULT_STATEMENT_BUDGET;
+        }
+
+        try {
+            int value = Integer.parseInt(raw.trim());
+            if (value < 0) {
+                throw new IllegalStateException("Statement budget must be >= 0");
+            }
+            return value;
+        } catch (NumberFormatException ex) {
+            throw new IllegalStateException("Statement budget must be a valid number", ex);
+        }
+    }
+
+    /**
+     * Resolves the reaction to a request exceeding its statement budget.
+     *
+     * @return configured mode, {@link StatementBudgetMode#WARN} by default
+     * @throws IllegalStateException when the configured value is unknown
+     */
+    public static StatementBudgetMode resolveStatementBudgetMode() {
+        String raw = firstNonBlank(
+                System.getProperty(STATEMENT_BUDGET_MODE_PROPERTY),
+                System.getenv(STATEMENT_BUDGET_MODE_ENV)
+        );
+        if (raw == null) {
+            return StatementBudgetMode.WARN;
+        }
+
+        try {
+            return StatementBudgetMode.valueOf(raw.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalStateException("Statement budget mode must be one of: warn, fail", ex);
+        }
+    }
+}
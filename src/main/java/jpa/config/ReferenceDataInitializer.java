@@ -123,13 +123,13 @@ public final class ReferenceDataInitializer {
             concert.setOrganizer(organizer);
             concert.setAdmin(admin);
             concert.setPlace(place);
-            concert.setTickets(createSeedTickets(
-                    concert,
-                    resolveTicketQuantity(place.getCapacity()),
-                    seed.ticketUnitPrice()
-            ));
+            int ticketQuantity = resolveTicketQuantity(place.getCapacity());
+            concert.setTickets(createSeedTickets(concert, ticketQuantity, seed.ticketUnitPrice()));
+            concert.setTicketQuantity(ticketQuantity);
+            concert.setTicketSold(0);
+            concert.setUnitPrice(seed.ticketUnitPrice());
 
-            concertDao.save(concert);
+            concertDao.saveWithTickets(concert);
         }
 
         logger.info(() -> "Reference concert seeding completed: " + SEED_CONCERT_COUNT + " concerts inserted.");
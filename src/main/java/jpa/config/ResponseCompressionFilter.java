@@ -0,0 +1,224 @@
+package jpa.config;
+
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.Provider;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzip-encodes textual responses for clients that accept it.
+ *
+ * <p>Bodies are buffered up to the configured threshold: smaller ones are sent as-is, larger
+ * ones switch to gzip before the first byte reaches the client. Responses that already carry a
+ * {@code Content-Encoding} (pre-compressed cached payloads) are left untouched.</p>
+ */
+@Provider
+@Priority(Priorities.ENTITY_CODER)
+public class ResponseCompressionFilter implements ContainerResponseFilter, WriterInterceptor {
+
+    private static final String GZIP = "gzip";
+    private static final String COMPRESS_PROPERTY = ResponseCompressionFilter.class.getName() + ".compress";
+    private static final int MIN_SIZE_BYTES = CompressionConfig.resolveMinSizeBytes();
+    private static final int GZIP_BUFFER_SIZE = 8_192;
+
+    /**
+     * Advertises content negotiation and flags responses to compress.
+     *
+     * @param requestContext current request context
+     * @param responseContext current response context
+     */
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        if (MIN_SIZE_BYTES <= 0) {
+            return;
+        }
+
+        MultivaluedMap<String, Object> headers = responseContext.getHeaders();
+        if (responseContext.getStatus() == Response.Status.NOT_MODIFIED.getStatusCode()) {
+            // A 304 must carry the Vary header of the 200 it revalidates.
+            addVaryAcceptEncoding(headers);
+            return;
+        }
+        if (!responseContext.hasEntity() || !isCompressible(responseContext.getMediaType())) {
+            return;
+        }
+
+        addVaryAcceptEncoding(headers);
+        if (headers.containsKey(HttpHeaders.CONTENT_ENCODING)) {
+            return;
+        }
+        if (acceptsGzip(requestContext.getHeaderString(HttpHeaders.ACCEPT_ENCODING))) {
+            requestContext.setProperty(COMPRESS_PROPERTY, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Writes the entity through a gzip stream once it grows past the threshold.
+     *
+     * @param context writer interceptor context
+     * @throws IOException when writing fails
+     */
+    @Override
+    public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+        Object entity = context.getEntity();
+        if (context.getProperty(COMPRESS_PROPERTY) == null
+                || (entity instanceof byte[] bytes && bytes.length < MIN_SIZE_BYTES)) {
+            context.proceed();
+            return;
+        }
+
+        OutputStream original = context.getOutputStream();
+        MultivaluedMap<String, Object> headers = context.getHeaders();
+        ThresholdGzipOutputStream output = new ThresholdGzipOutputStream(original, MIN_SIZE_BYTES, () -> {
+            headers.putSingle(HttpHeaders.CONTENT_ENCODING, GZIP);
+            headers.remove(HttpHeaders.CONTENT_LENGTH);
+        });
+        context.setOutputStream(output);
+        try {
+            context.proceed();
+            output.finish();
+        } finally {
+            context.setOutputStream(original);
+        }
+    }
+
+    /**
+     * Tells whether the client accepts gzip-encoded responses.
+     *
+     * @param headers request headers
+     * @return {@code true} when gzip is negotiated and compression is enabled
+     */
+    public static boolean acceptsGzip(HttpHeaders headers) {
+        return MIN_SIZE_BYTES > 0 && acceptsGzip(headers.getHeaderString(HttpHeaders.ACCEPT_ENCODING));
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+
+        for (String candidate : acceptEncoding.split(",")) {
+            String[] parts = candidate.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            if ((GZIP.equals(coding) || "*".equals(coding)) && !isRefused(parts)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isRefused(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2)) <= 0.0d;
+                } catch (NumberFormatException ex) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isCompressible(MediaType mediaType) {
+        if (mediaType == null) {
+            return false;
+        }
+
+        String subtype = mediaType.getSubtype().toLowerCase(Locale.ROOT);
+        return "text".equalsIgnoreCase(mediaType.getType())
+                || subtype.contains("json")
+                || subtype.contains("xml")
+                || subtype.contains("javascript");
+    }
+
+    private static void addVaryAcceptEncoding(MultivaluedMap<String, Object> headers) {
+        List<Object> vary = headers.get(HttpHeaders.VARY);
+        if (vary != null) {
+            for (Object value : vary) {
+                if (String.valueOf(value).toLowerCase(Locale.ROOT).contains("accept-encoding")) {
+                    return;
+                }
+            }
+        }
+        headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    /**
+     * Buffers the first bytes and switches to gzip once the threshold is reached.
+     */
+    private static final class ThresholdGzipOutputStream extends OutputStream {
+        private final OutputStream target;
+        private final int threshold;
+        private final Runnable beforeCompression;
+        private ByteArrayOutputStream buffer;
+        private GZIPOutputStream gzip;
+
+        private ThresholdGzipOutputStream(OutputStream target, int threshold, Runnable beforeCompression) {
+            this.target = target;
+            this.threshold = threshold;
+            this.beforeCompression = beforeCompression;
+            this.buffer = new ByteArrayOutputStream(threshold);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (gzip != null) {
+                gzip.write(b, off, len);
+                return;
+            }
+
+            buffer.write(b, off, len);
+            if (buffer.size() >= threshold) {
+                // Headers are still uncommitted: nothing reached the target stream yet.
+                beforeCompression.run();
+                gzip = new GZIPOutputStream(target, GZIP_BUFFER_SIZE);
+                buffer.writeTo(gzip);
+                buffer = null;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            // Flushing a partial buffer would commit the headers before the encoding is known.
+            if (gzip != null) {
+                gzip.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            finish();
+        }
+
+        private void finish() throws IOException {
+            if (gzip != null) {
+                gzip.finish();
+            } else if (buffer != null) {
+                buffer.writeTo(target);
+                buffer = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package jpa.config;
+
+import jpa.dao.impl.PlaceDaoImpl;
+import jpa.entities.Place;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.spi.RegionFactory;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Creates the Ehcache regions of the second-level and query caches.
+ *
+ * <p>Every region is declared here with a bounded heap; Hibernate is told to fail on any other
+ * region, so a new {@code @Cacheable} entity or cache region must be added to this list.</p>
+ */
+public final class SecondLevelCacheRegions {
+
+    /**
+     * Entries kept in the update-timestamps region: one per table, far below this bound.
+     */
+    private static final long TIMESTAMPS_MAX_ENTRIES = 1_000L;
+
+    private SecondLevelCacheRegions() {}
+
+    /**
+     * Creates a cache manager holding every second-level cache region.
+     *
+     * <p>Data regions hold at most {@code maxEntries} entries each and drop them
+     * {@code timeToLive} after they were written. The update-timestamps region never expires its
+     * entries, as Hibernate requires to detect stale query results.</p>
+     *
+     * @param maxEntries heap entries per data region
+     * @param timeToLive lifetime of a data region entry
+     * @return cache manager to hand to Hibernate, which closes it with the session factory
+     */
+    public static CacheManager createCacheManager(long maxEntries, Duration timeToLive) {
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(
+                EhcacheCachingProvider.class.getName()
+        );
+        CacheManager cacheManager = provider.getCacheManager(
+                provider.getDefaultURI(),
+                SecondLevelCacheRegions.class.getClassLoader()
+        );
+
+        List<String> dataRegions = List.of(
+                Place.class.getName(),
+                PlaceDaoImpl.PLACE_PROJECTIONS_CACHE_REGION,
+                RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME
+        );
+        for (String region : dataRegions) {
+            createCache(cacheManager, region, CacheConfigurationBuilder
+                    .newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(maxEntries))
+                    .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(timeToLive)));
+        }
+        createCache(cacheManager, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, CacheConfigurationBuilder
+                .newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(TIMESTAMPS_MAX_ENTRIES)));
+        return cacheManager;
+    }
+
+    private static void createCache(
+            CacheManager cacheManager,
+            String region,
+            CacheConfigurationBuilder<Object, Object> configuration
+    ) {
+        // The default manager is shared by the JVM; a region left by a previous factory is replaced.
+        if (cacheManager.getCache(region) != null) {
+            cacheManager.destroyCache(region);
+        }
+        cacheManager.createCache(region, Eh107Configuration.fromEhcacheCacheConfiguration(configuration));
+    }
+}
@@ -0,0 +1,374 @@
+package jpa.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static jpa.utils.StringValidation.firstNonBlank;
+
+/**
+ * Resolves HTTP server runtime configuration.
+ *
+ * <p>Values are resolved with this precedence:
+ * Java system property, then environment variable, then default value.</p>
+ */
+public final class ServerConfig {
+
+    /**
+     * System property holding the host of the default HTTP listener.
+     */
+    public static final String HOST_PROPERTY = "app.server.host";
+
+    /**
+     * Environment variable holding the host of the default HTTP listener.
+     */
+    public static final String HOST_ENV = "APP_SERVER_HOST";
+
+    /**
+     * System property holding the port of the default HTTP listener.
+     */
+    public static final String PORT_PROPERTY = "app.server.port";
+
+    /**
+     * Environment variable holding the port of the default HTTP listener.
+     */
+    public static final String PORT_ENV = "APP_SERVER_PORT";
+
+    /**
+     * System property holding a comma-separated list of {@code host:port} listeners, replacing host/port.
+     */
+    public static final String LISTENERS_PROPERTY = "app.server.listeners";
+
+    /**
+     * Environment variable holding a comma-separated list of {@code host:port} listeners, replacing host/port.
+     */
+    public static final String LISTENERS_ENV = "APP_SERVER_LISTENERS";
+
+    /**
+     * System property holding the number of non-blocking IO threads.
+     */
+    public static final String IO_THREADS_PROPERTY = "app.server.io-threads";
+
+    /**
+     * Environment variable holding the number of non-blocking IO threads.
+     */
+    public static final String IO_THREADS_ENV = "APP_SERVER_IO_THREADS";
+
+    /**
+     * System property holding the number of blocking worker threads.
+     */
+    public static final String WORKER_THREADS_PROPERTY = "app.server.worker-threads";
+
+    /**
+     * Environment variable holding the number of blocking worker threads.
+     */
+    public static final String WORKER_THREADS_ENV = "APP_SERVER_WORKER_THREADS";
+
+    /**
+     * System property holding the size in bytes of the IO buffers.
+     */
+    public static final String BUFFER_SIZE_PROPERTY = "app.server.buffer-size";
+
+    /**
+     * Environment variable holding the size in bytes of the IO buffers.
+     */
+    public static final String BUFFER_SIZE_ENV = "APP_SERVER_BUFFER_SIZE";
+
+    /**
+     * System property telling whether IO buffers are allocated off-heap.
+     */
+    public static final String DIRECT_BUFFERS_PROPERTY = "app.server.direct-buffers";
+
+    /**
+     * Environment variable telling whether IO buffers are allocated off-heap.
+     */
+    public static final String DIRECT_BUFFERS_ENV = "APP_SERVER_DIRECT_BUFFERS";
+
+    /**
+     * System property holding the accept backlog of the listening sockets.
+     */
+    public static final String BACKLOG_PROPERTY = "app.server.backlog";
+
+    /**
+     * Environment variable holding the accept backlog of the listening sockets.
+     */
+    public static final String BACKLOG_ENV = "APP_SERVER_BACKLOG";
+
+    /**
+     * System property enabling HTTP/2 (cleartext upgrade) on the listeners.
+     */
+    public static final String HTTP2_PROPERTY = "app.server.http2";
+
+    /**
+     * Environment variable enabling HTTP/2 (cleartext upgrade) on the listeners.
+     */
+    public static final String HTTP2_ENV = "APP_SERVER_HTTP2";
+
+    /**
+     * System property selecting the thread model running JAX-RS resources.
+     */
+    public static final String EXECUTION_MODE_PROPERTY = "app.server.execution-mode";
+
+    /**
+     * Environment variable selecting the thread model running JAX-RS resources.
+     */
+    public static final String EXECUTION_MODE_ENV = "APP_SERVER_EXECUTION_MODE";
+
+    /**
+     * System property holding the maximum number of requests running concurrently on virtual threads.
+     */
+    public static final String VIRTUAL_MAX_CONCURRENCY_PROPERTY = "app.server.virtual-threads.max-concurrency";
+
+    /**
+     * Environment variable holding the maximum number of requests running concurrently on virtual threads.
+     */
+    public static final String VIRTUAL_MAX_CONCURRENCY_ENV = "APP_SERVER_VIRTUAL_THREADS_MAX_CONCURRENCY";
+
+    private static final String DEFAULT_HOST = "localhost";
+    private static final int DEFAULT_PORT = 8081;
+    private static final int DEFAULT_BACKLOG = 1000;
+    private static final long SMALL_HEAP_BYTES = 64L * 1024 * 1024;
+    private static final long MEDIUM_HEAP_BYTES = 128L * 1024 * 1024;
+
+    /**
+     * HTTP listener address.
+     *
+     * @param host interface to bind, {@code 0.0.0.0} for all
+     * @param port TCP port
+     */
+    public record Listener(String host, int port) {
+        @Override
+        public String toString() {
+            return (host.indexOf(':') >= 0 ? "[" + host + "]" : host) + ":" + port;
+        }
+    }
+
+    /**
+     * Thread model running JAX-RS resource invocations.
+     */
+    public enum ExecutionMode {
+        /**
+         * Undertow worker pool (platform threads).
+         */
+        PLATFORM,
+
+        /**
+         * One virtual thread per request, admission bounded by the connection pool; requires a
+         * build with the {@code java21} Maven profile.
+         */
+        VIRTUAL
+    }
+
+    private ServerConfig() {}
+
+    /**
+     * Resolves the HTTP listeners.
+     *
+     * <p>{@value #LISTENERS_ENV} takes precedence; otherwise a single listener is built from
+     * {@value #HOST_ENV} and {@value #PORT_ENV}.</p>
+     *
+     * @return non-empty list of listeners
+     * @throws IllegalStateException when a listener is malformed
+     */
+    public static List<Listener> resolveListeners() {
+        String raw = firstNonBlank(System.getProperty(LISTENERS_PROPERTY), System.getenv(LISTENERS_ENV));
+        if (raw == null) {
+            return List.of(new Listener(resolveHost(), resolvePositiveInt(
+                    PORT_PROPERTY,
+                    PORT_ENV,
+                    DEFAULT_PORT,
+                    "server port"
+            )));
+        }
+
+        List<Listener> listeners = new ArrayList<>();
+        for (String entry : raw.split(",")) {
+            if (!entry.isBlank()) {
+                listeners.add(parseListener(entry.trim()));
+            }
+        }
+        if (listeners.isEmpty()) {
+            throw new IllegalStateException("server listeners cannot be empty");
+        }
+        return List.copyOf(listeners);
+    }
+
+    /**
+     * Resolves the number of IO threads, one per core (at least two) by default.
+     *
+     * @return strictly positive thread count
+     */
+    public static int resolveIoThreads() {
+        return resolvePositiveInt(
+                IO_THREADS_PROPERTY,
+                IO_THREADS_ENV,
+                Math.max(Runtime.getRuntime().availableProcessors(), 2),
+                "server IO threads"
+        );
+    }
+
+    /**
+     * Resolves the number of worker threads, eight per IO thread by default.
+     *
+     * @param ioThreads resolved IO thread count
+     * @return strictly positive thread count
+     */
+    public static int resolveWorkerThreads(int ioThreads) {
+        return resolvePositiveInt(WORKER_THREADS_PROPERTY, WORKER_THREADS_ENV, ioThreads * 8, "server worker threads");
+    }
+
+    /**
+     * Resolves the IO buffer size, defaulting like Undertow from the maximum heap size.
+     *
+     * @return strictly positive size in bytes
+     */
+    public static int resolveBufferSize() {
+        long maxMemory = Runtime.getRuntime().maxMemory();
+        int defaultSize;
+        if (maxMemory < SMALL_HEAP_BYTES) {
+            defaultSize = 512;
+        } else if (maxMemory < MEDIUM_HEAP_BYTES) {
+            defaultSize = 1024;
+        } else {
+            // Fits a 16 KB TLS record once protocol overhead is accounted for.
+            defaultSize = 1024 * 16 - 20;
+        }
+        return resolvePositiveInt(BUFFER_SIZE_PROPERTY, BUFFER_SIZE_ENV, defaultSize, "server buffer size");
+    }
+
+    /**
+     * Resolves whether IO buffers are direct, which Undertow enables except on very small heaps.
+     *
+     * @return {@code true} for off-heap buffers
+     */
+    public static boolean resolveDirectBuffers() {
+        return resolveBoolean(
+                DIRECT_BUFFERS_PROPERTY,
+                DIRECT_BUFFERS_ENV,
+                Runtime.getRuntime().maxMemory() >= SMALL_HEAP_BYTES,
+                "server direct buffers"
+        );
+    }
+
+    /**
+     * Resolves the accept backlog of the listening sockets.
+     *
+     * @return strictly positive backlog
+     */
+    public static int resolveBacklog() {
+        return resolvePositiveInt(BACKLOG_PROPERTY, BACKLOG_ENV, DEFAULT_BACKLOG, "server backlog");
+    }
+
+    /**
+     * Resolves whether HTTP/2 is enabled.
+     *
+     * @return {@code false} by default
+     */
+    public static boolean resolveHttp2Enabled() {
+        return resolveBoolean(HTTP2_PROPERTY, HTTP2_ENV, false, "server HTTP/2 flag");
+    }
+
+    /**
+     * Resolves the execution mode.
+     *
+     * @return configured mode, {@link ExecutionMode#PLATFORM} by default
+     * @throws IllegalStateException when the configured value is unknown
+     */
+    public static ExecutionMode resolveExecutionMode() {
+        String raw = firstNonBlank(System.getProperty(EXECUTION_MODE_PROPERTY), System.getenv(EXECUTION_MODE_ENV));
+        if (raw == null) {
+            return ExecutionMode.PLATFORM;
+        }
+
+        try {
+            return ExecutionMode.valueOf(raw.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalStateException("server execution mode must be one of: platform, virtual", ex);
+        }
+    }
+
+    /**
+     * Resolves how many requests may run concurrently in virtual-thread mode.
+     *
+     * <p>Defaults to the connection pool size: every request touches the database, so admitting
+     * more would only park them on connection acquisition and hit its timeout.</p>
+     *
+     * @return strictly positive concurrency limit
+     */
+    public static int resolveVirtualMaxConcurrency() {
+        return resolvePositiveInt(
+                VIRTUAL_MAX_CONCURRENCY_PROPERTY,
+                VIRTUAL_MAX_CONCURRENCY_ENV,
+                DatabaseConfig.resolveMaxPoolSize(),
+                "virtual-thread max concurrency"
+        );
+    }
+
+    private static String resolveHost() {
+        String raw = firstNonBlank(System.getProperty(HOST_PROPERTY), System.getenv(HOST_ENV));
+        return raw == null ? DEFAULT_HOST : raw.trim();
+    }
+
+    private static Listener parseListener(String entry) {
+        int separator = entry.lastIndexOf(':');
+        if (separator <= 0 || separator == entry.length() - 1) {
+            throw new IllegalStateException("server listener must be host:port, got: " + entry);
+        }
+
+        String host = entry.substring(0, separator).trim();
+        if (host.startsWith("[") && host.endsWith("]")) {
+            host = host.substring(1, host.length() - 1);
+        }
+        try {
+            int port = Integer.parseInt(entry.substring(separator + 1).trim());
+            if (port <= 0 || port > 65_535) {
+                throw new IllegalStateException("server listener port must be between 1 and 65535: " + entry);
+            }
+            return new Listener(host, port);
+        } catch (NumberFormatException ex) {
+            throw new IllegalStateException("server listener port must be a valid number: " + entry, ex);
+        }
+    }
+
+    /**
+     * Resolves and validates a positive int value from property/env/default.
+     *
+     * @param propertyName property key to read first
+     * @param envName environment variable to read second
+     * @param defaultValue fallback value when no property/env is set
+     * @param label human-readable label used in error messages
+     * @return strictly positive int value
+     */
+    private static int resolvePositiveInt(String propertyName, String envName, int defaultValue, String label) {
+        String raw = firstNonBlank(System.getProperty(propertyName), System.getenv(envName));
+        if (raw == null) {
+            return defaultValue;
+        }
+
+        try {
+            int value = Integer.parseInt(raw.trim());
+            if (value <= 0) {
+                throw new IllegalStateException(label + " must be > 0");
+            }
+            return value;
+        } catch (NumberFormatException ex) {
+            throw new IllegalStateException(label + " must be a valid number", ex);
+        }
+    }
+
+    private static boolean resolveBoolean(String propertyName, String envName, boolean defaultValue, String label) {
+        String raw = firstNonBlank(System.getProperty(propertyName), System.getenv(envName));
+        if (raw == null) {
+            return defaultValue;
+        }
+
+        String value = raw.trim().toLowerCase(Locale.ROOT);
+        if ("true".equals(value)) {
+            return true;
+        }
+        if ("false".equals(value)) {
+            return false;
+        }
+        throw new IllegalStateException(label + " must be true or false");
+    }
+}
@@ -0,0 +1,31 @@
+package jpa.config;
+
+import jpa.dao.abstracts.UserDao;
+import jpa.dao.impl.UserDaoImpl;
+
+import java.util.logging.Logger;
+
+/**
+ * Startup migration normalizing the emails stored before they were normalized on write.
+ *
+ * <p>Lookups by email compare the indexed column as is, so they miss rows still holding
+ * surrounding spaces or upper-case letters. The migration runs before the server accepts
+ * requests; once every row is normalized it finds nothing to update.</p>
+ */
+public final class UserEmailMigration {
+
+    private static final Logger logger = Logger.getLogger(UserEmailMigration.class.getName());
+
+    private UserEmailMigration() {}
+
+    /**
+     * Trims and lower-cases the stored user emails that are not normalized yet.
+     */
+    public static void migrate() {
+        UserDao userDao = new UserDaoImpl();
+        int updated = userDao.normalizeStoredEmails();
+        if (updated > 0) {
+            logger.info(() -> "Normalized the email of " + updated + " users.");
+        }
+    }
+}
@@ -8,7 +8,10 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import jpa.config.Instance;
 import jpa.dto.admin.ResponseAdminSummaryDto;
+import jpa.dto.monitoring.ResponseConnectionPoolMetricsDto;
+import jpa.dto.monitoring.ResponsePasswordHashingMetricsDto;
 import jpa.services.interfaces.AdminService;
+import jpa.services.interfaces.MonitoringService;
 
 import java.util.List;
 
@@ -19,14 +22,17 @@ import java.util.List;
 @Produces(MediaType.APPLICATION_JSON)
 public class AdminController {
     private final AdminService adminService;
+    private final MonitoringService monitoringService;
 
     /**
      * Creates a new instance of AdminController.
      *
      * @param adminService method parameter
+     * @param monitoringService method parameter
      */
-    public AdminController(AdminService adminService) {
+    public AdminController(AdminService adminService, MonitoringService monitoringService) {
         this.adminService = adminService;
+        this.monitoringService = monitoringService;
     }
 
     /**
@@ -34,6 +40,7 @@ public class AdminController {
      */
     public AdminController() {
         this.adminService = Instance.ADMIN_SERVICE;
+        this.monitoringService = Instance.MONITORING_SERVICE;
     }
 
     /**
@@ -48,4 +55,30 @@ public class AdminController {
         List<ResponseAdminSummaryDto> admins = adminService.getAllAdmins();
         return Response.ok(admins).build();
     }
+
+    /**
+     * Returns JDBC connection pool usage, used to size the pool against server worker threads.
+     *
+     * @return operation result
+     */
+    @GET
+    @Path("/metrics/connection-pool")
+    @RolesAllowed("ROLE_ADMIN")
+    public Response getConnectionPoolMetrics() {
+        ResponseConnectionPoolMetricsDto metrics = monitoringService.getConnectionPoolMetrics();
+        return Response.ok(metrics).build();
+    }
+
+    /**
+     * Returns password hashing pool usage, used to size it against login traffic.
+     *
+     * @return operation result
+     */
+    @GET
+    @Path("/metrics/password-hashing")
+    @RolesAllowed("ROLE_ADMIN")
+    public Response getPasswordHashingMetrics() {
+        ResponsePasswordHashingMetricsDto metrics = monitoringService.getPasswordHashingMetrics();
+        return Response.ok(metrics).build();
+    }
 }
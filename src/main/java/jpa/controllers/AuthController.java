@@ -14,6 +14,8 @@ import jakarta.ws.rs.CookieParam;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.NewCookie;
 import jakarta.ws.rs.core.Response;
@@ -22,6 +24,7 @@ import jpa.dto.auth.LoginRequestDto;
 import jpa.dto.auth.RefreshTokenRequestDto;
 import jpa.dto.auth.TokenPairResponseDto;
 import jpa.dto.exceptions.ResponseExceptionDto;
+import jpa.security.PasswordHashingExecutor;
 import jpa.services.interfaces.AuthService;
 
 import java.time.Duration;
@@ -42,19 +45,21 @@ public class AuthController {
     private static final boolean REFRESH_TOKEN_COOKIE_SECURE = false;
 
     private final AuthService authService;
+    private final PasswordHashingExecutor passwordHashingExecutor;
 
     /**
      * Creates a controller wired with default application dependencies.
      */
     public AuthController() {
         this.authService = Instance.AUTH_SERVICE;
+        this.passwordHashingExecutor = Instance.PASSWORD_HASHING_EXECUTOR;
     }
 
     /**
      * Authenticates a user and returns an access/refresh token pair.
      *
      * @param request login payload
-     * @return HTTP 200 with token pair
+     * @param asyncResponse response resumed with HTTP 200 and the token pair once the password is verified
      */
     @POST
     @Path("/login")
@@ -80,13 +85,20 @@ public class AuthController {
                     responseCode = "401",
                     description = "Invalid credentials",
                     content = @Content(schema = @Schema(implementation = ResponseExceptionDto.class))
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Too many concurrent authentication requests, retry after the Retry-After delay",
+                    content = @Content(schema = @Schema(implementation = ResponseExceptionDto.class))
             )
     })
-    public Response login(LoginRequestDto request) {
-        TokenPairResponseDto response = authService.login(request);
-        return Response.ok(response)
-                .cookie(buildRefreshTokenCookie(response.refreshToken(), response.refreshTokenExpiresAt()))
-                .build();
+    public void login(LoginRequestDto request, @Suspended AsyncResponse asyncResponse) {
+        passwordHashingExecutor.execute(asyncResponse, () -> {
+            TokenPairResponseDto response = authService.login(request);
+            return Response.ok(response)
+                    .cookie(buildRefreshTokenCookie(response.refreshToken(), response.refreshTokenExpiresAt()))
+                    .build();
+        });
     }
 
     /**
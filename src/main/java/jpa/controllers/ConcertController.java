@@ -14,16 +14,23 @@ import jakarta.annotation.security.PermitAll;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.SecurityContext;
+import jpa.config.ConditionalGet;
+import jpa.config.ConditionalGetFilter;
 import jpa.config.Instance;
+import jpa.config.JsonArrayStreamingOutput;
 import jpa.dto.concert.CreateConcertRequestDto;
 import jpa.dto.concert.ResponseAdminConcertModerationDto;
 import jpa.dto.concert.ResponseConcertDetailsDto;
 import jpa.dto.concert.ResponseConcertPlaceDto;
 import jpa.dto.concert.ResponseOrganizerConcertDto;
 import jpa.dto.exceptions.ResponseExceptionDto;
+import jpa.dto.pagination.PageRequestParams;
+import jpa.enums.ConcertStatus;
 import jpa.services.interfaces.ConcertService;
 
 import java.util.List;
@@ -233,14 +240,19 @@ public class ConcertController {
     /**
      * Lists concerts available to public users.
      *
+     * @param request current request, used to honour client validators
+     * @param headers current request headers, used to negotiate compression
+     * @param page optional pagination and filter parameters
      * @return HTTP 200 with published concerts
      */
     @GET
     @Path("/public")
     @PermitAll
+    @ConditionalGet
     @Operation(
             summary = "List published concerts",
-            description = "Returns concerts currently visible to public users."
+            description = "Returns concerts currently visible to public users. "
+                    + "Sending limit, cursor, from, to or city returns a keyset Page instead of the full array."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -249,24 +261,39 @@ public class ConcertController {
                     content = @Content(
                             array = @ArraySchema(schema = @Schema(implementation = ResponseConcertDetailsDto.class))
                     )
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Catalogue unchanged since the validators sent by the client"
             )
     })
-    public Response getPublicConcerts() {
-        List<ResponseConcertDetailsDto> concerts = concertService.getPublicConcerts();
-        return Response.ok(concerts).build();
+    public Response getPublicConcerts(
+            @Context Request request,
+            @Context HttpHeaders headers,
+            @BeanParam PageRequestParams page
+    ) {
+        if (page.isRequested()) {
+            return Response.ok(concertService.getPublicConcertsPage(page.toQuery())).build();
+        }
+        return ConditionalGetFilter.respond(request, headers, concertService.getPublicConcertsJson());
     }
 
     /**
      * Lists published concerts with place details and available seats.
      *
+     * @param request current request, used to honour client validators
+     * @param headers current request headers, used to negotiate compression
+     * @param page optional pagination and filter parameters
      * @return HTTP 200 with published concerts projection
      */
     @GET
     @Path("/public/places")
     @PermitAll
+    @ConditionalGet
     @Operation(
             summary = "List published concerts with place details",
-            description = "Returns published concerts in projection format with place metadata and available places."
+            description = "Returns published concerts in projection format with place metadata and available places. "
+                    + "Sending limit, cursor, from, to or city returns a keyset Page instead of the full array."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -275,17 +302,28 @@ public class ConcertController {
                     content = @Content(
                             array = @ArraySchema(schema = @Schema(implementation = ResponseConcertPlaceDto.class))
                     )
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Catalogue unchanged since the validators sent by the client"
             )
     })
-    public Response getPublishedConcertsWithPlace() {
-        List<ResponseConcertPlaceDto> concerts = concertService.getPublishedConcertsWithPlace();
-        return Response.ok(concerts).build();
+    public Response getPublishedConcertsWithPlace(
+            @Context Request request,
+            @Context HttpHeaders headers,
+            @BeanParam PageRequestParams page
+    ) {
+        if (page.isRequested()) {
+            return Response.ok(concertService.getPublishedConcertsWithPlacePage(page.toQuery())).build();
+        }
+        return ConditionalGetFilter.respond(request, headers, concertService.getPublishedConcertsWithPlaceJson());
     }
 
     /**
      * Lists concerts created by the authenticated organizer.
      *
      * @param securityContext authenticated security context
+     * @param page optional pagination and filter parameters
      * @return HTTP 200 with organizer concerts
      */
     @GET
@@ -293,7 +331,8 @@ public class ConcertController {
     @RolesAllowed("ROLE_ORGANIZER")
     @Operation(
             summary = "List organizer concerts",
-            description = "Returns concerts created by the authenticated organizer with place and ticket aggregates."
+            description = "Returns concerts created by the authenticated organizer with place and ticket aggregates. "
+                    + "Sending limit, cursor, from, to or city returns a keyset Page instead of the full array."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -319,9 +358,13 @@ public class ConcertController {
                     content = @Content(schema = @Schema(implementation = ResponseExceptionDto.class))
             )
     })
-    public Response getMyConcerts(@Context SecurityContext securityContext) {
+    public Response getMyConcerts(@Context SecurityContext securityContext, @BeanParam PageRequestParams page) {
         String msgException = "Authenticated organizer is required";
         String authenticatedOrganizerEmail = resolveAuthenticatedEmail(securityContext, msgException);
+        if (page.isRequested()) {
+            return Response.ok(concertService.getOrganizerConcertsPage(authenticatedOrganizerEmail, page.toQuery()))
+                    .build();
+        }
         List<ResponseOrganizerConcertDto> concerts = concertService.getOrganizerConcerts(authenticatedOrganizerEmail);
         return Response.ok(concerts).build();
     }
@@ -329,6 +372,7 @@ public class ConcertController {
     /**
      * Lists concerts still waiting for validation.
      *
+     * @param page optional pagination and filter parameters
      * @return HTTP 200 with pending concerts
      */
     @GET
@@ -336,7 +380,8 @@ public class ConcertController {
     @RolesAllowed("ROLE_ADMIN")
     @Operation(
             summary = "List pending concerts",
-            description = "Returns concerts with status PENDING_VALIDATION in moderation projection format."
+            description = "Returns concerts with status PENDING_VALIDATION in moderation projection format. "
+                    + "Sending limit, cursor, from, to or city returns a keyset Page instead of the full array."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -357,14 +402,17 @@ public class ConcertController {
                     content = @Content(schema = @Schema(implementation = ResponseExceptionDto.class))
             )
     })
-    public Response getPendingConcerts() {
-        List<ResponseAdminConcertModerationDto> concerts = concertService.getPendingModerationConcerts();
-        return Response.ok(concerts).build();
+    public Response getPendingConcerts(@BeanParam PageRequestParams page) {
+        if (page.isRequested()) {
+            return Response.ok(concertService.getPendingModerationConcertsPage(page.toQuery())).build();
+        }
+        return JsonArrayStreamingOutput.ok(concertService.streamModerationConcerts(ConcertStatus.PENDING_VALIDATION));
     }
 
     /**
      * Lists approved concerts.
      *
+     * @param page optional pagination and filter parameters
      * @return HTTP 200 with approved concerts
      */
     @GET
@@ -372,7 +420,8 @@ public class ConcertController {
     @RolesAllowed("ROLE_ADMIN")
     @Operation(
             summary = "List approved concerts",
-            description = "Returns concerts with status PUBLISHED in moderation projection format."
+            description = "Returns concerts with status PUBLISHED in moderation projection format. "
+                    + "Sending limit, cursor, from, to or city returns a keyset Page instead of the full array."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -393,14 +442,17 @@ public class ConcertController {
                     content = @Content(schema = @Schema(implementation = ResponseExceptionDto.class))
             )
     })
-    public Response getApprovedConcerts() {
-        List<ResponseAdminConcertModerationDto> concerts = concertService.getApprovedConcerts();
-        return Response.ok(concerts).build();
+    public Response getApprovedConcerts(@BeanParam PageRequestParams page) {
+        if (page.isRequested()) {
+            return Response.ok(concertService.getApprovedConcertsPage(page.toQuery())).build();
+        }
+        return JsonArrayStreamingOutput.ok(concertService.streamModerationConcerts(ConcertStatus.PUBLISHED));
     }
 
     /**
      * Lists rejected concerts.
      *
+     * @param page optional pagination and filter parameters
      * @return HTTP 200 with rejected concerts
      */
     @GET
@@ -408,7 +460,8 @@ public class ConcertController {
     @RolesAllowed("ROLE_ADMIN")
     @Operation(
             summary = "List rejected concerts",
-            description = "Returns concerts with status REJECTED in moderation projection format."
+            description = "Returns concerts with status REJECTED in moderation projection format. "
+                    + "Sending limit, cursor, from, to or city returns a keyset Page instead of the full array."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -429,8 +482,10 @@ public class ConcertController {
                     content = @Content(schema = @Schema(implementation = ResponseExceptionDto.class))
             )
     })
-    public Response getRejectedConcerts() {
-        List<ResponseAdminConcertModerationDto> concerts = concertService.getRejectedConcerts();
-        return Response.ok(concerts).build();
+    public Response getRejectedConcerts(@BeanParam PageRequestParams page) {
+        if (page.isRequested()) {
+            return Response.ok(concertService.getRejectedConcertsPage(page.toQuery())).build();
+        }
+        return JsonArrayStreamingOutput.ok(concertService.streamModerationConcerts(ConcertStatus.REJECTED));
     }
 }
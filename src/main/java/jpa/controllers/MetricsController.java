@@ -0,0 +1,71 @@
+package jpa.controllers;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.annotation.security.PermitAll;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Response;
+import jpa.config.Instance;
+import jpa.services.interfaces.MonitoringService;
+
+/**
+ * REST controller exposing metrics to a Prometheus scraper.
+ */
+@Path("/metrics")
+@Tag(name = "Monitoring", description = "Prometheus scrape endpoint.")
+public class MetricsController {
+
+    /**
+     * Content type of the Prometheus text exposition format.
+     */
+    public static final String PROMETHEUS_TEXT = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final MonitoringService monitoringService;
+
+    /**
+     * Creates a new instance of MetricsController.
+     */
+    public MetricsController() {
+        this.monitoringService = Instance.MONITORING_SERVICE;
+    }
+
+    /**
+     * Creates a new instance of MetricsController.
+     *
+     * @param monitoringService method parameter
+     */
+    public MetricsController(MonitoringService monitoringService) {
+        this.monitoringService = monitoringService;
+    }
+
+    /**
+     * Returns request, persistence, connection pool and password hashing metrics.
+     *
+     * @return HTTP 200 with metrics in the Prometheus text format
+     */
+    @GET
+    @PermitAll
+    @Produces(PROMETHEUS_TEXT)
+    @Operation(
+            summary = "Prometheus metrics",
+            description = "Per-route request counts and latency histograms, in-flight requests, JDBC statements "
+                    + "per route, transactions, entity managers, connection pool and password hashing usage."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Metrics in the Prometheus text exposition format",
+                    content = @Content(mediaType = PROMETHEUS_TEXT, schema = @Schema(type = "string"))
+            ),
+            @ApiResponse(responseCode = "404", description = "Metrics disabled with APP_METRICS_ENABLED=false")
+    })
+    public Response getMetrics() {
+        return Response.ok(monitoringService.getPrometheusMetrics()).build();
+    }
+}
@@ -14,6 +14,7 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jpa.config.ConditionalGet;
 import jpa.config.Instance;
 import jpa.dto.place.ResponsePlaceDto;
 import jpa.services.interfaces.PlaceService;
@@ -54,6 +55,7 @@ public class PlaceController {
     @GET
     @Path("/all")
     @PermitAll
+    @ConditionalGet
     @Operation(
             summary = "List all places",
             description = "Returns all places with id, name, address, city, zip code and capacity."
@@ -65,6 +67,10 @@ public class PlaceController {
                     content = @Content(
                             array = @ArraySchema(schema = @Schema(implementation = ResponsePlaceDto.class))
                     )
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Places unchanged since the validators sent by the client"
             )
     })
     public Response getAllPlaces() {
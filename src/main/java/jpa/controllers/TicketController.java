@@ -9,6 +9,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.annotation.security.RolesAllowed;
+import jakarta.ws.rs.BeanParam;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
@@ -19,7 +20,9 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.SecurityContext;
 import jpa.config.Instance;
+import jpa.config.JsonArrayStreamingOutput;
 import jpa.dto.exceptions.ResponseExceptionDto;
+import jpa.dto.pagination.PageRequestParams;
 import jpa.dto.ticket.PurchaseTicketsRequestDto;
 import jpa.dto.ticket.ResponseCustomerTicketDto;
 import jpa.dto.ticket.ResponseTicketDetailsDto;
@@ -110,6 +113,7 @@ public class TicketController {
      * Lists tickets purchased by the authenticated customer.
      *
      * @param securityContext authenticated security context
+     * @param page optional pagination and filter parameters
      * @return HTTP 200 with customer tickets
      */
     @GET
@@ -117,7 +121,8 @@ public class TicketController {
     @RolesAllowed("ROLE_CUSTOMER")
     @Operation(
             summary = "List current customer tickets",
-            description = "Returns purchased tickets of the authenticated customer with concert and place details."
+            description = "Returns purchased tickets of the authenticated customer with concert and place details. "
+                    + "Sending limit, cursor, from, to or city returns a keyset Page instead of the full array."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -143,10 +148,13 @@ public class TicketController {
                     content = @Content(schema = @Schema(implementation = ResponseExceptionDto.class))
             )
     })
-    public Response getMyTickets(@Context SecurityContext securityContext) {
+    public Response getMyTickets(@Context SecurityContext securityContext, @BeanParam PageRequestParams page) {
         String msgException = "Authenticated customer is required";
         String authenticatedCustomerEmail = resolveAuthenticatedEmail(securityContext, msgException);
-        List<ResponseCustomerTicketDto> tickets = ticketService.getCustomerTickets(authenticatedCustomerEmail);
-        return Response.ok(tickets).build();
+        if (page.isRequested()) {
+            return Response.ok(ticketService.getCustomerTicketsPage(authenticatedCustomerEmail, page.toQuery()))
+                    .build();
+        }
+        return JsonArrayStreamingOutput.ok(ticketService.streamCustomerTickets(authenticatedCustomerEmail));
     }
 }
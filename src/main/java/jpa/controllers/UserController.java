@@ -12,6 +12,8 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.annotation.security.PermitAll;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
 import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
@@ -22,6 +24,7 @@ import jpa.dto.user.CreateAdminRequestDto;
 import jpa.dto.user.CreateUserRequestDto;
 import jpa.dto.user.ResponseCurrentUserDto;
 import jpa.dto.user.ResponseUserDto;
+import jpa.security.PasswordHashingExecutor;
 import jpa.services.interfaces.UserRegistrationService;
 
 import static jpa.utils.Security.resolveAuthenticatedEmail;
@@ -38,19 +41,21 @@ public class UserController {
     public static final String ADMIN_REGISTRATION_HEADER = "X-Admin-Registration-Key";
 
     private final UserRegistrationService userRegistrationService;
+    private final PasswordHashingExecutor passwordHashingExecutor;
 
     /**
      * Creates a new instance of UserController.
      */
     public UserController() {
         this.userRegistrationService = Instance.USER_REGISTRATION_SERVICE;
+        this.passwordHashingExecutor = Instance.PASSWORD_HASHING_EXECUTOR;
     }
 
     /**
      * Executes register operation.
      *
      * @param request method parameter
-     * @return operation result
+     * @param asyncResponse response resumed once the password is hashed
      */
     @POST
     @Path("/register")
@@ -84,13 +89,20 @@ public class UserController {
                     responseCode = "409",
                     description = "Email already exists",
                     content = @Content(schema = @Schema(implementation = ResponseExceptionDto.class))
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Too many concurrent authentication requests, retry after the Retry-After delay",
+                    content = @Content(schema = @Schema(implementation = ResponseExceptionDto.class))
             )
     })
-    public Response register(CreateUserRequestDto request) {
-        ResponseUserDto created = userRegistrationService.register(request);
-        return Response.status(Response.Status.CREATED)
-                .entity(created)
-                .build();
+    public void register(CreateUserRequestDto request, @Suspended AsyncResponse asyncResponse) {
+        passwordHashingExecutor.execute(asyncResponse, () -> {
+            ResponseUserDto created = userRegistrationService.register(request);
+            return Response.status(Response.Status.CREATED)
+                    .entity(created)
+                    .build();
+        });
     }
 
     @POST
@@ -130,9 +142,14 @@ public class UserController {
                     responseCode = "401",
                     description = "Missing or invalid bearer access token",
                     content = @Content(schema = @Schema(implementation = ResponseExceptionDto.class))
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Too many concurrent authentication requests, retry after the Retry-After delay",
+                    content = @Content(schema = @Schema(implementation = ResponseExceptionDto.class))
             )
     })
-    public Response registerAdmin(
+    public void registerAdmin(
             @Parameter(
                     name = ADMIN_REGISTRATION_HEADER,
                     in = ParameterIn.HEADER,
@@ -141,12 +158,15 @@ public class UserController {
                     schema = @Schema(type = "string")
             )
             @HeaderParam(ADMIN_REGISTRATION_HEADER) String adminRegistrationKey,
-            CreateAdminRequestDto request
+            CreateAdminRequestDto request,
+            @Suspended AsyncResponse asyncResponse
     ) {
-        ResponseUserDto created = userRegistrationService.registerAdmin(request, adminRegistrationKey);
-        return Response.status(Response.Status.CREATED)
-                .entity(created)
-                .build();
+        passwordHashingExecutor.execute(asyncResponse, () -> {
+            ResponseUserDto created = userRegistrationService.registerAdmin(request, adminRegistrationKey);
+            return Response.status(Response.Status.CREATED)
+                    .entity(created)
+                    .build();
+        });
     }
 
     /**
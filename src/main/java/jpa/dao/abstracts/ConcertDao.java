@@ -1,16 +1,20 @@
 package jpa.dao.abstracts;
 
 import jpa.dao.generic.AbstractJpaDao;
+import jpa.dao.pagination.KeysetPageQuery;
 import jpa.dto.concert.ResponseAdminConcertModerationDto;
 import jpa.dto.concert.ResponseConcertDetailsDto;
 import jpa.dto.concert.ResponseConcertPlaceDto;
 import jpa.dto.concert.ResponseOrganizerConcertDto;
+import jpa.dto.pagination.ResponsePageDto;
 import jpa.entities.Concert;
 import jpa.enums.ConcertStatus;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Abstract DAO contract for ConcertDao.
@@ -31,12 +35,12 @@ public abstract class ConcertDao extends AbstractJpaDao<UUID, Concert> {
     public abstract List<Concert> findConcertsByDateRange(Instant start, Instant end);
 
     /**
-     * Executes findByStatus operation.
+     * Returns concerts in one workflow status as details projection, without loading entities.
      *
-     * @param status method parameter
-     * @return operation result
+     * @param status workflow status to match
+     * @return projected concerts ordered by date
      */
-    public abstract List<Concert> findByStatus(ConcertStatus status);
+    public abstract List<ResponseConcertDetailsDto> findConcertDetailsProjectionByStatus(ConcertStatus status);
 
     /**
      * Returns published concerts with place projection and available seats.
@@ -53,12 +57,12 @@ public abstract class ConcertDao extends AbstractJpaDao<UUID, Concert> {
     public abstract List<ResponseConcertDetailsDto> findPendingConcertDetailsProjection();
 
     /**
-     * Returns moderation projection for all concerts matching one workflow status.
+     * Streams moderation projection for all concerts matching one workflow status.
      *
      * @param status workflow status to filter by
-     * @return moderation rows ordered by creation timestamp desc
+     * @return moderation rows ordered by creation timestamp desc, to be closed by the caller
      */
-    public abstract List<ResponseAdminConcertModerationDto> findConcertsForModerationByStatus(ConcertStatus status);
+    public abstract Stream<ResponseAdminConcertModerationDto> streamConcertsForModerationByStatus(ConcertStatus status);
 
     /**
      * Returns concerts created by one organizer with place and ticket aggregates.
@@ -68,6 +72,50 @@ public abstract class ConcertDao extends AbstractJpaDao<UUID, Concert> {
      */
     public abstract List<ResponseOrganizerConcertDto> findOrganizerConcertsProjection(UUID organizerId);
 
+    /**
+     * Returns one page of concert details with the given status, ordered by date then id.
+     *
+     * @param status concert status
+     * @param page   keyset page and filters
+     * @return page of concert details
+     */
+    public abstract ResponsePageDto<ResponseConcertDetailsDto> findConcertDetailsPage(
+            ConcertStatus status,
+            KeysetPageQuery page
+    );
+
+    /**
+     * Returns one page of published concerts with place projection, ordered by date then id.
+     *
+     * @param page keyset page and filters
+     * @return page of projected published concerts
+     */
+    public abstract ResponsePageDto<ResponseConcertPlaceDto> findPublishedConcertsWithPlacePage(KeysetPageQuery page);
+
+    /**
+     * Returns one page of the moderation projection, newest creation first.
+     *
+     * @param status concert status
+     * @param page   keyset page and filters
+     * @return page of moderation rows
+     */
+    public abstract ResponsePageDto<ResponseAdminConcertModerationDto> findConcertsForModerationPage(
+            ConcertStatus status,
+            KeysetPageQuery page
+    );
+
+    /**
+     * Returns one page of the organizer concerts, newest creation first.
+     *
+     * @param organizerId organizer identifier
+     * @param page        keyset page and filters
+     * @return page of organizer concerts
+     */
+    public abstract ResponsePageDto<ResponseOrganizerConcertDto> findOrganizerConcertsPage(
+            UUID organizerId,
+            KeysetPageQuery page
+    );
+
     /**
      * Returns true when a place already has a concert in the requested slot window.
      *
@@ -83,4 +131,50 @@ public abstract class ConcertDao extends AbstractJpaDao<UUID, Concert> {
             Instant windowEndExclusive,
             List<ConcertStatus> blockingStatuses
     );
+
+    /**
+     * Persists a new concert and its tickets unless its place is already booked around its date.
+     *
+     * <p>The place row is locked before the conflict check, in the insert transaction, so writers
+     * going through this method never book the same slot twice, whatever the process they run in.
+     * Tickets are inserted as in {@link #saveWithTickets(Concert)}.</p>
+     *
+     * @param concert new concert carrying its place, date and initial tickets
+     * @param bookingDuration slot reserved on each side of a concert start date
+     * @param blockingStatuses statuses that should block a new reservation
+     * @return {@code false}, with nothing persisted, when the slot is already booked
+     */
+    public abstract boolean saveWithTicketsIfPlaceFree(
+            Concert concert,
+            Duration bookingDuration,
+            List<ConcertStatus> blockingStatuses
+    );
+
+    /**
+     * Persists a new concert and its tickets with batched inserts.
+     *
+     * <p>Tickets are written through a separate session sharing the connection and transaction,
+     * cleared at every JDBC batch boundary. Entities already loaded by the caller stay managed;
+     * the concert is refreshed and its tickets are loaded again on access.</p>
+     *
+     * @param concert new concert carrying its initial tickets
+     */
+    public abstract void saveWithTickets(Concert concert);
+
+    /**
+     * Returns concert identifiers in ascending order, after a given identifier.
+     *
+     * @param afterIdExclusive last identifier of the previous batch, {@code null} to start from the first one
+     * @param limit maximum number of identifiers returned
+     * @return concert identifiers
+     */
+    public abstract List<UUID> findConcertIdsAfter(UUID afterIdExclusive, int limit);
+
+    /**
+     * Recomputes the ticket counter caches of the given concerts when they drifted from their ticket rows.
+     *
+     * @param concertIds concerts to check, one batch at a time
+     * @return number of concerts updated
+     */
+    public abstract int reconcileTicketCounters(List<UUID> concertIds);
 }
@@ -20,6 +20,9 @@ public abstract class OrganizerConcertStatsDao extends AbstractJpaDao<UUID, Conc
     /**
      * Returns flattened stats rows for concerts created by one organizer.
      *
+     * <p>Sold counts are counted from the ticket rows rather than read from the concert counter,
+     * so a counter not reconciled yet cannot make the rows undercount sales.</p>
+     *
      * @param organizerId organizer identifier
      * @param fromInclusive lower concert date bound (inclusive), nullable
      * @param toInclusive upper concert date bound (inclusive), nullable
@@ -2,6 +2,7 @@ package jpa.dao.abstracts;
 
 import jpa.dao.generic.AbstractJpaDao;
 import jpa.entities.RefreshToken;
+import jpa.entities.User;
 
 import java.time.Instant;
 import java.util.Optional;
@@ -32,4 +33,55 @@ public abstract class RefreshTokenDao extends AbstractJpaDao<UUID, RefreshToken>
      * @return optional latest token row for the user
      */
     public abstract Optional<RefreshToken> findLatestByUserId(UUID userId);
+
+    /**
+     * Revokes an active refresh token and stores its replacement in a single transaction.
+     *
+     * <p>The revocation is a conditional update, so of two concurrent rotations of the same token
+     * only one succeeds.</p>
+     *
+     * @param tokenHash hash of the token being rotated
+     * @param replacementHash hash of the new token
+     * @param replacementExpiresAt expiration of the new token
+     * @param now current instant, used for expiration filtering and as revocation time
+     * @return owner of the rotated token, empty when the token is unknown, revoked or expired
+     */
+    public abstract Optional<User> rotate(String tokenHash, String replacementHash, Instant replacementExpiresAt, Instant now);
+
+    /**
+     * Replaces the hash and expiration of an active refresh token, for schemas keeping one row per user.
+     *
+     * @param tokenHash hash of the token being rotated
+     * @param replacementHash hash of the new token
+     * @param replacementExpiresAt expiration of the new token
+     * @param now current instant used for expiration filtering
+     * @return owner of the rotated token, empty when the token is unknown, revoked or expired
+     */
+    public abstract Optional<User> rotateInPlace(
+            String tokenHash,
+            String replacementHash,
+            Instant replacementExpiresAt,
+            Instant now
+    );
+
+    /**
+     * Revokes an active refresh token.
+     *
+     * @param tokenHash hashed token value
+     * @param now current instant, used for expiration filtering and as revocation time
+     * @return {@code true} when an active token was revoked
+     */
+    public abstract boolean revoke(String tokenHash, Instant now);
+
+    /**
+     * Deletes one batch of refresh tokens that expired or were revoked before a cutoff.
+     *
+     * <p>Each batch is deleted by primary key in its own short transaction, so callers purge a
+     * large backlog by calling this method until it returns less than {@code batchSize}.</p>
+     *
+     * @param cutoff tokens expired or revoked before this instant are deleted
+     * @param batchSize maximum number of rows deleted
+     * @return number of rows deleted
+     */
+    public abstract int deleteExpiredOrRevoked(Instant cutoff, int batchSize);
 }
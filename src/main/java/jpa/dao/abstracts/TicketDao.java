@@ -1,12 +1,16 @@
 package jpa.dao.abstracts;
 
 import jpa.dao.generic.AbstractJpaDao;
+import jpa.dao.pagination.KeysetPageQuery;
+import jpa.dto.pagination.ResponsePageDto;
 import jpa.dto.ticket.ResponseCustomerTicketDto;
 import jpa.entities.Customer;
 import jpa.entities.Ticket;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Abstract DAO contract for TicketDao.
@@ -42,10 +46,50 @@ public abstract class TicketDao extends AbstractJpaDao<UUID, Ticket> {
     public abstract List<Ticket> reserveAvailableTickets(UUID concertId, Customer customer, int quantity);
 
     /**
-     * Returns purchased tickets for one customer with concert/place projection.
+     * Returns identifiers of unsold tickets for one concert, oldest first.
+     *
+     * @param concertId target concert identifier
+     * @return available ticket identifiers in reservation order
+     */
+    public abstract List<UUID> findAvailableTicketIds(UUID concertId);
+
+    /**
+     * Returns identifiers of unsold tickets of every published concert, oldest first.
+     *
+     * @return available ticket identifiers grouped by concert identifier
+     */
+    public abstract Map<UUID, List<UUID>> findAvailableTicketIdsOfPublishedConcerts();
+
+    /**
+     * Marks already-selected tickets as sold to one customer with a single conditional update.
+     *
+     * <p>The concert sold counter is incremented in the same transaction, so it never disagrees
+     * with the committed ticket rows.</p>
+     *
+     * @param concertId concert owning the claimed tickets
+     * @param ticketIds identifiers claimed by the caller
+     * @param customer ticket buyer
+     * @return claimed tickets, or empty list if at least one of them was sold concurrently
+     */
+    public abstract List<Ticket> claimTickets(UUID concertId, List<UUID> ticketIds, Customer customer);
+
+    /**
+     * Streams purchased tickets for one customer with concert/place projection.
+     *
+     * @param customerId target customer identifier
+     * @return projected customer tickets, to be closed by the caller
+     */
+    public abstract Stream<ResponseCustomerTicketDto> streamCustomerTicketsProjection(UUID customerId);
+
+    /**
+     * Returns one page of purchased tickets for one customer, ordered by concert date then ticket id.
      *
      * @param customerId target customer identifier
-     * @return projected customer tickets
+     * @param page       keyset page and filters
+     * @return page of projected customer tickets
      */
-    public abstract List<ResponseCustomerTicketDto> findCustomerTicketsProjection(UUID customerId);
+    public abstract ResponsePageDto<ResponseCustomerTicketDto> findCustomerTicketsPage(
+            UUID customerId,
+            KeysetPageQuery page
+    );
 }
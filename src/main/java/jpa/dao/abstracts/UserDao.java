@@ -22,4 +22,14 @@ public abstract class UserDao extends AbstractJpaDao<UUID, User> {
      * @return operation result
      */
     public abstract Optional<User> findByEmail(String email);
+
+    /**
+     * Trims and lower-cases the emails stored before they were normalized on write.
+     *
+     * <p>A row whose normalized email already belongs to another user is left untouched: it was
+     * already shadowed by that user for case-insensitive lookups.</p>
+     *
+     * @return number of users updated
+     */
+    public abstract int normalizeStoredEmails();
 }
@@ -2,10 +2,14 @@ package jpa.dao.generic;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityTransaction;
+import jakarta.persistence.TypedQuery;
+import jpa.entities.listeners.CatalogueVersion;
+import org.hibernate.jpa.HibernateHints;
 
 import java.io.Serializable;
 import java.util.List;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * Generic DAO infrastructure component AbstractJpaDao.
@@ -97,6 +101,31 @@ public abstract class AbstractJpaDao<K, T extends Serializable> implements IGene
         delete(entity);
     }
 
+    /**
+     * Streams query results through a forward-only JDBC cursor instead of materializing a list.
+     *
+     * <p>The persistence context is cleared every {@code fetchSize} rows, so memory stays flat
+     * whatever the result size; rows must therefore be projections or read-only entities that
+     * are consumed without lazy loading. The caller must close the stream to release the cursor.</p>
+     *
+     * @param query query to run
+     * @param fetchSize rows fetched per database round trip
+     * @param <R> row type
+     * @return lazily fetched rows
+     */
+    protected <R> Stream<R> streamResults(TypedQuery<R> query, int fetchSize) {
+        EntityManager em = getEntityManager();
+        long[] emitted = {0L};
+        return query.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .peek(row -> {
+                    if (++emitted[0] % fetchSize == 0) {
+                        em.clear();
+                    }
+                });
+    }
+
     protected <R> R executeInTransaction(Function<EntityManager, R> action) {
         EntityManager em = getEntityManager();
         EntityTransaction tx = em.getTransaction();
@@ -105,12 +134,15 @@ public abstract class AbstractJpaDao<K, T extends Serializable> implements IGene
             tx.begin();
             R result = action.apply(em);
             tx.commit();
+            // Catalogue writes become visible to HTTP validators only once committed.
+            CatalogueVersion.publishPendingChange();
             return result;
         } catch (RuntimeException ex) {
             // Roll back on any runtime failure to avoid partial writes.
             if (tx.isActive()) {
                 tx.rollback();
             }
+            CatalogueVersion.discardPendingChange();
             throw ex;
         }
     }
@@ -1,8 +1,15 @@
 package jpa.dao.generic;
 
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.Persistence;
+import jpa.config.DatabaseConfig;
+import jpa.metrics.MetricsRegistry;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
 
 /**
  * Generic DAO infrastructure component EntityManagerHelper.
@@ -13,7 +20,7 @@ public class EntityManagerHelper {
     private static final ThreadLocal<EntityManager> threadLocal;
 
     static {
-        emf = Persistence.createEntityManagerFactory("dev");
+        emf = Persistence.createEntityManagerFactory("dev", DatabaseConfig.resolvePersistenceOverrides());
         threadLocal = new ThreadLocal<>();
     }
 
@@ -28,6 +35,7 @@ public class EntityManagerHelper {
         if (em == null) {
             em = emf.createEntityManager();
             threadLocal.set(em);
+            MetricsRegistry.get().entityManagerOpened();
         }
         return em;
     }
@@ -40,6 +48,7 @@ public class EntityManagerHelper {
         if (em != null) {
             em.close();
             threadLocal.remove();
+            MetricsRegistry.get().entityManagerClosed();
         }
     }
 
@@ -50,6 +59,31 @@ public class EntityManagerHelper {
         emf.close();
     }
 
+    /**
+     * Returns the management bean of the pooled connection provider.
+     *
+     * @return pool bean, or {@code null} when the persistence unit is not backed by HikariCP
+     */
+    public static HikariPoolMXBean getConnectionPoolMXBean() {
+        ConnectionProvider provider = emf.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(ConnectionProvider.class);
+        if (provider == null || !provider.isUnwrappableAs(HikariDataSource.class)) {
+            return null;
+        }
+        return provider.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+    }
+
+    /**
+     * Returns the session factory statistics.
+     *
+     * @return statistics, or {@code null} when they are not collected
+     */
+    public static Statistics getStatistics() {
+        Statistics statistics = emf.unwrap(SessionFactoryImplementor.class).getStatistics();
+        return statistics.isStatisticsEnabled() ? statistics : null;
+    }
+
     /**
      * Executes beginTransaction operation.
      */
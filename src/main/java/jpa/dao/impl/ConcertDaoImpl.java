@@ -1,27 +1,212 @@
 package jpa.dao.impl;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import jpa.config.DatabaseConfig;
 import jpa.dao.abstracts.ConcertDao;
+import jpa.dao.pagination.KeysetCursor;
+import jpa.dao.pagination.KeysetPageQuery;
 import jpa.dto.concert.ResponseAdminConcertModerationDto;
 import jpa.dto.concert.ResponseConcertDetailsDto;
 import jpa.dto.concert.ResponseConcertPlaceDto;
 import jpa.dto.concert.ResponseOrganizerConcertDto;
+import jpa.dto.pagination.ResponsePageDto;
 import jpa.entities.Concert;
+import jpa.entities.Place;
+import jpa.entities.Ticket;
+import jpa.entities.listeners.CatalogueVersion;
 import jpa.enums.ConcertStatus;
+import org.hibernate.Session;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * JPA DAO implementation for ConcertDaoImpl.
  */
 public class ConcertDaoImpl extends ConcertDao {
+    private static final String PUBLISHED_WITH_PLACE_SELECT = """
+            SELECT
+                c.id,
+                c.title,
+                c.artist,
+                c.date,
+                p.name,
+                p.address,
+                p.zipCode,
+                p.city,
+                p.capacity,
+                COALESCE(c.ticketQuantity, 0) - COALESCE(c.ticketSold, 0),
+                c.unitPrice
+            FROM Concert c
+            LEFT JOIN c.place p
+            WHERE c.status = :status
+            """;
+
+    private static final String CONCERT_DETAILS_SELECT = """
+            SELECT
+                c.id,
+                c.title,
+                c.artist,
+                c.date,
+                c.status,
+                o.id,
+                a.id,
+                p.id,
+                c.createdAt,
+                c.updatedAt
+            FROM Concert c
+            LEFT JOIN c.organizer o
+            LEFT JOIN c.admin a
+            LEFT JOIN c.place p
+            WHERE c.status = :status
+            """;
+
+    private static final String MODERATION_SELECT = """
+            SELECT
+                c.id,
+                c.title,
+                c.artist,
+                c.createdAt,
+                c.date,
+                p.address,
+                p.zipCode,
+                p.city,
+                p.capacity,
+                COALESCE(c.ticketQuantity, 0),
+                o.firstName,
+                o.lastName
+            FROM Concert c
+            LEFT JOIN c.organizer o
+            LEFT JOIN c.place p
+            WHERE c.status = :status
+            """;
+
+    private static final String ORGANIZER_CONCERTS_SELECT = """
+            SELECT
+                c.title,
+                c.artist,
+                c.createdAt,
+                c.date,
+                c.status,
+                p.address,
+                p.zipCode,
+                p.city,
+                p.capacity,
+                COALESCE(c.ticketSold, 0),
+                COALESCE(c.ticketQuantity, 0),
+                c.id
+            FROM Concert c
+            JOIN c.organizer o
+            LEFT JOIN c.place p
+            WHERE o.id = :organizerId
+            """;
+
+    private final int insertBatchSize;
+    private final int streamFetchSize;
+
+    /**
+     * Creates a new instance of ConcertDaoImpl using the configured JDBC batch and fetch sizes.
+     */
+    public ConcertDaoImpl() {
+        this(DatabaseConfig.resolveJdbcBatchSize(), DatabaseConfig.resolveJdbcFetchSize());
+    }
+
+    /**
+     * Creates a new instance of ConcertDaoImpl.
+     *
+     * @param insertBatchSize number of tickets inserted between two flushes
+     * @param streamFetchSize number of rows fetched per round trip by streaming queries
+     */
+    public ConcertDaoImpl(int insertBatchSize, int streamFetchSize) {
+        this.insertBatchSize = insertBatchSize;
+        this.streamFetchSize = streamFetchSize;
+    }
+
+    /**
+     * Executes saveWithTickets operation.
+     *
+     * @param concert method parameter
+     */
+    @Override
+    public void saveWithTickets(Concert concert) {
+        List<Ticket> tickets = concert.getTickets() == null ? List.of() : concert.getTickets();
+
+        executeInTransaction(em -> {
+            persistWithTickets(em, concert, tickets);
+            return null;
+        });
+    }
+
+    /**
+     * Executes saveWithTicketsIfPlaceFree operation.
+     *
+     * @param concert method parameter
+     * @param bookingDuration method parameter
+     * @param blockingStatuses method parameter
+     * @return operation result
+     */
+    @Override
+    public boolean saveWithTicketsIfPlaceFree(
+            Concert concert,
+            Duration bookingDuration,
+            List<ConcertStatus> blockingStatuses
+    ) {
+        List<Ticket> tickets = concert.getTickets() == null ? List.of() : concert.getTickets();
+        UUID placeId = concert.getPlace().getId();
+        Instant date = concert.getDate();
+
+        boolean saved = executeInTransaction(em -> {
+            // Serializes bookings of the place: a concurrent writer waits here until this one commits.
+            em.find(Place.class, placeId, LockModeType.PESSIMISTIC_WRITE);
+            if (existsPlaceBookingConflict(
+                    em,
+                    placeId,
+                    date.minus(bookingDuration),
+                    date.plus(bookingDuration),
+                    blockingStatuses
+            )) {
+                return false;
+            }
+            persistWithTickets(em, concert, tickets);
+            return true;
+        });
+
+        return saved;
+    }
+
+    private void persistWithTickets(EntityManager em, Concert concert, List<Ticket> tickets) {
+        // Persist the concert alone so the cascade does not keep every ticket managed.
+        concert.setTickets(new ArrayList<>());
+        em.persist(concert);
+        em.flush();
+
+        // Tickets go through a child session on the same connection and transaction, cleared at every
+        // batch boundary, so the request persistence context only keeps the concert managed.
+        Session session = em.unwrap(Session.class);
+        try (Session ticketSession = session.sessionWithOptions().connection().openSession()) {
+            for (int i = 0; i < tickets.size(); i++) {
+                ticketSession.persist(tickets.get(i));
+                if ((i + 1) % insertBatchSize == 0) {
+                    ticketSession.flush();
+                    ticketSession.clear();
+                }
+            }
+            ticketSession.flush();
+        }
+        // Drops the empty ticket collection; it is loaded again from the inserted rows on access.
+        em.refresh(concert);
+    }
 
     /**
      * Executes findConcertsByDateRange operation.
@@ -46,18 +231,23 @@ public class ConcertDaoImpl extends ConcertDao {
     }
 
     /**
-     * Executes findByStatus operation.
+     * Executes findConcertDetailsProjectionByStatus operation.
      *
      * @param status method parameter
      * @return operation result
      */
     @Override
-    public List<Concert> findByStatus(ConcertStatus status) {
+    public List<ResponseConcertDetailsDto> findConcertDetailsProjectionByStatus(ConcertStatus status) {
         EntityManager em = getEntityManager();
-        String jpql = "SELECT c FROM Concert c WHERE c.status = :status ORDER BY c.date ASC";
-        return em.createQuery(jpql, Concert.class)
+        String jpql = CONCERT_DETAILS_SELECT + "ORDER BY c.date ASC";
+
+        List<Object[]> rows = em.createQuery(jpql, Object[].class)
                 .setParameter("status", status)
                 .getResultList();
+
+        return rows.stream()
+                .map(this::toPendingConcertDetailsProjection)
+                .toList();
     }
 
     /**
@@ -68,26 +258,7 @@ public class ConcertDaoImpl extends ConcertDao {
     @Override
     public List<ResponseConcertPlaceDto> findPublishedConcertsWithPlaceProjection() {
         EntityManager em = getEntityManager();
-        String jpql = """
-                SELECT
-                    c.id,
-                    c.title,
-                    c.artist,
-                    c.date,
-                    p.name,
-                    p.address,
-                    p.zipCode,
-                    p.city,
-                    p.capacity,
-                    COALESCE(SUM(CASE WHEN t.sold = false THEN 1 ELSE 0 END), 0),
-                    MIN(t.price)
-                FROM Concert c
-                LEFT JOIN c.place p
-                LEFT JOIN c.tickets t
-                WHERE c.status = :status
-                GROUP BY c.id, c.title, c.artist, c.date, p.name, p.address, p.zipCode, p.city, p.capacity
-                ORDER BY c.date ASC
-                """;
+        String jpql = PUBLISHED_WITH_PLACE_SELECT + "ORDER BY c.date ASC";
 
         List<Object[]> rows = em.createQuery(jpql, Object[].class)
                 .setParameter("status", ConcertStatus.PUBLISHED)
@@ -105,127 +276,173 @@ public class ConcertDaoImpl extends ConcertDao {
      */
     @Override
     public List<ResponseConcertDetailsDto> findPendingConcertDetailsProjection() {
+        return findConcertDetailsProjectionByStatus(ConcertStatus.PENDING_VALIDATION);
+    }
+
+    /**
+     * Executes streamConcertsForModerationByStatus operation.
+     *
+     * @param status method parameter
+     * @return operation result
+     */
+    @Override
+    public Stream<ResponseAdminConcertModerationDto> streamConcertsForModerationByStatus(ConcertStatus status) {
+        if (status == null) {
+            return Stream.empty();
+        }
+
         EntityManager em = getEntityManager();
-        String jpql = """
-                SELECT
-                    c.id,
-                    c.title,
-                    c.artist,
-                    c.date,
-                    c.status,
-                    o.id,
-                    a.id,
-                    p.id,
-                    c.createdAt,
-                    c.updatedAt
-                FROM Concert c
-                LEFT JOIN c.organizer o
-                LEFT JOIN c.admin a
-                LEFT JOIN c.place p
-                WHERE c.status = :status
-                ORDER BY c.date ASC
-                """;
+        String jpql = MODERATION_SELECT + "ORDER BY c.createdAt DESC";
+
+        return streamResults(em.createQuery(jpql, Object[].class).setParameter("status", status), streamFetchSize)
+                .map(this::toAdminConcertModerationProjection);
+    }
+
+    /**
+     * Executes findOrganizerConcertsProjection operation.
+     *
+     * @param organizerId method parameter
+     * @return operation result
+     */
+    @Override
+    public List<ResponseOrganizerConcertDto> findOrganizerConcertsProjection(UUID organizerId) {
+        if (organizerId == null) {
+            return List.of();
+        }
+
+        EntityManager em = getEntityManager();
+        String jpql = ORGANIZER_CONCERTS_SELECT + "ORDER BY c.createdAt DESC";
 
         List<Object[]> rows = em.createQuery(jpql, Object[].class)
-                .setParameter("status", ConcertStatus.PENDING_VALIDATION)
+                .setParameter("organizerId", organizerId)
                 .getResultList();
 
         return rows.stream()
-                .map(this::toPendingConcertDetailsProjection)
+                .map(this::toOrganizerConcertProjection)
                 .toList();
     }
 
     /**
-     * Executes findConcertsForModerationByStatus operation.
+     * Executes findConcertDetailsPage operation.
      *
      * @param status method parameter
+     * @param page   method parameter
      * @return operation result
      */
     @Override
-    public List<ResponseAdminConcertModerationDto> findConcertsForModerationByStatus(ConcertStatus status) {
-        if (status == null) {
-            return List.of();
-        }
+    public ResponsePageDto<ResponseConcertDetailsDto> findConcertDetailsPage(
+            ConcertStatus status,
+            KeysetPageQuery page
+    ) {
+        EntityManager em = getEntityManager();
+        String jpql = CONCERT_DETAILS_SELECT
+                + page.predicates("c.date", "c.id", "c.date", "p.city", false)
+                + page.orderBy("c.date", "c.id", false);
 
+        List<Object[]> rows = page.bind(em.createQuery(jpql, Object[].class))
+                .setParameter("status", status)
+                .getResultList();
+
+        return page.toPage(
+                rows,
+                row -> new KeysetCursor((Instant) row[3], (UUID) row[0]),
+                this::toPendingConcertDetailsProjection
+        );
+    }
+
+    /**
+     * Executes findPublishedConcertsWithPlacePage operation.
+     *
+     * @param page method parameter
+     * @return operation result
+     */
+    @Override
+    public ResponsePageDto<ResponseConcertPlaceDto> findPublishedConcertsWithPlacePage(KeysetPageQuery page) {
         EntityManager em = getEntityManager();
-        String jpql = """
-                SELECT
-                    c.id,
-                    c.title,
-                    c.artist,
-                    c.createdAt,
-                    c.date,
-                    p.address,
-                    p.zipCode,
-                    p.city,
-                    p.capacity,
-                    COUNT(t.id),
-                    o.firstName,
-                    o.lastName
-                FROM Concert c
-                LEFT JOIN c.organizer o
-                LEFT JOIN c.place p
-                LEFT JOIN c.tickets t
-                WHERE c.status = :status
-                GROUP BY c.id, c.title, c.artist, c.createdAt, c.date,
-                         p.address, p.zipCode, p.city, p.capacity,
-                         o.firstName, o.lastName
-                ORDER BY c.createdAt DESC
-                """;
+        String jpql = PUBLISHED_WITH_PLACE_SELECT
+                + page.predicates("c.date", "c.id", "c.date", "p.city", false)
+                + page.orderBy("c.date", "c.id", false);
 
-        List<Object[]> rows = em.createQuery(jpql, Object[].class)
+        List<Object[]> rows = page.bind(em.createQuery(jpql, Object[].class))
+                .setParameter("status", ConcertStatus.PUBLISHED)
+                .getResultList();
+
+        return page.toPage(
+                rows,
+                row -> new KeysetCursor((Instant) row[3], (UUID) row[0]),
+                this::toConcertPlaceProjection
+        );
+    }
+
+    /**
+     * Executes findConcertsForModerationPage operation.
+     *
+     * @param status method parameter
+     * @param page   method parameter
+     * @return operation result
+     */
+    @Override
+    public ResponsePageDto<ResponseAdminConcertModerationDto> findConcertsForModerationPage(
+            ConcertStatus status,
+            KeysetPageQuery page
+    ) {
+        EntityManager em = getEntityManager();
+        String jpql = MODERATION_SELECT
+                + page.predicates("c.createdAt", "c.id", "c.date", "p.city", true)
+                + page.orderBy("c.createdAt", "c.id", true);
+
+        List<Object[]> rows = page.bind(em.createQuery(jpql, Object[].class))
                 .setParameter("status", status)
                 .getResultList();
 
-        return rows.stream()
-                .map(this::toAdminConcertModerationProjection)
-                .toList();
+        return page.toPage(
+                rows,
+                row -> new KeysetCursor((Instant) row[3], (UUID) row[0]),
+                this::toAdminConcertModerationProjection
+        );
     }
 
     /**
-     * Executes findOrganizerConcertsProjection operation.
+     * Executes findOrganizerConcertsPage operation.
      *
      * @param organizerId method parameter
+     * @param page        method parameter
      * @return operation result
      */
     @Override
-    public List<ResponseOrganizerConcertDto> findOrganizerConcertsProjection(UUID organizerId) {
+    public ResponsePageDto<ResponseOrganizerConcertDto> findOrganizerConcertsPage(
+            UUID organizerId,
+            KeysetPageQuery page
+    ) {
         if (organizerId == null) {
-            return List.of();
+            return new ResponsePageDto<>(List.of(), null);
         }
 
         EntityManager em = getEntityManager();
-        String jpql = """
-                SELECT
-                    c.title,
-                    c.artist,
-                    c.createdAt,
-                    c.date,
-                    c.status,
-                    p.address,
-                    p.zipCode,
-                    p.city,
-                    p.capacity,
-                    COALESCE(SUM(CASE WHEN t.sold = true THEN 1 ELSE 0 END), 0),
-                    COUNT(t.id)
-                FROM Concert c
-                JOIN c.organizer o
-                LEFT JOIN c.place p
-                LEFT JOIN c.tickets t
-                WHERE o.id = :organizerId
-                GROUP BY c.id, c.title, c.artist, c.createdAt, c.date, c.status, p.address, p.zipCode, p.city, p.capacity
-                ORDER BY c.createdAt DESC
-                """;
+        String jpql = ORGANIZER_CONCERTS_SELECT
+                + page.predicates("c.createdAt", "c.id", "c.date", "p.city", true)
+                + page.orderBy("c.createdAt", "c.id", true);
 
-        List<Object[]> rows = em.createQuery(jpql, Object[].class)
+        List<Object[]> rows = page.bind(em.createQuery(jpql, Object[].class))
                 .setParameter("organizerId", organizerId)
                 .getResultList();
 
-        return rows.stream()
-                .map(this::toOrganizerConcertProjection)
-                .toList();
+        return page.toPage(
+                rows,
+                row -> new KeysetCursor((Instant) row[2], (UUID) row[11]),
+                this::toOrganizerConcertProjection
+        );
     }
 
+    /**
+     * Executes existsPlaceBookingConflict operation.
+     *
+     * @param placeId method parameter
+     * @param windowStartExclusive method parameter
+     * @param windowEndExclusive method parameter
+     * @param blockingStatuses method parameter
+     * @return operation result
+     */
     @Override
     public boolean existsPlaceBookingConflict(
             UUID placeId,
@@ -233,7 +450,22 @@ public class ConcertDaoImpl extends ConcertDao {
             Instant windowEndExclusive,
             List<ConcertStatus> blockingStatuses
     ) {
-        EntityManager em = getEntityManager();
+        return existsPlaceBookingConflict(
+                getEntityManager(),
+                placeId,
+                windowStartExclusive,
+                windowEndExclusive,
+                blockingStatuses
+        );
+    }
+
+    private static boolean existsPlaceBookingConflict(
+            EntityManager em,
+            UUID placeId,
+            Instant windowStartExclusive,
+            Instant windowEndExclusive,
+            List<ConcertStatus> blockingStatuses
+    ) {
         String jpql = """
                 SELECT COUNT(c)
                 FROM Concert c
@@ -253,7 +485,65 @@ public class ConcertDaoImpl extends ConcertDao {
         return count != null && count > 0;
     }
 
-    private ResponseConcertPlaceDto toConcertPlaceProjection(Object[] row) {
+    /**
+     * Executes findConcertIdsAfter operation.
+     *
+     * @param afterIdExclusive method parameter
+     * @param limit method parameter
+     * @return operation result
+     */
+    @Override
+    public List<UUID> findConcertIdsAfter(UUID afterIdExclusive, int limit) {
+        EntityManager em = getEntityManager();
+        String jpql = afterIdExclusive == null
+                ? "SELECT c.id FROM Concert c ORDER BY c.id ASC"
+                : "SELECT c.id FROM Concert c WHERE c.id > :afterId ORDER BY c.id ASC";
+
+        TypedQuery<UUID> query = em.createQuery(jpql, UUID.class).setMaxResults(limit);
+        if (afterIdExclusive != null) {
+            query.setParameter("afterId", afterIdExclusive);
+        }
+        return query.getResultList();
+    }
+
+    /**
+     * Executes reconcileTicketCounters operation.
+     *
+     * @param concertIds method parameter
+     * @return operation result
+     */
+    @Override
+    public int reconcileTicketCounters(List<UUID> concertIds) {
+        if (concertIds == null || concertIds.isEmpty()) {
+            return 0;
+        }
+
+        return executeInTransaction(em -> {
+            // Restricted to one batch of concerts so ticket rows are only scanned through the concert index.
+            String jpql = """
+                    UPDATE Concert c
+                    SET c.ticketQuantity = (SELECT COUNT(t) FROM Ticket t WHERE t.concert = c),
+                        c.ticketSold = (SELECT COUNT(t) FROM Ticket t WHERE t.concert = c AND t.sold = true),
+                        c.unitPrice = (SELECT MIN(t.price) FROM Ticket t WHERE t.concert = c)
+                    WHERE c.id IN :concertIds
+                      AND (c.ticketQuantity IS NULL
+                       OR c.ticketSold IS NULL
+                       OR (c.unitPrice IS NULL AND EXISTS (SELECT t FROM Ticket t WHERE t.concert = c))
+                       OR c.ticketQuantity <> (SELECT COUNT(t) FROM Ticket t WHERE t.concert = c)
+                       OR c.ticketSold <> (SELECT COUNT(t) FROM Ticket t WHERE t.concert = c AND t.sold = true))
+                    """;
+            int updated = em.createQuery(jpql)
+                    .setParameter("concertIds", concertIds)
+                    .executeUpdate();
+            if (updated > 0) {
+                // Bulk updates bypass entity listeners.
+                CatalogueVersion.markChanged();
+            }
+            return updated;
+        });
+    }
+
+    ResponseConcertPlaceDto toConcertPlaceProjection(Object[] row) {
         UUID concertId = (UUID) row[0];
         String concertTitle = (String) row[1];
         String concertArtist = (String) row[2];
@@ -283,7 +573,7 @@ public class ConcertDaoImpl extends ConcertDao {
         );
     }
 
-    private ResponseConcertDetailsDto toPendingConcertDetailsProjection(Object[] row) {
+    ResponseConcertDetailsDto toPendingConcertDetailsProjection(Object[] row) {
         UUID concertId = (UUID) row[0];
         String concertTitle = (String) row[1];
         String concertArtist = (String) row[2];
@@ -309,7 +599,7 @@ public class ConcertDaoImpl extends ConcertDao {
         );
     }
 
-    private ResponseOrganizerConcertDto toOrganizerConcertProjection(Object[] row) {
+    ResponseOrganizerConcertDto toOrganizerConcertProjection(Object[] row) {
         String concertTitle = (String) row[0];
         String concertArtist = (String) row[1];
         Instant concertCreatedAt = (Instant) row[2];
@@ -337,7 +627,7 @@ public class ConcertDaoImpl extends ConcertDao {
         );
     }
 
-    private ResponseAdminConcertModerationDto toAdminConcertModerationProjection(Object[] row) {
+    ResponseAdminConcertModerationDto toAdminConcertModerationProjection(Object[] row) {
         UUID concertId = (UUID) row[0];
         String concertTitle = (String) row[1];
         String concertArtist = (String) row[2];
@@ -3,6 +3,7 @@ package jpa.dao.impl;
 import jakarta.persistence.EntityManager;
 import jpa.dao.abstracts.CustomerDao;
 import jpa.entities.Customer;
+import jpa.entities.User;
 
 import java.util.List;
 import java.util.Optional;
@@ -23,10 +24,11 @@ public class CustomerDaoImpl extends CustomerDao {
             return Optional.empty();
         }
 
+        // Emails are stored normalized: an equality on the column is a single unique-index probe.
         EntityManager em = getEntityManager();
-        String jpql = "SELECT c FROM Customer c WHERE LOWER(c.email) = LOWER(:email)";
+        String jpql = "SELECT c FROM Customer c WHERE c.email = :email";
         List<Customer> result = em.createQuery(jpql, Customer.class)
-                .setParameter("email", email.trim())
+                .setParameter("email", User.normalizeEmail(email))
                 .setMaxResults(1)
                 .getResultList();
 
@@ -45,14 +45,13 @@ public class OrganizerConcertStatsDaoImpl extends OrganizerConcertStatsDao {
                     p.zipCode,
                     p.city,
                     p.capacity,
-                    COUNT(t.id),
-                    COALESCE(SUM(CASE WHEN t.sold = true THEN 1 ELSE 0 END), 0),
-                    MIN(t.price)
+                    CAST(COALESCE(c.ticketQuantity, 0) AS Long),
+                    (SELECT COUNT(t) FROM Ticket t WHERE t.concert = c AND t.sold = true),
+                    c.unitPrice
                 )
                 FROM Concert c
                 JOIN c.organizer o
                 LEFT JOIN c.place p
-                LEFT JOIN c.tickets t
                 WHERE o.id = :organizerId
                 """);
 
@@ -63,11 +62,7 @@ public class OrganizerConcertStatsDaoImpl extends OrganizerConcertStatsDao {
             jpql.append(" AND c.date <= :toInclusive");
         }
 
-        jpql.append("""
-                 GROUP BY c.id, c.title, c.artist, c.createdAt, c.date, c.status,
-                          p.name, p.address, p.zipCode, p.city, p.capacity
-                 ORDER BY c.createdAt DESC
-                """);
+        jpql.append(" ORDER BY c.createdAt DESC");
 
         var query = em.createQuery(jpql.toString(), ResponseOrganizerConcertStatsRowDto.class)
                 .setParameter("organizerId", organizerId);
@@ -3,6 +3,7 @@ package jpa.dao.impl;
 import jakarta.persistence.EntityManager;
 import jpa.dao.abstracts.PlaceDao;
 import jpa.dto.place.ResponsePlaceDto;
+import org.hibernate.jpa.HibernateHints;
 
 import java.util.List;
 
@@ -11,9 +12,17 @@ import java.util.List;
  */
 public class PlaceDaoImpl extends PlaceDao {
 
+    /**
+     * Query-cache region holding the place listing.
+     */
+    public static final String PLACE_PROJECTIONS_CACHE_REGION = "place-projections";
+
     /**
      * Returns all places using JPQL projection.
      *
+     * <p>The result is kept in the query cache and invalidated whenever the {@code places} table
+     * is written through Hibernate.</p>
+     *
      * @return place projections
      */
     @Override
@@ -33,6 +42,8 @@ public class PlaceDaoImpl extends PlaceDao {
                 """;
 
         return em.createQuery(jpql, ResponsePlaceDto.class)
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
+                .setHint(HibernateHints.HINT_CACHE_REGION, PLACE_PROJECTIONS_CACHE_REGION)
                 .getResultList();
     }
 }
@@ -3,8 +3,10 @@ package jpa.dao.impl;
 import jakarta.persistence.EntityManager;
 import jpa.dao.abstracts.RefreshTokenDao;
 import jpa.entities.RefreshToken;
+import jpa.entities.User;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -13,6 +15,20 @@ import java.util.UUID;
  * JPA DAO implementation for refresh token access.
  */
 public class RefreshTokenDaoImpl extends RefreshTokenDao {
+    private static final String REVOKE_ACTIVE = """
+            UPDATE RefreshToken rt
+            SET rt.revokedAt = :now,
+                rt.updatedAt = :now
+            WHERE rt.tokenHash = :tokenHash
+              AND rt.revokedAt IS NULL
+              AND rt.expiresAt > :now
+            """;
+
+    private static final String OWNER_BY_HASH = """
+            SELECT rt.user
+            FROM RefreshToken rt
+            WHERE rt.tokenHash = :tokenHash
+            """;
 
     /**
      * {@inheritDoc}
@@ -65,4 +81,124 @@ public class RefreshTokenDaoImpl extends RefreshTokenDao {
 
         return result.stream().findFirst();
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<User> rotate(String tokenHash, String replacementHash, Instant replacementExpiresAt, Instant now) {
+        if (tokenHash == null || tokenHash.isBlank() || now == null) {
+            return Optional.empty();
+        }
+
+        return executeInTransaction(em -> {
+            int revoked = em.createQuery(REVOKE_ACTIVE)
+                    .setParameter("tokenHash", tokenHash)
+                    .setParameter("now", now)
+                    .executeUpdate();
+            if (revoked == 0) {
+                return Optional.empty();
+            }
+
+            User owner = findOwner(em, tokenHash);
+            RefreshToken replacement = new RefreshToken();
+            replacement.setUser(owner);
+            replacement.setTokenHash(replacementHash);
+            replacement.setExpiresAt(replacementExpiresAt);
+            em.persist(replacement);
+            return Optional.of(owner);
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<User> rotateInPlace(
+            String tokenHash,
+            String replacementHash,
+            Instant replacementExpiresAt,
+            Instant now
+    ) {
+        if (tokenHash == null || tokenHash.isBlank() || now == null) {
+            return Optional.empty();
+        }
+
+        return executeInTransaction(em -> {
+            String jpql = """
+                    UPDATE RefreshToken rt
+                    SET rt.tokenHash = :replacementHash,
+                        rt.expiresAt = :replacementExpiresAt,
+                        rt.updatedAt = :now
+                    WHERE rt.tokenHash = :tokenHash
+                      AND rt.revokedAt IS NULL
+                      AND rt.expiresAt > :now
+                    """;
+            int replaced = em.createQuery(jpql)
+                    .setParameter("replacementHash", replacementHash)
+                    .setParameter("replacementExpiresAt", replacementExpiresAt)
+                    .setParameter("tokenHash", tokenHash)
+                    .setParameter("now", now)
+                    .executeUpdate();
+            return replaced == 0 ? Optional.empty() : Optional.of(findOwner(em, replacementHash));
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean revoke(String tokenHash, Instant now) {
+        if (tokenHash == null || tokenHash.isBlank() || now == null) {
+            return false;
+        }
+
+        return executeInTransaction(em -> em.createQuery(REVOKE_ACTIVE)
+                .setParameter("tokenHash", tokenHash)
+                .setParameter("now", now)
+                .executeUpdate() > 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int deleteExpiredOrRevoked(Instant cutoff, int batchSize) {
+        if (cutoff == null || batchSize <= 0) {
+            return 0;
+        }
+
+        EntityManager em = getEntityManager();
+        // Two selects, each served by its own index, instead of one OR predicate scanning the table.
+        List<UUID> ids = new ArrayList<>(em.createQuery(
+                        "SELECT rt.id FROM RefreshToken rt WHERE rt.expiresAt < :cutoff", UUID.class)
+                .setParameter("cutoff", cutoff)
+                .setMaxResults(batchSize)
+                .getResultList());
+        if (ids.size() < batchSize) {
+            ids.addAll(em.createQuery("""
+                            SELECT rt.id
+                            FROM RefreshToken rt
+                            WHERE rt.revokedAt < :cutoff
+                              AND rt.expiresAt >= :cutoff
+                            """, UUID.class)
+                    .setParameter("cutoff", cutoff)
+                    .setMaxResults(batchSize - ids.size())
+                    .getResultList());
+        }
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        return executeInTransaction(transactionEm -> transactionEm
+                .createQuery("DELETE FROM RefreshToken rt WHERE rt.id IN :ids")
+                .setParameter("ids", ids)
+                .executeUpdate());
+    }
+
+    private static User findOwner(EntityManager em, String tokenHash) {
+        return em.createQuery(OWNER_BY_HASH, User.class)
+                .setParameter("tokenHash", tokenHash)
+                .getSingleResult();
+    }
 }
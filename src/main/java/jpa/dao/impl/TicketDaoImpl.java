@@ -2,18 +2,70 @@ package jpa.dao.impl;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.OptimisticLockException;
+import jpa.config.DatabaseConfig;
 import jpa.dao.abstracts.TicketDao;
+import jpa.dao.pagination.KeysetCursor;
+import jpa.dao.pagination.KeysetPageQuery;
+import jpa.dto.pagination.ResponsePageDto;
 import jpa.dto.ticket.ResponseCustomerTicketDto;
 import jpa.entities.Customer;
 import jpa.entities.Ticket;
+import jpa.entities.listeners.CatalogueVersion;
+import jpa.enums.ConcertStatus;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * JPA DAO implementation for TicketDaoImpl.
  */
 public class TicketDaoImpl extends TicketDao {
+    private static final String CUSTOMER_TICKETS_SELECT = """
+            SELECT new jpa.dto.ticket.ResponseCustomerTicketDto(
+                t.id,
+                t.price,
+                t.barcode,
+                c.title,
+                c.artist,
+                c.date,
+                p.name,
+                p.address,
+                p.zipCode,
+                p.city,
+                p.capacity
+            )
+            FROM Ticket t
+            JOIN t.customer cu
+            JOIN t.concert c
+            LEFT JOIN c.place p
+            WHERE cu.id = :customerId
+              AND t.sold = true
+            """;
+
+    private final int streamFetchSize;
+
+    /**
+     * Creates a new instance of TicketDaoImpl using the configured JDBC fetch size.
+     */
+    public TicketDaoImpl() {
+        this(DatabaseConfig.resolveJdbcFetchSize());
+    }
+
+    /**
+     * Creates a new instance of TicketDaoImpl.
+     *
+     * @param streamFetchSize number of rows fetched per round trip by streaming queries
+     */
+    public TicketDaoImpl(int streamFetchSize) {
+        this.streamFetchSize = streamFetchSize;
+    }
 
     /**
      * Executes findByPriceLowerThan operation.
@@ -80,49 +132,188 @@ public class TicketDaoImpl extends TicketDao {
                 ticket.setSold(true);
                 ticket.setCustomer(managedCustomer);
             }
+            incrementSoldCounter(em, concertId, available.size());
 
             return available;
         });
     }
 
     /**
-     * Executes findCustomerTicketsProjection operation.
+     * Executes findAvailableTicketIds operation.
      *
-     * @param customerId method parameter
+     * @param concertId method parameter
      * @return operation result
      */
     @Override
-    public List<ResponseCustomerTicketDto> findCustomerTicketsProjection(UUID customerId) {
-        if (customerId == null) {
+    public List<UUID> findAvailableTicketIds(UUID concertId) {
+        if (concertId == null) {
             return List.of();
         }
 
         EntityManager em = getEntityManager();
         String jpql = """
-                SELECT new jpa.dto.ticket.ResponseCustomerTicketDto(
-                    t.id,
-                    t.price,
-                    t.barcode,
-                    c.title,
-                    c.artist,
-                    c.date,
-                    p.name,
-                    p.address,
-                    p.zipCode,
-                    p.city,
-                    p.capacity
-                )
+                SELECT t.id
+                FROM Ticket t
+                WHERE t.concert.id = :concertId
+                  AND t.sold = false
+                ORDER BY t.createdAt ASC
+                """;
+
+        return em.createQuery(jpql, UUID.class)
+                .setParameter("concertId", concertId)
+                .getResultList();
+    }
+
+    /**
+     * Executes findAvailableTicketIdsOfPublishedConcerts operation.
+     *
+     * @return operation result
+     */
+    @Override
+    public Map<UUID, List<UUID>> findAvailableTicketIdsOfPublishedConcerts() {
+        EntityManager em = getEntityManager();
+        String jpql = """
+                SELECT c.id, t.id
                 FROM Ticket t
-                JOIN t.customer cu
                 JOIN t.concert c
-                LEFT JOIN c.place p
-                WHERE cu.id = :customerId
-                  AND t.sold = true
-                ORDER BY c.date ASC, t.createdAt ASC
+                WHERE c.status = :status
+                  AND t.sold = false
+                ORDER BY c.id ASC, t.createdAt ASC
                 """;
 
-        return em.createQuery(jpql, ResponseCustomerTicketDto.class)
+        Map<UUID, List<UUID>> ticketIdsByConcert = new LinkedHashMap<>();
+        List<Object[]> rows = em.createQuery(jpql, Object[].class)
+                .setParameter("status", ConcertStatus.PUBLISHED)
+                .getResultList();
+        for (Object[] row : rows) {
+            ticketIdsByConcert.computeIfAbsent((UUID) row[0], ignored -> new ArrayList<>()).add((UUID) row[1]);
+        }
+        return ticketIdsByConcert;
+    }
+
+    /**
+     * Executes claimTickets operation.
+     *
+     * @param concertId method parameter
+     * @param ticketIds method parameter
+     * @param customer method parameter
+     * @return operation result
+     */
+    @Override
+    public List<Ticket> claimTickets(UUID concertId, List<UUID> ticketIds, Customer customer) {
+        if (concertId == null || ticketIds == null || ticketIds.isEmpty()
+                || customer == null || customer.getId() == null) {
+            return List.of();
+        }
+
+        try {
+            return executeInTransaction(em -> {
+                Customer managedCustomer = em.getReference(Customer.class, customer.getId());
+                String updateJpql = """
+                        UPDATE Ticket t
+                        SET t.sold = true,
+                            t.customer = :customer,
+                            t.updatedAt = :now
+                        WHERE t.id IN :ticketIds
+                          AND t.concert.id = :concertId
+                          AND t.sold = false
+                        """;
+
+                int updated = em.createQuery(updateJpql)
+                        .setParameter("customer", managedCustomer)
+                        .setParameter("now", Instant.now())
+                        .setParameter("ticketIds", ticketIds)
+                        .setParameter("concertId", concertId)
+                        .executeUpdate();
+                if (updated != ticketIds.size()) {
+                    // Another writer sold part of the claim: roll back the partial update.
+                    throw new OptimisticLockException("Claimed tickets are no longer available");
+                }
+
+                String selectJpql = """
+                        SELECT t
+                        FROM Ticket t
+                        WHERE t.id IN :ticketIds
+                        ORDER BY t.createdAt ASC
+                        """;
+                List<Ticket> claimed = em.createQuery(selectJpql, Ticket.class)
+                        .setParameter("ticketIds", ticketIds)
+                        .getResultList();
+                // Last statement of the transaction: the concert row stays locked only until commit.
+                incrementSoldCounter(em, concertId, updated);
+                return claimed;
+            });
+        } catch (OptimisticLockException ex) {
+            return List.of();
+        }
+    }
+
+    private void incrementSoldCounter(EntityManager em, UUID concertId, int soldCount) {
+        // Bulk updates bypass entity listeners.
+        CatalogueVersion.markChanged();
+        // Counters not reconciled yet stay null; the reconciliation job fills them from ticket rows.
+        String jpql = """
+                UPDATE Concert c
+                SET c.ticketSold = c.ticketSold + :soldCount
+                WHERE c.id = :concertId
+                  AND c.ticketSold IS NOT NULL
+                """;
+        em.createQuery(jpql)
+                .setParameter("soldCount", soldCount)
+                .setParameter("concertId", concertId)
+                .executeUpdate();
+    }
+
+    /**
+     * Executes streamCustomerTicketsProjection operation.
+     *
+     * @param customerId method parameter
+     * @return operation result
+     */
+    @Override
+    public Stream<ResponseCustomerTicketDto> streamCustomerTicketsProjection(UUID customerId) {
+        if (customerId == null) {
+            return Stream.empty();
+        }
+
+        EntityManager em = getEntityManager();
+        String jpql = CUSTOMER_TICKETS_SELECT + "ORDER BY c.date ASC, t.createdAt ASC";
+
+        return streamResults(
+                em.createQuery(jpql, ResponseCustomerTicketDto.class).setParameter("customerId", customerId),
+                streamFetchSize
+        );
+    }
+
+    /**
+     * Executes findCustomerTicketsPage operation.
+     *
+     * @param customerId method parameter
+     * @param page       method parameter
+     * @return operation result
+     */
+    @Override
+    public ResponsePageDto<ResponseCustomerTicketDto> findCustomerTicketsPage(
+            UUID customerId,
+            KeysetPageQuery page
+    ) {
+        if (customerId == null) {
+            return new ResponsePageDto<>(List.of(), null);
+        }
+
+        EntityManager em = getEntityManager();
+        String jpql = CUSTOMER_TICKETS_SELECT
+                + page.predicates("c.date", "t.id", "c.date", "p.city", false)
+                + page.orderBy("c.date", "t.id", false);
+
+        List<ResponseCustomerTicketDto> rows = page.bind(em.createQuery(jpql, ResponseCustomerTicketDto.class))
                 .setParameter("customerId", customerId)
                 .getResultList();
+
+        return page.toPage(
+                rows,
+                ticket -> new KeysetCursor(ticket.concertDate(), ticket.ticketId()),
+                Function.identity()
+        );
     }
 }
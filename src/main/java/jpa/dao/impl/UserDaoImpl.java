@@ -4,8 +4,13 @@ import jakarta.persistence.EntityManager;
 import jpa.dao.abstracts.UserDao;
 import jpa.entities.User;
 
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
 /**
  * JPA DAO implementation for UserDaoImpl.
@@ -24,13 +29,53 @@ public class UserDaoImpl extends UserDao {
             return Optional.empty();
         }
 
+        // Emails are stored normalized: an equality on the column is a single unique-index probe.
         EntityManager em = getEntityManager();
-        String jpql = "SELECT u FROM User u WHERE LOWER(u.email) = LOWER(:email)";
+        String jpql = "SELECT u FROM User u WHERE u.email = :email";
         List<User> result = em.createQuery(jpql, User.class)
-                .setParameter("email", email.trim())
+                .setParameter("email", User.normalizeEmail(email))
                 .setMaxResults(1)
                 .getResultList();
 
         return result.stream().findFirst();
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int normalizeStoredEmails() {
+        EntityManager em = getEntityManager();
+        List<Object[]> rows = em.createQuery(
+                        "SELECT u.id, u.email FROM User u WHERE u.email <> LOWER(TRIM(u.email))", Object[].class)
+                .getResultList();
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        // First row wins when several legacy emails only differ by case or spaces.
+        Map<String, UUID> idsByEmail = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            idsByEmail.putIfAbsent(User.normalizeEmail((String) row[1]), (UUID) row[0]);
+        }
+        Set<String> taken = new HashSet<>(em.createQuery(
+                        "SELECT u.email FROM User u WHERE u.email IN :emails", String.class)
+                .setParameter("emails", idsByEmail.keySet())
+                .getResultList());
+        idsByEmail.keySet().removeAll(taken);
+        if (idsByEmail.isEmpty()) {
+            return 0;
+        }
+
+        return executeInTransaction(transactionEm -> {
+            int updated = 0;
+            for (Map.Entry<String, UUID> entry : idsByEmail.entrySet()) {
+                updated += transactionEm.createQuery("UPDATE User u SET u.email = :email WHERE u.id = :id")
+                        .setParameter("email", entry.getKey())
+                        .setParameter("id", entry.getValue())
+                        .executeUpdate();
+            }
+            return updated;
+        });
+    }
 }
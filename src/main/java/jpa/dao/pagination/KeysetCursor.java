@@ -0,0 +1,52 @@
+package jpa.dao.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last row of a keyset page: its sort instant and its identifier.
+ *
+ * <p>Cursors are exchanged with clients as opaque URL-safe Base64 strings.</p>
+ *
+ * @param instant sort key of the last row
+ * @param id identifier of the last row, used as tie-breaker
+ */
+public record KeysetCursor(Instant instant, UUID id) {
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Encodes the cursor as an opaque token.
+     *
+     * @return URL-safe token
+     */
+    public String encode() {
+        String raw = instant.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     *
+     * @param token opaque token sent back by the client
+     * @return decoded cursor
+     * @throws IllegalArgumentException when the token is malformed
+     */
+    public static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("cursor is invalid");
+            }
+            return new KeysetCursor(
+                    Instant.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1))
+            );
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("cursor is invalid", ex);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package jpa.dao.pagination;
+
+import jakarta.persistence.TypedQuery;
+import jpa.dto.pagination.ResponsePageDto;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Keyset page request pushed down into listing queries.
+ *
+ * <p>Rows are ordered on {@code (sort instant, id)} and the page starts strictly after
+ * {@code after}, so fetching a page costs the same whatever its position. One extra row is
+ * fetched to know whether a next page exists.</p>
+ *
+ * @param limit maximum number of rows of the page
+ * @param after position of the last row of the previous page, {@code null} for the first page
+ * @param from inclusive lower bound of the concert date, optional
+ * @param to exclusive upper bound of the concert date, optional
+ * @param city exact place city, optional
+ */
+public record KeysetPageQuery(int limit, KeysetCursor after, Instant from, Instant to, String city) {
+
+    /**
+     * Builds the JPQL predicates of this page, each prefixed with {@code AND}.
+     *
+     * @param sortField path of the sort instant
+     * @param idField path of the tie-breaking identifier
+     * @param dateField path of the concert date filtered by {@code from}/{@code to}
+     * @param cityField path of the place city filtered by {@code city}
+     * @param descending whether rows are sorted in descending order
+     * @return JPQL fragment, empty when no predicate applies
+     */
+    public String predicates(String sortField, String idField, String dateField, String cityField, boolean descending) {
+        StringBuilder jpql = new StringBuilder();
+        if (after != null) {
+            // Equivalent to (sort, id) > (after), written with a plain range on the sort key
+            // so that the index on it can be used.
+            String comparison = descending ? "<" : ">";
+            jpql.append(" AND ").append(sortField).append(' ').append(comparison).append("= :afterInstant")
+                    .append(" AND (").append(sortField).append(' ').append(comparison).append(" :afterInstant")
+                    .append(" OR ").append(idField).append(' ').append(comparison).append(" :afterId)");
+        }
+        if (from != null) {
+            jpql.append(" AND ").append(dateField).append(" >= :fromDate");
+        }
+        if (to != null) {
+            jpql.append(" AND ").append(dateField).append(" < :toDate");
+        }
+        if (city != null) {
+            jpql.append(" AND ").append(cityField).append(" = :city");
+        }
+        return jpql.toString();
+    }
+
+    /**
+     * Builds the JPQL ordering matching {@link #predicates}.
+     *
+     * @param sortField path of the sort instant
+     * @param idField path of the tie-breaking identifier
+     * @param descending whether rows are sorted in descending order
+     * @return JPQL {@code ORDER BY} clause
+     */
+    public String orderBy(String sortField, String idField, boolean descending) {
+        String direction = descending ? " DESC" : " ASC";
+        return " ORDER BY " + sortField + direction + ", " + idField + direction;
+    }
+
+    /**
+     * Binds the parameters used by {@link #predicates} and limits the fetched rows.
+     *
+     * @param query query built with this page predicates
+     * @param <T> row type
+     * @return the same query
+     */
+    public <T> TypedQuery<T> bind(TypedQuery<T> query) {
+        if (after != null) {
+            query.setParameter("afterInstant", after.instant());
+            query.setParameter("afterId", after.id());
+        }
+        if (from != null) {
+            query.setParameter("fromDate", from);
+        }
+        if (to != null) {
+            query.setParameter("toDate", to);
+        }
+        if (city != null) {
+            query.setParameter("city", city);
+        }
+        return query.setMaxResults(limit + 1);
+    }
+
+    /**
+     * Maps fetched rows to a page, computing the next cursor from the last returned row.
+     *
+     * @param rows rows fetched with {@link #bind}, at most {@code limit + 1}
+     * @param cursorOf extracts the keyset position of a row
+     * @param mapper maps a row to its response item
+     * @param <R> row type
+     * @param <T> item type
+     * @return page of at most {@code limit} items
+     */
+    public <R, T> ResponsePageDto<T> toPage(
+            List<R> rows,
+            Function<R, KeysetCursor> cursorOf,
+            Function<R, T> mapper
+    ) {
+        boolean hasNext = rows.size() > limit;
+        List<R> pageRows = hasNext ? rows.subList(0, limit) : rows;
+
+        List<T> items = new ArrayList<>(pageRows.size());
+        for (R row : pageRows) {
+            items.add(mapper.apply(row));
+        }
+
+        String next = hasNext ? cursorOf.apply(pageRows.get(pageRows.size() - 1)).encode() : null;
+        return new ResponsePageDto<>(items, next);
+    }
+}
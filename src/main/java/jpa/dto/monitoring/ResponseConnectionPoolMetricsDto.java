@@ -0,0 +1,24 @@
+package jpa.dto.monitoring;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(name = "ConnectionPoolMetrics")
+public record ResponseConnectionPoolMetricsDto(
+        @Schema(description = "Connection pool name", example = "sir-hsqldb-pool")
+        String poolName,
+        @Schema(description = "Connections currently borrowed by application threads", example = "3")
+        int activeConnections,
+        @Schema(description = "Connections currently idle in the pool", example = "7")
+        int idleConnections,
+        @Schema(description = "Connections currently opened by the pool", example = "10")
+        int totalConnections,
+        @Schema(description = "Threads blocked waiting for a connection", example = "0")
+        int threadsAwaitingConnection,
+        @Schema(description = "Configured minimum number of idle connections", example = "2")
+        int minimumIdle,
+        @Schema(description = "Configured maximum pool size", example = "10")
+        int maximumPoolSize,
+        @Schema(description = "Active connections as a percentage of the maximum pool size", example = "30.0")
+        double saturationPct
+) {
+}
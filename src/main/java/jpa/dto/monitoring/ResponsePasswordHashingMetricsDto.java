@@ -0,0 +1,20 @@
+package jpa.dto.monitoring;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(name = "PasswordHashingMetrics")
+public record ResponsePasswordHashingMetricsDto(
+        @Schema(description = "Threads dedicated to password hashing", example = "4")
+        int poolSize,
+        @Schema(description = "Threads currently hashing", example = "2")
+        int activeThreads,
+        @Schema(description = "Requests waiting for a hashing thread", example = "0")
+        int queueDepth,
+        @Schema(description = "Maximum number of waiting requests before rejection", example = "64")
+        int queueCapacity,
+        @Schema(description = "Requests handled since startup", example = "1520")
+        long completedRequests,
+        @Schema(description = "Requests rejected with HTTP 503 since startup", example = "0")
+        long rejectedRequests
+) {
+}
@@ -0,0 +1,107 @@
+package jpa.dto.pagination;
+
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.QueryParam;
+import jpa.dao.pagination.KeysetCursor;
+import jpa.dao.pagination.KeysetPageQuery;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Query parameters of paginated listings.
+ *
+ * <p>When none of them is sent, listings keep returning the whole collection as a plain JSON
+ * array for compatibility; otherwise a {@link ResponsePageDto} is returned.</p>
+ */
+public class PageRequestParams {
+    /**
+     * Page size used when only a cursor or a filter is sent.
+     */
+    public static final int DEFAULT_LIMIT = 20;
+
+    /**
+     * Largest accepted page size.
+     */
+    public static final int MAX_LIMIT = 100;
+
+    @QueryParam("limit")
+    @Parameter(description = "Page size (1-" + MAX_LIMIT + ")", schema = @Schema(type = "integer", example = "20"))
+    private Integer limit;
+
+    @QueryParam("cursor")
+    @Parameter(description = "Opaque cursor returned as `next` by the previous page")
+    private String cursor;
+
+    @QueryParam("from")
+    @Parameter(
+            description = "Only concerts dated at or after this instant",
+            schema = @Schema(type = "string", format = "date-time")
+    )
+    private String from;
+
+    @QueryParam("to")
+    @Parameter(
+            description = "Only concerts dated strictly before this instant",
+            schema = @Schema(type = "string", format = "date-time")
+    )
+    private String to;
+
+    @QueryParam("city")
+    @Parameter(description = "Only concerts in this city (exact match)", example = "Rennes")
+    private String city;
+
+    /**
+     * Tells whether the client asked for a paginated response.
+     *
+     * @return {@code true} when any pagination or filter parameter is present
+     */
+    public boolean isRequested() {
+        return limit != null || cursor != null || from != null || to != null || city != null;
+    }
+
+    /**
+     * Validates the parameters and converts them to a DAO page query.
+     *
+     * @return page query
+     * @throws BadRequestException when a parameter is invalid
+     */
+    public KeysetPageQuery toQuery() {
+        int pageLimit = limit == null ? DEFAULT_LIMIT : limit;
+        if (pageLimit < 1 || pageLimit > MAX_LIMIT) {
+            throw new BadRequestException("limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        KeysetCursor after = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                after = KeysetCursor.decode(cursor);
+            } catch (IllegalArgumentException ex) {
+                throw new BadRequestException("cursor is invalid");
+            }
+        }
+
+        Instant fromDate = parseInstant("from", from);
+        Instant toDate = parseInstant("to", to);
+        if (fromDate != null && toDate != null && !fromDate.isBefore(toDate)) {
+            throw new BadRequestException("from must be before to");
+        }
+
+        String cityFilter = city == null || city.isBlank() ? null : city.trim();
+        return new KeysetPageQuery(pageLimit, after, fromDate, toDate, cityFilter);
+    }
+
+    private static Instant parseInstant(String name, String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+
+        try {
+            return Instant.parse(value.trim());
+        } catch (DateTimeParseException ex) {
+            throw new BadRequestException(name + " must be an ISO-8601 instant");
+        }
+    }
+}
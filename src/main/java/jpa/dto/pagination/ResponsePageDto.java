@@ -0,0 +1,24 @@
+package jpa.dto.pagination;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing.
+ *
+ * @param items page items, in listing order
+ * @param next opaque cursor of the next page, {@code null} on the last page
+ * @param <T> item type
+ */
+@Schema(name = "Page")
+public record ResponsePageDto<T>(
+        @Schema(description = "Page items")
+        List<T> items,
+        @Schema(
+                description = "Opaque cursor to pass as `cursor` to fetch the next page, absent on the last page",
+                nullable = true
+        )
+        String next
+) {
+}
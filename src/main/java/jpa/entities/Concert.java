@@ -1,8 +1,10 @@
 package jpa.entities;
 
 import jakarta.persistence.*;
+import jpa.entities.listeners.CatalogueChangeListener;
 import jpa.enums.ConcertStatus;
 
+import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
@@ -12,9 +14,25 @@ import java.util.List;
  *
  * <p>New concerts start in {@code PENDING_VALIDATION} status and become
  * publicly visible when promoted to {@code PUBLISHED}.</p>
+ *
+ * <p>{@code ticketQuantity}, {@code ticketSold} and {@code unitPrice} are counter caches of
+ * the ticket rows, maintained on creation and sale and periodically reconciled, so listings
+ * never need to aggregate tickets.</p>
+ *
+ * <p>Indexes follow the listing predicates: status then date for status listings, place then
+ * date for booking conflicts, organizer then creation for organizer listings. The trailing id
+ * matches the keyset tie-breaker.</p>
  */
 @Entity
-@Table(name = "concerts")
+@Table(
+        name = "concerts",
+        indexes = {
+                @Index(name = "idx_concerts_status_date", columnList = "status, date, id"),
+                @Index(name = "idx_concerts_place_date", columnList = "place_id, date"),
+                @Index(name = "idx_concerts_organizer_created_at", columnList = "organizer_id, createdAt, id")
+        }
+)
+@EntityListeners(CatalogueChangeListener.class)
 public class Concert extends BaseEntity {
 
     @Column(nullable = false)
@@ -32,21 +50,27 @@ public class Concert extends BaseEntity {
     @Column(nullable = false)
     private ConcertStatus status = ConcertStatus.PENDING_VALIDATION;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "admin_id")
     private Admin admin;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "organizer_id")
     private Organizer organizer;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "place_id")
     private Place place;
 
     @OneToMany(mappedBy = "concert", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Ticket> tickets = new ArrayList<>();
 
+    private Integer ticketQuantity;
+
+    private Integer ticketSold;
+
+    private BigDecimal unitPrice;
+
     /**
      * Returns the admin who validated the concert.
      *
@@ -208,4 +232,58 @@ public class Concert extends BaseEntity {
     public void setTickets(List<Ticket> tickets) {
         this.tickets = tickets;
     }
+
+    /**
+     * Returns the cached number of tickets created for this concert.
+     *
+     * @return ticket count, or {@code null} until counters are reconciled
+     */
+    public Integer getTicketQuantity() {
+        return ticketQuantity;
+    }
+
+    /**
+     * Sets the cached number of tickets created for this concert.
+     *
+     * @param ticketQuantity ticket count
+     */
+    public void setTicketQuantity(Integer ticketQuantity) {
+        this.ticketQuantity = ticketQuantity;
+    }
+
+    /**
+     * Returns the cached number of sold tickets.
+     *
+     * @return sold ticket count, or {@code null} until counters are reconciled
+     */
+    public Integer getTicketSold() {
+        return ticketSold;
+    }
+
+    /**
+     * Sets the cached number of sold tickets.
+     *
+     * @param ticketSold sold ticket count
+     */
+    public void setTicketSold(Integer ticketSold) {
+        this.ticketSold = ticketSold;
+    }
+
+    /**
+     * Returns the cached ticket unit price.
+     *
+     * @return unit price, or {@code null} until counters are reconciled
+     */
+    public BigDecimal getUnitPrice() {
+        return unitPrice;
+    }
+
+    /**
+     * Sets the cached ticket unit price.
+     *
+     * @param unitPrice unit price
+     */
+    public void setUnitPrice(BigDecimal unitPrice) {
+        this.unitPrice = unitPrice;
+    }
 }
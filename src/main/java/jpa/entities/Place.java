@@ -1,13 +1,28 @@
 package jpa.entities;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jpa.entities.listeners.CatalogueChangeListener;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * Venue reference entity used by concerts.
+ *
+ * <p>Places are seeded once and rarely change, so they live in the second-level cache; Hibernate
+ * updates the cached entry when a place is written and invalidates cached place queries.</p>
  */
 @Entity
-@Table(name = "places")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(
+        name = "places",
+        indexes = @Index(name = "idx_places_city", columnList = "city")
+)
+@EntityListeners(CatalogueChangeListener.class)
 public class Place extends BaseEntity {
 
     private String name;
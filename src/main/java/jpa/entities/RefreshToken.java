@@ -12,7 +12,8 @@ import java.time.Instant;
         name = "refresh_tokens",
         indexes = {
                 @Index(name = "idx_refresh_tokens_user", columnList = "user_id"),
-                @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at")
+                @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at"),
+                @Index(name = "idx_refresh_tokens_revoked_at", columnList = "revoked_at")
         },
         uniqueConstraints = {
                 @UniqueConstraint(name = "uk_refresh_tokens_token_hash", columnNames = "token_hash")
@@ -1,6 +1,7 @@
 package jpa.entities;
 
 import jakarta.persistence.*;
+import jpa.entities.listeners.CatalogueChangeListener;
 
 import java.math.BigDecimal;
 
@@ -9,9 +10,20 @@ import java.math.BigDecimal;
  *
  * <p>A ticket is available while {@code sold = false} and can later be
  * associated with a customer once purchased.</p>
+ *
+ * <p>HSQLDB has no partial indexes, so unsold tickets of a concert are located through the
+ * {@code (concert_id, sold, createdAt)} index: they form one contiguous range already in
+ * allocation order.</p>
  */
 @Entity
-@Table(name = "tickets")
+@Table(
+        name = "tickets",
+        indexes = {
+                @Index(name = "idx_tickets_concert_sold_created_at", columnList = "concert_id, sold, createdAt"),
+                @Index(name = "idx_tickets_customer_sold", columnList = "customer_id, sold")
+        }
+)
+@EntityListeners(CatalogueChangeListener.class)
 @NamedQuery(
         name = "Ticket.findAvailable",
         query = "SELECT t FROM Ticket t WHERE t.sold = false"
@@ -4,6 +4,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import jpa.security.PasswordHasher;
 
+import java.util.Locale;
+
 /**
  * JPA entity User.
  */
@@ -13,6 +15,10 @@ import jpa.security.PasswordHasher;
 @DiscriminatorColumn(name = "user_type")
 public abstract class User extends BaseEntity {
 
+    /**
+     * Stored trimmed and lower-cased, see {@link #normalizeEmail(String)}, so lookups compare it
+     * as is and use its unique index.
+     */
     @Column(nullable = false, unique = true)
     private String email;
 
@@ -35,10 +41,20 @@ public abstract class User extends BaseEntity {
     /**
      * Executes setEmail operation.
      *
-     * @param email method parameter
+     * @param email method parameter, stored normalized
      */
     public void setEmail(String email) {
-        this.email = email;
+        this.email = normalizeEmail(email);
+    }
+
+    /**
+     * Normalizes an email the way it is stored.
+     *
+     * @param email raw email, may be {@code null}
+     * @return trimmed, lower-cased email, or {@code null}
+     */
+    public static String normalizeEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
     }
 
     /**
@@ -0,0 +1,23 @@
+package jpa.entities.listeners;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Entity listener recording writes to catalogue entities in {@link CatalogueVersion}.
+ */
+public class CatalogueChangeListener {
+
+    /**
+     * Records an insert, update or delete of a catalogue entity.
+     *
+     * @param entity written entity
+     */
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onCatalogueWrite(Object entity) {
+        CatalogueVersion.markChanged();
+    }
+}
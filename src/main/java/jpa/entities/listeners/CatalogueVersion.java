@@ -0,0 +1,76 @@
+package jpa.entities.listeners;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonic version of the public catalogue data (places, concerts, tickets).
+ *
+ * <p>Writes are recorded per thread while a transaction is running and published only once it
+ * committed, so a reader can never observe a new version while still reading the old rows.
+ * HTTP validators (ETag, Last-Modified) are derived from this version.</p>
+ *
+ * <p>The version restarts at 0 on every boot and is not shared between instances, so it is only
+ * meaningful together with the {@link #epoch()} of the process that produced it.</p>
+ */
+public final class CatalogueVersion {
+    private static final String EPOCH = Long.toUnsignedString(new SecureRandom().nextLong(), 36);
+    private static final AtomicLong version = new AtomicLong();
+    private static final ThreadLocal<Boolean> pendingChange = new ThreadLocal<>();
+    private static volatile Instant lastModified = Instant.now();
+
+    private CatalogueVersion() {}
+
+    /**
+     * Records that the current transaction changed catalogue data.
+     */
+    public static void markChanged() {
+        pendingChange.set(Boolean.TRUE);
+    }
+
+    /**
+     * Publishes the change recorded by the transaction that just committed, if any.
+     */
+    public static void publishPendingChange() {
+        if (pendingChange.get() != null) {
+            pendingChange.remove();
+            lastModified = Instant.now();
+            version.incrementAndGet();
+        }
+    }
+
+    /**
+     * Forgets the change recorded by a transaction that rolled back.
+     */
+    public static void discardPendingChange() {
+        pendingChange.remove();
+    }
+
+    /**
+     * Returns the random identifier of this process, drawn at startup.
+     *
+     * @return epoch distinguishing versions of different boots or instances
+     */
+    public static String epoch() {
+        return EPOCH;
+    }
+
+    /**
+     * Returns the current catalogue version.
+     *
+     * @return version number
+     */
+    public static long current() {
+        return version.get();
+    }
+
+    /**
+     * Returns when the catalogue was last changed (or when the application started).
+     *
+     * @return last modification instant
+     */
+    public static Instant lastModified() {
+        return lastModified;
+    }
+}
@@ -0,0 +1,40 @@
+package jpa.exceptionhandlers;
+
+import jakarta.ws.rs.ServiceUnavailableException;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.ExceptionMapper;
+import jakarta.ws.rs.ext.Provider;
+
+/**
+ * Exception handler ServiceUnavailableExceptionHandler.
+ *
+ * <p>Load shedding is expected under bursts, so the message and the {@code Retry-After}
+ * header are kept and no stack trace is logged.</p>
+ */
+@Provider
+public class ServiceUnavailableExceptionHandler extends BaseExceptionMapper
+        implements ExceptionMapper<ServiceUnavailableException> {
+
+    /**
+     * Executes toResponse operation.
+     *
+     * @param ex method parameter
+     * @return operation result
+     */
+    @Override
+    public Response toResponse(ServiceUnavailableException ex) {
+        Response response = buildResponse(
+                Response.Status.SERVICE_UNAVAILABLE,
+                safeMessage(ex, Response.Status.SERVICE_UNAVAILABLE.getReasonPhrase())
+        );
+
+        String retryAfter = ex.getResponse() != null ? ex.getResponse().getHeaderString(HttpHeaders.RETRY_AFTER) : null;
+        if (retryAfter == null) {
+            return response;
+        }
+        return Response.fromResponse(response)
+                .header(HttpHeaders.RETRY_AFTER, retryAfter)
+                .build();
+    }
+}
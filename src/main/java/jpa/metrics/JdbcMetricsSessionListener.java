@@ -0,0 +1,41 @@
+package jpa.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate session listener feeding JDBC execution and transaction outcomes to the {@link MetricsRegistry}.
+ *
+ * <p>Registered through {@code hibernate.session.events.auto}, so Hibernate creates one per session;
+ * the listener itself is stateless.</p>
+ */
+public class JdbcMetricsSessionListener implements SessionEventListener {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        MetricsRegistry registry = MetricsRegistry.get();
+        registry.statementStarted();
+        registry.queryStarted();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        MetricsRegistry.get().queryCompleted();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        MetricsRegistry.get().queryStarted();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        MetricsRegistry.get().queryCompleted();
+    }
+
+    @Override
+    public void transactionCompletion(boolean successful) {
+        MetricsRegistry.get().transactionCompleted(successful);
+    }
+}
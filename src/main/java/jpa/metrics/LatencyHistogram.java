@@ -0,0 +1,100 @@
+package jpa.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with log-linear buckets, in the spirit of HdrHistogram.
+ *
+ * <p>Values are recorded in microseconds. Each power-of-two range is split into
+ * {@value #SUB_BUCKETS} linear sub-buckets, so a recorded value is known within about 6%
+ * from one microsecond up to {@value #MAX_EXPONENT}-bit values (about 38 hours, larger values are
+ * clamped). Recording increments two counters and never allocates.</p>
+ */
+public final class LatencyHistogram {
+
+    /**
+     * Upper bounds, in seconds, of the cumulative buckets exported to Prometheus.
+     */
+    static final double[] EXPORTED_BOUNDS_SECONDS = {
+            0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1.0, 2.5, 5.0, 10.0
+    };
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT = SUB_BUCKETS * 2;
+    private static final int MAX_EXPONENT = 37;
+    private static final long MAX_VALUE = (1L << MAX_EXPONENT) - 1;
+    private static final int BUCKET_COUNT = index(MAX_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder sumMicros = new LongAdder();
+
+    /**
+     * Records one duration.
+     *
+     * @param nanos duration in nanoseconds, negative values count as zero
+     */
+    public void recordNanos(long nanos) {
+        long micros = Math.min(Math.max(nanos / 1_000L, 0L), MAX_VALUE);
+        counts.incrementAndGet(index(micros));
+        sumMicros.add(micros);
+    }
+
+    /**
+     * Returns the sum of the recorded values.
+     *
+     * @return sum in seconds
+     */
+    public double sumSeconds() {
+        return sumMicros.sum() / 1e6;
+    }
+
+    /**
+     * Folds the fine-grained buckets into the exported cumulative buckets.
+     *
+     * <p>A fine bucket is counted under the first exported bound it fits under entirely, so an
+     * exported bucket may miss values at most one fine bucket (about 6%) below its bound.</p>
+     *
+     * @return cumulative counts, one per {@link #EXPORTED_BOUNDS_SECONDS} entry followed by the
+     *         total count ({@code +Inf} bucket)
+     */
+    long[] cumulativeExportedCounts() {
+        long[] cumulative = new long[EXPORTED_BOUNDS_SECONDS.length + 1];
+        int bound = 0;
+        long running = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            while (bound < EXPORTED_BOUNDS_SECONDS.length && upperBoundMicros(i) > EXPORTED_BOUNDS_SECONDS[bound] * 1e6) {
+                cumulative[bound++] = running;
+            }
+            running += counts.get(i);
+        }
+        while (bound < cumulative.length) {
+            cumulative[bound++] = running;
+        }
+        return cumulative;
+    }
+
+    private static int index(long micros) {
+        if (micros < LINEAR_LIMIT) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (micros >>> shift) - SUB_BUCKETS;
+        return LINEAR_LIMIT + (exponent - SUB_BUCKET_BITS - 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Returns the exclusive upper bound of a bucket in microseconds.
+     */
+    private static long upperBoundMicros(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index + 1L;
+        }
+        int offset = index - LINEAR_LIMIT;
+        int shift = offset / SUB_BUCKETS + 1;
+        long subBucket = SUB_BUCKETS + offset % SUB_BUCKETS;
+        return (subBucket + 1) << shift;
+    }
+}
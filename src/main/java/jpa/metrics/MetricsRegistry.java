@@ -0,0 +1,487 @@
+package jpa.metrics;
+
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.Path;
+import jpa.config.MetricsConfig;
+import jpa.config.MetricsConfig.StatementBudgetMode;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Process-wide request, JDBC and persistence-context metrics, rendered in the Prometheus text format.
+ *
+ * <p>The registry is a static singleton rather than an {@code Instance} field because Hibernate
+ * instantiates its session listener reflectively and {@code EntityManagerHelper} is initialised
+ * before the application wiring. Recording only touches preallocated counters and a
+ * {@link RequestSample} taken from a pool when the request starts and returned when it completes;
+ * allocation happens once per route and whenever the pool runs dry.</p>
+ *
+ * <p>The sample travels with the request (as a request property), so a request resumed on another
+ * thread is completed, and leaves the in-flight gauge, wherever it ends. JDBC callbacks find it
+ * through the thread that started the request.</p>
+ *
+ * <p>Requests executing more non-batched statements than the configured budget are counted per
+ * route and logged with their most repeated statement, or failed in {@code fail} mode.</p>
+ */
+public final class MetricsRegistry {
+
+    private static final MetricsRegistry INSTANCE = new MetricsRegistry();
+    private static final Logger logger = Logger.getLogger(MetricsRegistry.class.getName());
+    private static final String UNMATCHED_ROUTE = "unmatched";
+    private static final int SAMPLE_POOL_SIZE = 256;
+    private static final int SAMPLE_POOL_PROBES = 16;
+
+    private final ConcurrentMap<Method, RouteMetrics> routes = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, RouteMetrics> unmatchedRoutes = new ConcurrentHashMap<>();
+    private final AtomicReferenceArray<RequestSample> samplePool = new AtomicReferenceArray<>(SAMPLE_POOL_SIZE);
+    private final ThreadLocal<RequestSample> threadSamples = new ThreadLocal<>();
+    private final ThreadLocal<long[]> unattributedQueryStart = ThreadLocal.withInitial(() -> new long[1]);
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final LatencyHistogram dbQueryLatency = new LatencyHistogram();
+    private final LongAdder transactionsCommitted = new LongAdder();
+    private final LongAdder transactionsRolledBack = new LongAdder();
+    private final LongAdder entityManagersOpened = new LongAdder();
+    private final LongAdder entityManagersClosed = new LongAdder();
+    private final ConcurrentMap<String, JobMetrics> maintenanceJobs = new ConcurrentHashMap<>();
+    private final LongAdder refreshTokensPurged = new LongAdder();
+    private final int statementBudget = MetricsConfig.resolveStatementBudget();
+    private final boolean failOverBudget =
+            MetricsConfig.resolveStatementBudgetMode() == StatementBudgetMode.FAIL;
+
+    private MetricsRegistry() {}
+
+    /**
+     * Returns the process-wide registry.
+     *
+     * @return registry
+     */
+    public static MetricsRegistry get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Starts timing a request on the calling thread.
+     *
+     * @return sample of the request, handed back to {@link #requestCompleted(RequestSample)} by the caller
+     */
+    RequestSample requestStarted() {
+        RequestSample sample = acquireSample();
+        sample.start(System.nanoTime(), Thread.currentThread());
+        threadSamples.set(sample);
+        inFlight.incrementAndGet();
+        return sample;
+    }
+
+    /**
+     * Attaches the matched route and final status to a request.
+     *
+     * <p>An asynchronous request may reach this point on another thread than the one that started
+     * it; JDBC statements run on that thread are not attributed to the route.</p>
+     *
+     * @param sample sample returned by {@link #requestStarted()}
+     * @param resourceMethod matched resource method, {@code null} when no resource matched
+     * @param httpMethod request method
+     * @param status response status
+     */
+    void requestRouted(RequestSample sample, Method resourceMethod, String httpMethod, int status) {
+        sample.route = resolveRoute(resourceMethod, httpMethod);
+        sample.status = status;
+    }
+
+    /**
+     * Records a request once its response is written, then returns its sample to the pool.
+     *
+     * <p>Called exactly once per request, on whichever thread completes it.</p>
+     *
+     * @param sample sample returned by {@link #requestStarted()}
+     */
+    void requestCompleted(RequestSample sample) {
+        if (sample.route != null) {
+            sample.route.record(sample.status, System.nanoTime() - sample.startNanos, sample.queries, sample.queryNanos);
+            if (sample.statements > statementBudget && statementBudget > 0) {
+                reportOverBudget(sample);
+            }
+        }
+        // Detach from the starting thread first: its thread-local may still point to the sample.
+        sample.owner = null;
+        inFlight.decrementAndGet();
+        releaseSample(sample);
+    }
+
+    /**
+     * Remembers the SQL prepared on the calling thread, counted if it runs outside a JDBC batch.
+     *
+     * @param sql statement text
+     */
+    public void statementPrepared(String sql) {
+        RequestSample sample = currentSample();
+        if (sample != null) {
+            sample.preparedSql = sql;
+        }
+    }
+
+    /**
+     * Counts a non-batched JDBC statement against the budget of the request on the calling thread.
+     *
+     * @throws IllegalStateException in {@code fail} mode, when the statement exceeds the budget
+     */
+    public void statementStarted() {
+        RequestSample sample = currentSample();
+        if (sample == null) {
+            return;
+        }
+        sample.statements++;
+        sample.countRepeat(sample.preparedSql);
+        sample.preparedSql = null;
+        if (failOverBudget && statementBudget > 0 && sample.statements > statementBudget) {
+            throw new IllegalStateException("Request exceeded its budget of " + statementBudget
+                    + " SQL statements, most repeated: " + sample.mostRepeatedSql());
+        }
+    }
+
+    /**
+     * Marks the start of a JDBC statement or batch execution on the calling thread.
+     */
+    public void queryStarted() {
+        RequestSample sample = currentSample();
+        if (sample != null) {
+            sample.queryStartNanos = System.nanoTime();
+        } else {
+            unattributedQueryStart.get()[0] = System.nanoTime();
+        }
+    }
+
+    /**
+     * Records the JDBC statement or batch started by {@link #queryStarted()}.
+     */
+    public void queryCompleted() {
+        RequestSample sample = currentSample();
+        if (sample == null) {
+            dbQueryLatency.recordNanos(System.nanoTime() - unattributedQueryStart.get()[0]);
+            return;
+        }
+        long elapsed = System.nanoTime() - sample.queryStartNanos;
+        dbQueryLatency.recordNanos(elapsed);
+        sample.queries++;
+        sample.queryNanos += elapsed;
+    }
+
+    /**
+     * Counts a completed resource-local transaction.
+     *
+     * @param committed {@code true} on commit, {@code false} on rollback
+     */
+    public void transactionCompleted(boolean committed) {
+        (committed ? transactionsCommitted : transactionsRolledBack).increment();
+    }
+
+    /**
+     * Counts an entity manager bound to a thread.
+     */
+    public void entityManagerOpened() {
+        entityManagersOpened.increment();
+    }
+
+    /**
+     * Counts a thread-bound entity manager closed.
+     */
+    public void entityManagerClosed() {
+        entityManagersClosed.increment();
+    }
+
+    /**
+     * Records one run of a background maintenance job.
+     *
+     * @param job job name
+     * @param succeeded {@code false} when the run threw
+     * @param durationNanos run duration
+     */
+    public void maintenanceJobCompleted(String job, boolean succeeded, long durationNanos) {
+        JobMetrics metrics = maintenanceJobs.computeIfAbsent(job, ignored -> new JobMetrics());
+        (succeeded ? metrics.succeeded : metrics.failed).increment();
+        metrics.nanos.add(durationNanos);
+    }
+
+    /**
+     * Counts refresh tokens deleted by the purge job.
+     *
+     * @param count deleted rows
+     */
+    public void refreshTokensPurged(int count) {
+        refreshTokensPurged.add(count);
+    }
+
+    /**
+     * Appends every metric in the Prometheus text exposition format, version 0.0.4.
+     *
+     * @param out target buffer
+     */
+    public void writePrometheus(StringBuilder out) {
+        List<RouteMetrics> snapshot = new ArrayList<>(routes.values());
+        snapshot.addAll(unmatchedRoutes.values());
+        snapshot.sort(Comparator.comparing(RouteMetrics::route).thenComparing(RouteMetrics::method));
+
+        PrometheusText.gauge(out, "http_server_requests_in_flight", "Requests being processed.", inFlight.get());
+
+        PrometheusText.header(out, "http_server_requests_total", "counter", "Completed requests by route and status.");
+        for (RouteMetrics route : snapshot) {
+            for (int status = 100; status <= RouteMetrics.MAX_STATUS; status++) {
+                long count = route.statusCount(status);
+                if (count > 0) {
+                    PrometheusText.sample(out, "http_server_requests_total", routeLabels(route, status), count);
+                }
+            }
+        }
+
+        PrometheusText.header(out, "http_server_request_duration_seconds", "histogram",
+                "Time from request start to the end of the response body.");
+        for (RouteMetrics route : snapshot) {
+            PrometheusText.histogram(out, "http_server_request_duration_seconds", routeLabels(route, 0), route.latency());
+        }
+
+        PrometheusText.header(out, "http_server_db_queries_total", "counter", "JDBC statements executed by route.");
+        for (RouteMetrics route : snapshot) {
+            PrometheusText.sample(out, "http_server_db_queries_total", routeLabels(route, 0), route.dbQueries());
+        }
+        PrometheusText.header(out, "http_server_db_query_seconds_total", "counter", "JDBC execution time by route.");
+        for (RouteMetrics route : snapshot) {
+            PrometheusText.sample(out, "http_server_db_query_seconds_total", routeLabels(route, 0), route.dbQuerySeconds());
+        }
+
+        PrometheusText.header(out, "http_server_statement_budget_exceeded_total", "counter",
+                "Requests that executed more non-batched JDBC statements than the budget, by route.");
+        for (RouteMetrics route : snapshot) {
+            PrometheusText.sample(out, "http_server_statement_budget_exceeded_total", routeLabels(route, 0),
+                    route.statementBudgetExceeded());
+        }
+
+        PrometheusText.header(out, "db_query_duration_seconds", "histogram",
+                "JDBC statement and batch execution time, requests and background jobs.");
+        PrometheusText.histogram(out, "db_query_duration_seconds", "", dbQueryLatency);
+
+        PrometheusText.header(out, "jpa_transactions_total", "counter", "Completed transactions by outcome.");
+        PrometheusText.sample(out, "jpa_transactions_total", "outcome=\"commit\"", transactionsCommitted.sum());
+        PrometheusText.sample(out, "jpa_transactions_total", "outcome=\"rollback\"", transactionsRolledBack.sum());
+
+        long opened = entityManagersOpened.sum();
+        long closed = entityManagersClosed.sum();
+        PrometheusText.counter(out, "jpa_entity_managers_opened_total", "Thread-bound entity managers opened.", opened);
+        PrometheusText.counter(out, "jpa_entity_managers_closed_total", "Thread-bound entity managers closed.", closed);
+        PrometheusText.gauge(out, "jpa_entity_managers_open", "Thread-bound entity managers currently open.", opened - closed);
+
+        List<String> jobs = new ArrayList<>(maintenanceJobs.keySet());
+        jobs.sort(Comparator.naturalOrder());
+        PrometheusText.header(out, "maintenance_job_runs_total", "counter", "Background maintenance runs by outcome.");
+        for (String job : jobs) {
+            JobMetrics metrics = maintenanceJobs.get(job);
+            String label = "job=\"" + PrometheusText.escape(job) + "\"";
+            PrometheusText.sample(out, "maintenance_job_runs_total", label + ",outcome=\"success\"", metrics.succeeded.sum());
+            PrometheusText.sample(out, "maintenance_job_runs_total", label + ",outcome=\"failure\"", metrics.failed.sum());
+        }
+        PrometheusText.header(out, "maintenance_job_duration_seconds_total", "counter", "Time spent in background maintenance runs.");
+        for (String job : jobs) {
+            PrometheusText.sample(out, "maintenance_job_duration_seconds_total",
+                    "job=\"" + PrometheusText.escape(job) + "\"", maintenanceJobs.get(job).nanos.sum() / 1e9);
+        }
+        PrometheusText.counter(out, "refresh_tokens_purged_total", "Expired or revoked refresh tokens deleted.",
+                refreshTokensPurged.sum());
+    }
+
+    /**
+     * Returns the sample of the request started by the calling thread and not completed yet.
+     */
+    private RequestSample currentSample() {
+        RequestSample sample = threadSamples.get();
+        return sample != null && sample.owner == Thread.currentThread() ? sample : null;
+    }
+
+    private RequestSample acquireSample() {
+        int start = probeStart();
+        for (int i = 0; i < SAMPLE_POOL_PROBES; i++) {
+            RequestSample sample = samplePool.getAndSet((start + i) & (SAMPLE_POOL_SIZE - 1), null);
+            if (sample != null) {
+                return sample;
+            }
+        }
+        return new RequestSample();
+    }
+
+    private void releaseSample(RequestSample sample) {
+        int start = probeStart();
+        for (int i = 0; i < SAMPLE_POOL_PROBES; i++) {
+            if (samplePool.compareAndSet((start + i) & (SAMPLE_POOL_SIZE - 1), null, sample)) {
+                return;
+            }
+        }
+        // Pool full around this slot: the sample is left to the garbage collector.
+    }
+
+    private static int probeStart() {
+        long id = Thread.currentThread().getId();
+        return (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+    }
+
+    private void reportOverBudget(RequestSample sample) {
+        // Logged on the first offence of a route; later ones only show up in the counter.
+        Level level = sample.route.recordStatementBudgetExceeded() == 1L ? Level.WARNING : Level.FINE;
+        if (logger.isLoggable(level)) {
+            logger.log(level, "{0} {1} executed {2} SQL statements (budget {3}), most repeated ({4}x): {5}",
+                    new Object[] {
+                            sample.route.method(),
+                            sample.route.route(),
+                            sample.statements,
+                            statementBudget,
+                            sample.mostRepeatedCount(),
+                            sample.mostRepeatedSql()
+                    });
+        }
+    }
+
+    private RouteMetrics resolveRoute(Method resourceMethod, String httpMethod) {
+        if (resourceMethod == null) {
+            RouteMetrics route = unmatchedRoutes.get(httpMethod);
+            return route != null
+                    ? route
+                    : unmatchedRoutes.computeIfAbsent(httpMethod, method -> new RouteMetrics(method, UNMATCHED_ROUTE));
+        }
+        RouteMetrics route = routes.get(resourceMethod);
+        return route != null ? route : routes.computeIfAbsent(
+                resourceMethod,
+                method -> new RouteMetrics(httpMethodOf(method, httpMethod), templateOf(method))
+        );
+    }
+
+    private static String routeLabels(RouteMetrics route, int status) {
+        String labels = "method=\"" + route.method() + "\",route=\"" + PrometheusText.escape(route.route()) + "\"";
+        return status == 0 ? labels : labels + ",status=\"" + status + "\"";
+    }
+
+    private static String httpMethodOf(Method method, String fallback) {
+        for (Annotation annotation : method.getAnnotations()) {
+            HttpMethod httpMethod = annotation.annotationType().getAnnotation(HttpMethod.class);
+            if (httpMethod != null) {
+                return httpMethod.value();
+            }
+        }
+        return fallback;
+    }
+
+    /**
+     * Builds the path template of a resource method, e.g. {@code /concerts/{concertId}/validate}.
+     */
+    private static String templateOf(Method method) {
+        StringBuilder template = new StringBuilder();
+        appendSegment(template, method.getDeclaringClass().getAnnotation(Path.class));
+        appendSegment(template, method.getAnnotation(Path.class));
+        return template.length() == 0 ? "/" : template.toString();
+    }
+
+    private static void appendSegment(StringBuilder template, Path path) {
+        if (path == null) {
+            return;
+        }
+        String value = path.value();
+        int start = value.startsWith("/") ? 1 : 0;
+        int end = value.endsWith("/") ? value.length() - 1 : value.length();
+        if (start < end) {
+            template.append('/').append(value, start, end);
+        }
+    }
+
+    /**
+     * Run counters of one maintenance job.
+     */
+    private static final class JobMetrics {
+        private final LongAdder succeeded = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+    }
+
+    /**
+     * Mutable timing state of one request, pooled and reused across requests.
+     *
+     * <p>Repeated statements are tracked in a few fixed slots; a request running more distinct
+     * statements than that keeps counting the first ones, which is where N+1 loops show up.</p>
+     */
+    static final class RequestSample {
+        private static final int TRACKED_STATEMENTS = 8;
+
+        private final String[] trackedSql = new String[TRACKED_STATEMENTS];
+        private final int[] trackedCounts = new int[TRACKED_STATEMENTS];
+        /**
+         * Thread that started the request while it is in flight, {@code null} once completed.
+         */
+        private volatile Thread owner;
+        private long startNanos;
+        private RouteMetrics route;
+        private int status;
+        private int queries;
+        private long queryNanos;
+        private long queryStartNanos;
+        private int statements;
+        private String preparedSql;
+
+        private void start(long nowNanos, Thread startingThread) {
+            startNanos = nowNanos;
+            route = null;
+            status = 0;
+            queries = 0;
+            queryNanos = 0L;
+            statements = 0;
+            preparedSql = null;
+            Arrays.fill(trackedSql, null);
+            Arrays.fill(trackedCounts, 0);
+            owner = startingThread;
+        }
+
+        private void countRepeat(String sql) {
+            if (sql == null) {
+                return;
+            }
+            for (int i = 0; i < TRACKED_STATEMENTS; i++) {
+                String tracked = trackedSql[i];
+                if (tracked == null) {
+                    trackedSql[i] = sql;
+                    trackedCounts[i] = 1;
+                    return;
+                }
+                if (tracked == sql || tracked.equals(sql)) {
+                    trackedCounts[i]++;
+                    return;
+                }
+            }
+        }
+
+        private int mostRepeatedIndex() {
+            int best = 0;
+            for (int i = 1; i < TRACKED_STATEMENTS; i++) {
+                if (trackedCounts[i] > trackedCounts[best]) {
+                    best = i;
+                }
+            }
+            return best;
+        }
+
+        private int mostRepeatedCount() {
+            return trackedCounts[mostRepeatedIndex()];
+        }
+
+        private String mostRepeatedSql() {
+            String sql = trackedSql[mostRepeatedIndex()];
+            return sql == null ? "unknown" : sql;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package jpa.metrics;
+
+/**
+ * Writers for the Prometheus text exposition format.
+ */
+public final class PrometheusText {
+
+    private PrometheusText() {}
+
+    /**
+     * Writes the {@code # HELP} and {@code # TYPE} lines of a metric family.
+     *
+     * @param out target buffer
+     * @param name metric name
+     * @param type Prometheus metric type, e.g. {@code counter}
+     * @param help one-line description
+     */
+    public static void header(StringBuilder out, String name, String type, String help) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    /**
+     * Writes an unlabelled gauge with its metadata.
+     *
+     * @param out target buffer
+     * @param name metric name
+     * @param help one-line description
+     * @param value current value
+     */
+    public static void gauge(StringBuilder out, String name, String help, double value) {
+        header(out, name, "gauge", help);
+        sample(out, name, "", value);
+    }
+
+    /**
+     * Writes an unlabelled counter with its metadata.
+     *
+     * @param out target buffer
+     * @param name metric name, ending with {@code _total}
+     * @param help one-line description
+     * @param value value since startup
+     */
+    public static void counter(StringBuilder out, String name, String help, double value) {
+        header(out, name, "counter", help);
+        sample(out, name, "", value);
+    }
+
+    /**
+     * Writes one sample line.
+     *
+     * @param out target buffer
+     * @param name metric name
+     * @param labels comma-separated {@code key="value"} pairs, empty for none
+     * @param value sample value
+     */
+    public static void sample(StringBuilder out, String name, String labels, double value) {
+        out.append(name);
+        if (!labels.isEmpty()) {
+            out.append('{').append(labels).append('}');
+        }
+        out.append(' ');
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            out.append((long) value);
+        } else {
+            out.append(value);
+        }
+        out.append('\n');
+    }
+
+    /**
+     * Writes the {@code _bucket}, {@code _sum} and {@code _count} samples of a histogram.
+     */
+    static void histogram(StringBuilder out, String name, String labels, LatencyHistogram histogram) {
+        long[] cumulative = histogram.cumulativeExportedCounts();
+        String prefix = labels.isEmpty() ? "" : labels + ",";
+        double[] bounds = LatencyHistogram.EXPORTED_BOUNDS_SECONDS;
+        for (int i = 0; i < bounds.length; i++) {
+            sample(out, name + "_bucket", prefix + "le=\"" + bounds[i] + "\"", cumulative[i]);
+        }
+        long total = cumulative[bounds.length];
+        sample(out, name + "_bucket", prefix + "le=\"+Inf\"", total);
+        sample(out, name + "_sum", labels, histogram.sumSeconds());
+        sample(out, name + "_count", labels, total);
+    }
+
+    /**
+     * Escapes a label value.
+     *
+     * @param value raw label value
+     * @return value safe to quote in a label
+     */
+    public static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,41 @@
+package jpa.metrics;
+
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.PreMatching;
+import jakarta.ws.rs.ext.Provider;
+import jpa.config.MetricsConfig;
+
+/**
+ * Starts timing every request, before resource matching so unmatched requests are counted too.
+ *
+ * <p>{@link ResponseMetricsFilter} stops the timer and records the request.</p>
+ */
+@Provider
+@PreMatching
+@Priority(Priorities.AUTHENTICATION - 100)
+public class RequestMetricsFilter implements ContainerRequestFilter {
+
+    /**
+     * Request property holding the request sample, for requests resumed on another thread.
+     */
+    static final String SAMPLE_PROPERTY = RequestMetricsFilter.class.getName() + ".sample";
+
+    private static final boolean ENABLED = MetricsConfig.resolveEnabled();
+
+    private final MetricsRegistry registry = MetricsRegistry.get();
+
+    /**
+     * Starts timing the request.
+     *
+     * @param requestContext current request context
+     */
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        if (ENABLED) {
+            requestContext.setProperty(SAMPLE_PROPERTY, registry.requestStarted());
+        }
+    }
+}
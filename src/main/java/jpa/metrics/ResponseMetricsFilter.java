@@ -0,0 +1,78 @@
+package jpa.metrics;
+
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.ext.Provider;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+import jpa.config.MetricsConfig;
+
+import java.io.IOException;
+
+/**
+ * Records requests timed by {@link RequestMetricsFilter} under their route template and final status.
+ *
+ * <p>Timing stops once the response body is written, which covers serialization, compression
+ * and bodies streamed from an open cursor; responses without a body stop in the response filter.
+ * The sample is removed from the request when recorded, so it is completed exactly once.</p>
+ */
+@Provider
+@Priority(Priorities.AUTHENTICATION - 100)
+public class ResponseMetricsFilter implements ContainerResponseFilter, WriterInterceptor {
+
+    private static final boolean ENABLED = MetricsConfig.resolveEnabled();
+
+    private final MetricsRegistry registry = MetricsRegistry.get();
+
+    @Context
+    private ResourceInfo resourceInfo;
+
+    /**
+     * Resolves the route and status, and records requests without a body.
+     *
+     * @param requestContext current request context
+     * @param responseContext current response context
+     */
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        if (!ENABLED
+                || !(requestContext.getProperty(RequestMetricsFilter.SAMPLE_PROPERTY)
+                        instanceof MetricsRegistry.RequestSample sample)) {
+            return;
+        }
+        registry.requestRouted(
+                sample,
+                resourceInfo.getResourceMethod(),
+                requestContext.getMethod(),
+                responseContext.getStatus()
+        );
+        if (!responseContext.hasEntity()) {
+            requestContext.removeProperty(RequestMetricsFilter.SAMPLE_PROPERTY);
+            registry.requestCompleted(sample);
+        }
+    }
+
+    /**
+     * Records the request once its body has been written.
+     *
+     * @param context writer context
+     * @throws IOException when writing the body fails
+     */
+    @Override
+    public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+        try {
+            context.proceed();
+        } finally {
+            if (ENABLED && context.getProperty(RequestMetricsFilter.SAMPLE_PROPERTY)
+                    instanceof MetricsRegistry.RequestSample sample) {
+                context.removeProperty(RequestMetricsFilter.SAMPLE_PROPERTY);
+                registry.requestCompleted(sample);
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package jpa.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of one route, identified by its HTTP method and path template.
+ */
+final class RouteMetrics {
+
+    static final int MAX_STATUS = 599;
+
+    private final String method;
+    private final String route;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final AtomicLongArray statusCounts = new AtomicLongArray(MAX_STATUS + 1);
+    private final LongAdder dbQueries = new LongAdder();
+    private final LongAdder dbQueryNanos = new LongAdder();
+    private final AtomicLong statementBudgetExceeded = new AtomicLong();
+
+    RouteMetrics(String method, String route) {
+        this.method = method;
+        this.route = route;
+    }
+
+    String method() {
+        return method;
+    }
+
+    String route() {
+        return route;
+    }
+
+    LatencyHistogram latency() {
+        return latency;
+    }
+
+    long statusCount(int status) {
+        return statusCounts.get(status);
+    }
+
+    long dbQueries() {
+        return dbQueries.sum();
+    }
+
+    double dbQuerySeconds() {
+        return dbQueryNanos.sum() / 1e9;
+    }
+
+    long statementBudgetExceeded() {
+        return statementBudgetExceeded.get();
+    }
+
+    /**
+     * Counts a request that went over the statement budget.
+     *
+     * @return number of such requests on this route, this one included
+     */
+    long recordStatementBudgetExceeded() {
+        return statementBudgetExceeded.incrementAndGet();
+    }
+
+    /**
+     * Records one completed request.
+     *
+     * @param status HTTP status, values outside {@code 100..599} are counted as 500
+     * @param durationNanos time from request start to the end of the response body
+     * @param queries JDBC statements executed for the request
+     * @param queryNanos time spent executing them
+     */
+    void record(int status, long durationNanos, int queries, long queryNanos) {
+        latency.recordNanos(durationNanos);
+        statusCounts.incrementAndGet(status >= 100 && status <= MAX_STATUS ? status : 500);
+        if (queries > 0) {
+            dbQueries.add(queries);
+            dbQueryNanos.add(queryNanos);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package jpa.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate statement inspector handing every prepared SQL statement to the {@link MetricsRegistry},
+ * which names the most repeated statement of a request going over its statement budget.
+ *
+ * <p>Registered through {@code hibernate.session_factory.statement_inspector}; the SQL is returned
+ * unchanged.</p>
+ */
+public class StatementBudgetInspector implements StatementInspector {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public String inspect(String sql) {
+        MetricsRegistry.get().statementPrepared(sql);
+        return sql;
+    }
+}
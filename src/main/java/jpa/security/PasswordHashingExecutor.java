@@ -0,0 +1,141 @@
+package jpa.security;
+
+import jakarta.ws.rs.ServiceUnavailableException;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.core.Response;
+import jpa.dao.generic.EntityManagerHelper;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Runs requests doing PBKDF2 work (login, registration) off the HTTP worker threads.
+ *
+ * <p>The pool is sized to the CPU count with a bounded queue: once both are full, new requests
+ * are rejected immediately with HTTP 503 instead of pinning every worker, so a burst of logins
+ * cannot starve the rest of the API.</p>
+ */
+public class PasswordHashingExecutor {
+    private static final long RETRY_AFTER_SECONDS = 1L;
+
+    private final ThreadPoolExecutor executor;
+    private final int queueCapacity;
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    /**
+     * Creates a new instance of PasswordHashingExecutor.
+     *
+     * @param threads number of hashing threads
+     * @param queueCapacity number of requests allowed to wait for a thread
+     */
+    public PasswordHashingExecutor(int threads, int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new HashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    /**
+     * Runs a request on the hashing pool and resumes the suspended response with its outcome.
+     *
+     * @param asyncResponse suspended response of the current request
+     * @param task request handling producing the response
+     * @throws ServiceUnavailableException when the pool and its queue are full
+     */
+    public void execute(AsyncResponse asyncResponse, Supplier<Response> task) {
+        try {
+            executor.execute(() -> {
+                try {
+                    asyncResponse.resume(task.get());
+                } catch (RuntimeException ex) {
+                    asyncResponse.resume(ex);
+                } finally {
+                    EntityManagerHelper.closeEntityManager();
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            rejectedCount.incrementAndGet();
+            throw new ServiceUnavailableException(
+                    "Too many concurrent authentication requests, retry later",
+                    RETRY_AFTER_SECONDS
+            );
+        }
+    }
+
+    /**
+     * Returns the number of hashing threads.
+     *
+     * @return pool size
+     */
+    public int getPoolSize() {
+        return executor.getMaximumPoolSize();
+    }
+
+    /**
+     * Returns the number of threads currently hashing.
+     *
+     * @return active thread count
+     */
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    /**
+     * Returns the number of requests waiting for a thread.
+     *
+     * @return queue depth
+     */
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * Returns the number of requests allowed to wait for a thread.
+     *
+     * @return queue capacity
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * Returns the number of requests handled since startup.
+     *
+     * @return completed request count
+     */
+    public long getCompletedCount() {
+        return executor.getCompletedTaskCount();
+    }
+
+    /**
+     * Returns the number of requests rejected since startup.
+     *
+     * @return rejected request count
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    private static final class HashingThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package jpa.security;
+
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded cache of refresh token hashes revoked by this process.
+ *
+ * <p>A replayed token found here is rejected without a database round trip; a token missing from
+ * the cache is still checked against the database, so evicting entries never lets a revoked token
+ * through. Entries are dropped once the token would have expired anyway; when the cache is full,
+ * expired entries are purged and, if that is not enough, the whole cache is cleared.</p>
+ */
+public class RevokedRefreshTokenCache {
+    private final int maxEntries;
+    private final ConcurrentHashMap<String, Instant> expirationsByHash = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new instance of RevokedRefreshTokenCache.
+     *
+     * @param maxEntries maximum number of cached hashes
+     */
+    public RevokedRefreshTokenCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Tells whether a token hash is known to be revoked.
+     *
+     * @param tokenHash hashed token value
+     * @param now current instant
+     * @return {@code true} when the token was revoked by this process and has not expired yet
+     */
+    public boolean isRevoked(String tokenHash, Instant now) {
+        Instant expiresAt = expirationsByHash.get(tokenHash);
+        if (expiresAt == null) {
+            return false;
+        }
+
+        if (!expiresAt.isAfter(now)) {
+            expirationsByHash.remove(tokenHash, expiresAt);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Remembers a revoked token hash.
+     *
+     * @param tokenHash hashed token value
+     * @param expiresAt instant after which the token is rejected as expired anyway
+     * @param now current instant
+     */
+    public void add(String tokenHash, Instant expiresAt, Instant now) {
+        if (expirationsByHash.size() >= maxEntries) {
+            expirationsByHash.values().removeIf(expiration -> !expiration.isAfter(now));
+            if (expirationsByHash.size() >= maxEntries) {
+                expirationsByHash.clear();
+            }
+        }
+        expirationsByHash.put(tokenHash, expiresAt);
+    }
+
+    /**
+     * Returns the number of cached hashes.
+     *
+     * @return cached hash count
+     */
+    public int size() {
+        return expirationsByHash.size();
+    }
+}
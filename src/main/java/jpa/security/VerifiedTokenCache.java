@@ -0,0 +1,135 @@
+package jpa.security;
+
+import jpa.dto.security.AccessTokenClaimsDto;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded cache of access tokens whose signature has already been verified.
+ *
+ * <p>Entries are keyed by the signature segment and remember the signed part, so a token is
+ * only served from the cache when it is byte-for-byte the one that was verified. Entries are
+ * dropped once the token expired. When the cache is full, a CLOCK sweep frees a batch of slots:
+ * a hand kept across sweeps resumes where the previous one stopped and wraps around the map;
+ * expired entries and entries not read since the hand last passed them are evicted, the others
+ * lose their reference bit and get a second chance. Tokens that are still being presented
+ * therefore stay cached under load; if a sweep frees nothing within its scan bound, the new
+ * token is simply not cached.</p>
+ */
+public class VerifiedTokenCache {
+    private static final int SWEEP_SCAN_FACTOR = 4;
+
+    private final int maxEntries;
+    private final int evictionBatch;
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    // Clock hand; the weakly consistent iterator tolerates concurrent puts and removals.
+    private Iterator<Map.Entry<String, Entry>> hand;
+
+    /**
+     * Creates a new instance of VerifiedTokenCache.
+     *
+     * @param maxEntries maximum number of cached tokens
+     */
+    public VerifiedTokenCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.evictionBatch = Math.max(1, maxEntries / 8);
+    }
+
+    /**
+     * Returns the claims of a previously verified, still valid token.
+     *
+     * @param signatureSegment Base64URL signature segment of the token
+     * @param unsignedToken header and payload segments of the token
+     * @param now current instant
+     * @return cached claims, or {@code null} when the token must be verified
+     */
+    public AccessTokenClaimsDto get(String signatureSegment, String unsignedToken, Instant now) {
+        Entry entry = entries.get(signatureSegment);
+        if (entry == null || !entry.unsignedToken.equals(unsignedToken)) {
+            return null;
+        }
+
+        if (entry.isExpired(now)) {
+            entries.remove(signatureSegment, entry);
+            return null;
+        }
+        if (!entry.referenced) {
+            entry.referenced = true;
+        }
+        return entry.claims;
+    }
+
+    /**
+     * Remembers the claims of a token that was just verified.
+     *
+     * @param signatureSegment Base64URL signature segment of the token
+     * @param unsignedToken header and payload segments of the token
+     * @param claims verified claims
+     * @param now current instant
+     */
+    public void put(String signatureSegment, String unsignedToken, AccessTokenClaimsDto claims, Instant now) {
+        if (entries.size() >= maxEntries && sweep(now) == 0 && entries.size() >= maxEntries) {
+            return;
+        }
+        entries.put(signatureSegment, new Entry(unsignedToken, claims));
+    }
+
+    /**
+     * Advances the clock hand, evicting up to one batch of expired or unreferenced entries and
+     * scanning a bounded number of them.
+     *
+     * @param now current instant
+     * @return number of evicted entries
+     */
+    private synchronized int sweep(Instant now) {
+        int evicted = 0;
+        int scanned = 0;
+        int scanLimit = evictionBatch * SWEEP_SCAN_FACTOR;
+        while (evicted < evictionBatch && scanned < scanLimit) {
+            if (hand == null || !hand.hasNext()) {
+                hand = entries.entrySet().iterator();
+                if (!hand.hasNext()) {
+                    break;
+                }
+            }
+            Map.Entry<String, Entry> mapping = hand.next();
+            Entry entry = mapping.getValue();
+            scanned++;
+            if (entry.isExpired(now) || !entry.referenced) {
+                if (entries.remove(mapping.getKey(), entry)) {
+                    evicted++;
+                }
+            } else {
+                entry.referenced = false;
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * Returns the number of cached tokens.
+     *
+     * @return cached token count
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private static final class Entry {
+        private final String unsignedToken;
+        private final AccessTokenClaimsDto claims;
+        private volatile boolean referenced;
+
+        private Entry(String unsignedToken, AccessTokenClaimsDto claims) {
+            this.unsignedToken = unsignedToken;
+            this.claims = claims;
+        }
+
+        private boolean isExpired(Instant now) {
+            return !claims.expiresAt().isAfter(now);
+        }
+    }
+}
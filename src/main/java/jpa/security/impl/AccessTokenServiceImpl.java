@@ -6,6 +6,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.ws.rs.NotAuthorizedException;
 import jpa.dto.security.AccessTokenClaimsDto;
 import jpa.entities.User;
+import jpa.security.VerifiedTokenCache;
 import jpa.security.interfaces.AccessTokenService;
 
 import javax.crypto.Mac;
@@ -26,6 +27,9 @@ import java.util.UUID;
  *
  * <p>This component is responsible for signing and verifying access tokens and
  * generating/hashing refresh token values.</p>
+ *
+ * <p>Verified access tokens are cached until they expire, so a token presented again only
+ * costs a map lookup. The HMAC is initialized once per thread instead of once per call.</p>
  */
 public class AccessTokenServiceImpl implements AccessTokenService {
 
@@ -40,6 +44,8 @@ public class AccessTokenServiceImpl implements AccessTokenService {
     private final long accessTokenTtlSeconds;
     private final long refreshTokenTtlSeconds;
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final VerifiedTokenCache verifiedTokens;
+    private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(this::newMac);
 
     /**
      * Builds a token service with explicit signing key and TTL values.
@@ -47,11 +53,18 @@ public class AccessTokenServiceImpl implements AccessTokenService {
      * @param signingKey secret used to sign JWT payloads
      * @param accessTokenTtlSeconds access-token lifetime in seconds
      * @param refreshTokenTtlSeconds refresh-token lifetime in seconds
+     * @param verifiedTokenCacheSize maximum number of verified access tokens kept in memory
      */
-    public AccessTokenServiceImpl(String signingKey, long accessTokenTtlSeconds, long refreshTokenTtlSeconds) {
+    public AccessTokenServiceImpl(
+            String signingKey,
+            long accessTokenTtlSeconds,
+            long refreshTokenTtlSeconds,
+            int verifiedTokenCacheSize
+    ) {
         this.signingKey = signingKey.getBytes(StandardCharsets.UTF_8);
         this.accessTokenTtlSeconds = accessTokenTtlSeconds;
         this.refreshTokenTtlSeconds = refreshTokenTtlSeconds;
+        this.verifiedTokens = new VerifiedTokenCache(verifiedTokenCacheSize);
     }
 
     /**
@@ -79,20 +92,28 @@ public class AccessTokenServiceImpl implements AccessTokenService {
             throw new NotAuthorizedException("Missing access token");
         }
 
-        String[] segments = rawToken.split("\\.");
-        if (segments.length != 3) {
+        int headerEnd = rawToken.indexOf('.');
+        int payloadEnd = headerEnd < 0 ? -1 : rawToken.indexOf('.', headerEnd + 1);
+        if (payloadEnd < 0 || rawToken.indexOf('.', payloadEnd + 1) >= 0) {
             throw new NotAuthorizedException("Invalid access token");
         }
 
-        String unsignedToken = segments[0] + "." + segments[1];
+        String unsignedToken = rawToken.substring(0, payloadEnd);
+        String signatureSegment = rawToken.substring(payloadEnd + 1);
+        Instant now = Instant.now();
+        AccessTokenClaimsDto cached = verifiedTokens.get(signatureSegment, unsignedToken, now);
+        if (cached != null) {
+            return cached;
+        }
+
         byte[] expectedSignature = signBytes(unsignedToken);
-        byte[] actualSignature = decodeSignature(segments[2]);
+        byte[] actualSignature = decodeSignature(signatureSegment);
 
         if (!MessageDigest.isEqual(expectedSignature, actualSignature)) {
             throw new NotAuthorizedException("Invalid access token");
         }
 
-        JsonNode payload = decodePayload(segments[1]);
+        JsonNode payload = decodePayload(rawToken.substring(headerEnd + 1, payloadEnd));
         String issuer = readTextClaim(payload, "iss");
         if (!TOKEN_ISSUER.equals(issuer)) {
             throw new NotAuthorizedException("Invalid access token issuer");
@@ -104,11 +125,13 @@ public class AccessTokenServiceImpl implements AccessTokenService {
         Instant issuedAt = readInstantClaim(payload, "iat");
         Instant expiresAt = readInstantClaim(payload, "exp");
 
-        if (!expiresAt.isAfter(Instant.now())) {
+        if (!expiresAt.isAfter(now)) {
             throw new NotAuthorizedException("Access token expired");
         }
 
-        return new AccessTokenClaimsDto(userId, email, role, issuedAt, expiresAt);
+        AccessTokenClaimsDto claims = new AccessTokenClaimsDto(userId, email, role, issuedAt, expiresAt);
+        verifiedTokens.put(signatureSegment, unsignedToken, claims, now);
+        return claims;
     }
 
     /**
@@ -181,10 +204,20 @@ public class AccessTokenServiceImpl implements AccessTokenService {
      * @return raw signature bytes
      */
     private byte[] signBytes(String unsignedToken) {
+        // doFinal resets the Mac, so the per-thread instance is ready for the next call.
+        return macs.get().doFinal(unsignedToken.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Creates a HMAC initialized with the signing key.
+     *
+     * @return initialized Mac
+     */
+    private Mac newMac() {
         try {
             Mac mac = Mac.getInstance(HMAC_ALGO);
             mac.init(new SecretKeySpec(signingKey, HMAC_ALGO));
-            return mac.doFinal(unsignedToken.getBytes(StandardCharsets.UTF_8));
+            return mac;
         } catch (GeneralSecurityException ex) {
             throw new IllegalStateException("Could not sign access token", ex);
         }
@@ -0,0 +1,14 @@
+package jpa.services.cache;
+
+import java.time.Instant;
+
+/**
+ * Pre-serialized JSON payload with the catalogue version it was built from.
+ *
+ * @param json serialized payload, must not be modified
+ * @param gzip gzip-encoded copy of {@code json}, {@code null} when too small to be worth compressing
+ * @param version catalogue version observed before the payload was loaded
+ * @param lastModified last catalogue change observed before the payload was loaded
+ */
+public record CachedJson(byte[] json, byte[] gzip, long version, Instant lastModified) {
+}
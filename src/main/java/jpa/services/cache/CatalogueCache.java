@@ -0,0 +1,77 @@
+package jpa.services.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jpa.entities.listeners.CatalogueVersion;
+
+import java.util.function.Supplier;
+
+/**
+ * Pre-serialized payloads of the anonymous public catalogue endpoints.
+ *
+ * <p>Catalogue changes (creation, validation, rejection) drop the payloads immediately,
+ * while ticket sales only mark the availability listing stale so that a burst of purchases
+ * triggers at most one rebuild per staleness budget.</p>
+ */
+public class CatalogueCache {
+    private final JsonSnapshotCache publicConcerts;
+    private final JsonSnapshotCache publishedConcertsWithPlace;
+
+    /**
+     * Creates a new instance of CatalogueCache.
+     *
+     * @param objectMapper mapper used to serialize payloads
+     * @param availabilityStalenessMs how long availability counts may lag behind ticket sales
+     * @param compressionMinSizeBytes smallest payload stored pre-compressed, {@code 0} to never compress
+     */
+    public CatalogueCache(ObjectMapper objectMapper, long availabilityStalenessMs, int compressionMinSizeBytes) {
+        this.publicConcerts = new JsonSnapshotCache(
+                objectMapper,
+                CatalogueVersion::current,
+                CatalogueVersion::lastModified,
+                0L,
+                compressionMinSizeBytes
+        );
+        this.publishedConcertsWithPlace = new JsonSnapshotCache(
+                objectMapper,
+                CatalogueVersion::current,
+                CatalogueVersion::lastModified,
+                availabilityStalenessMs,
+                compressionMinSizeBytes
+        );
+    }
+
+    /**
+     * Returns the serialized published concerts.
+     *
+     * @param loader supplier used when the payload must be rebuilt
+     * @return JSON payload
+     */
+    public CachedJson getPublicConcerts(Supplier<?> loader) {
+        return publicConcerts.get(loader);
+    }
+
+    /**
+     * Returns the serialized published concerts with place details and availability.
+     *
+     * @param loader supplier used when the payload must be rebuilt
+     * @return JSON payload
+     */
+    public CachedJson getPublishedConcertsWithPlace(Supplier<?> loader) {
+        return publishedConcertsWithPlace.get(loader);
+    }
+
+    /**
+     * Drops every payload after a catalogue change.
+     */
+    public void invalidateAll() {
+        publicConcerts.invalidate();
+        publishedConcertsWithPlace.invalidate();
+    }
+
+    /**
+     * Marks availability counts stale after ticket sales.
+     */
+    public void markAvailabilityStale() {
+        publishedConcertsWithPlace.markStale();
+    }
+}
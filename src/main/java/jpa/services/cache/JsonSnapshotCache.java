@@ -0,0 +1,149 @@
+package jpa.services.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jpa.utils.GzipCompression;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Holds one pre-serialized JSON payload and rebuilds it on demand.
+ *
+ * <p>Two kinds of invalidation are supported:</p>
+ * <ul>
+ *     <li>{@link #invalidate()} drops the payload: the next read rebuilds it.</li>
+ *     <li>{@link #markStale()} keeps serving the payload until the staleness budget elapsed,
+ *     which absorbs bursts of small changes such as ticket sales.</li>
+ * </ul>
+ *
+ * <p>Rebuilds are single-flight: one caller loads while the others either wait (no usable
+ * payload) or keep serving the stale one. Large payloads are gzip-encoded once per rebuild, so
+ * cache hits never pay the compression cost.</p>
+ */
+public class JsonSnapshotCache {
+    private static final long CLEAN = Long.MIN_VALUE;
+
+    private final ObjectMapper objectMapper;
+    private final LongSupplier dataVersion;
+    private final Supplier<Instant> dataLastModified;
+    private final long stalenessBudgetNanos;
+    private final int compressionMinSizeBytes;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLong staleSinceNanos = new AtomicLong(CLEAN);
+    private volatile Snapshot snapshot;
+
+    /**
+     * Creates a new instance of JsonSnapshotCache.
+     *
+     * @param objectMapper mapper used to serialize payloads
+     * @param dataVersion source of the data version stamped on rebuilt payloads
+     * @param dataLastModified source of the last data change stamped on rebuilt payloads
+     * @param stalenessBudgetMs how long a payload marked stale may still be served
+     * @param compressionMinSizeBytes smallest payload stored pre-compressed, {@code 0} to never compress
+     */
+    public JsonSnapshotCache(
+            ObjectMapper objectMapper,
+            LongSupplier dataVersion,
+            Supplier<Instant> dataLastModified,
+            long stalenessBudgetMs,
+            int compressionMinSizeBytes
+    ) {
+        this.objectMapper = objectMapper;
+        this.dataVersion = dataVersion;
+        this.dataLastModified = dataLastModified;
+        this.stalenessBudgetNanos = TimeUnit.MILLISECONDS.toNanos(stalenessBudgetMs);
+        this.compressionMinSizeBytes = compressionMinSizeBytes;
+    }
+
+    /**
+     * Returns the cached payload, rebuilding it from the loader when needed.
+     *
+     * @param loader supplier of the value to serialize
+     * @return JSON payload, never modified by the cache once returned
+     */
+    public CachedJson get(Supplier<?> loader) {
+        Snapshot current = snapshot;
+        if (isUsable(current) && !isExpired()) {
+            return current.payload();
+        }
+
+        if (isUsable(current)) {
+            if (!rebuildLock.tryLock()) {
+                // Someone is already rebuilding: the stale payload is good enough meanwhile.
+                return current.payload();
+            }
+        } else {
+            rebuildLock.lock();
+        }
+
+        try {
+            current = snapshot;
+            if (isUsable(current) && !isExpired()) {
+                return current.payload();
+            }
+
+            // Reset before loading so changes made during the load mark the new payload stale.
+            staleSinceNanos.set(CLEAN);
+            long loadGeneration = generation.get();
+            // Read lastModified first: it is updated before the version, so it never overstates it.
+            Instant loadLastModified = dataLastModified.get();
+            long loadVersion = dataVersion.getAsLong();
+            byte[] json = serialize(loader.get());
+            Snapshot rebuilt = new Snapshot(
+                    new CachedJson(json, compress(json), loadVersion, loadLastModified),
+                    loadGeneration
+            );
+            snapshot = rebuilt;
+            return rebuilt.payload();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Drops the payload so the next read rebuilds it.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Marks the payload stale; it is rebuilt once the staleness budget elapsed.
+     */
+    public void markStale() {
+        staleSinceNanos.compareAndSet(CLEAN, System.nanoTime());
+    }
+
+    private boolean isUsable(Snapshot current) {
+        return current != null && current.generation() == generation.get();
+    }
+
+    private boolean isExpired() {
+        long staleSince = staleSinceNanos.get();
+        return staleSince != CLEAN && System.nanoTime() - staleSince >= stalenessBudgetNanos;
+    }
+
+    private byte[] compress(byte[] json) {
+        if (compressionMinSizeBytes <= 0 || json.length < compressionMinSizeBytes) {
+            return null;
+        }
+        return GzipCompression.compress(json);
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unable to serialize cached payload", ex);
+        }
+    }
+
+    private record Snapshot(CachedJson payload, long generation) {
+    }
+}
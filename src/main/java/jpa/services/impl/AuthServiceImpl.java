@@ -9,6 +9,7 @@ import jpa.dto.auth.RefreshTokenRequestDto;
 import jpa.dto.auth.TokenPairResponseDto;
 import jpa.entities.RefreshToken;
 import jpa.entities.User;
+import jpa.security.RevokedRefreshTokenCache;
 import jpa.security.interfaces.AccessTokenService;
 import jpa.services.interfaces.AuthService;
 import jpa.utils.UserRoleResolver;
@@ -16,20 +17,22 @@ import jpa.utils.UserRoleResolver;
 import java.time.Instant;
 import java.util.Locale;
 import java.util.Optional;
-import java.util.UUID;
 
 import static jpa.utils.StringValidation.normalizeRequired;
 
 /**
  * Default authentication service implementation.
  *
- * <p>Supports username/password login and refresh-token rotation.</p>
+ * <p>Supports username/password login and refresh-token rotation. Rotation revokes the presented
+ * token and stores its replacement in one transaction; tokens revoked by this process are
+ * remembered so that replays are rejected without a database round trip.</p>
  */
 public class AuthServiceImpl implements AuthService {
 
     private final UserDao userDao;
     private final RefreshTokenDao refreshTokenDao;
     private final AccessTokenService accessTokenService;
+    private final RevokedRefreshTokenCache revokedRefreshTokens;
 
     /**
      * Creates an authentication service with DAO and token dependencies.
@@ -37,15 +40,18 @@ public class AuthServiceImpl implements AuthService {
      * @param userDao DAO used to resolve users
      * @param refreshTokenDao DAO used to persist and validate refresh tokens
      * @param accessTokenService token creation and hashing service
+     * @param revokedRefreshTokens hashes of refresh tokens revoked by this process
      */
     public AuthServiceImpl(
             UserDao userDao,
             RefreshTokenDao refreshTokenDao,
-            AccessTokenService accessTokenService
+            AccessTokenService accessTokenService,
+            RevokedRefreshTokenCache revokedRefreshTokens
     ) {
         this.userDao = userDao;
         this.refreshTokenDao = refreshTokenDao;
         this.accessTokenService = accessTokenService;
+        this.revokedRefreshTokens = revokedRefreshTokens;
     }
 
     /**
@@ -81,24 +87,29 @@ public class AuthServiceImpl implements AuthService {
         Instant now = Instant.now();
         String tokenHash = accessTokenService.hashRefreshToken(rawRefreshToken);
 
-        RefreshToken stored = refreshTokenDao.findValidByHash(tokenHash, now)
-                .orElseThrow(() -> new NotAuthorizedException("Invalid refresh token"));
-
-        // Rotate refresh token: current token is revoked before issuing a new pair.
-        stored.setRevokedAt(now);
-        refreshTokenDao.update(stored);
-
-        UUID userId = stored.getUser() != null ? stored.getUser().getId() : null;
-        if (userId == null) {
+        if (revokedRefreshTokens.isRevoked(tokenHash, now)) {
             throw new NotAuthorizedException("Invalid refresh token");
         }
 
-        User user = userDao.findOne(userId);
-        if (user == null) {
-            throw new NotAuthorizedException("Invalid refresh token");
+        String rawReplacement = accessTokenService.generateRefreshToken();
+        String replacementHash = accessTokenService.hashRefreshToken(rawReplacement);
+        Instant refreshExpiresAt = now.plusSeconds(accessTokenService.getRefreshTokenTtlSeconds());
+
+        Optional<User> owner;
+        try {
+            owner = refreshTokenDao.rotate(tokenHash, replacementHash, refreshExpiresAt, now);
+        } catch (RuntimeException ex) {
+            if (!isLikelyLegacyUserIdUniqueConstraint(ex)) {
+                throw ex;
+            }
+            // Backward compatibility: some old schemas keep a UNIQUE(user_id) on refresh_tokens.
+            owner = refreshTokenDao.rotateInPlace(tokenHash, replacementHash, refreshExpiresAt, now);
         }
 
-        return issueTokenPair(user, now);
+        User user = owner.orElseThrow(() -> new NotAuthorizedException("Invalid refresh token"));
+        // The presented token lived at most one refresh TTL; it is rejected as expired afterwards.
+        revokedRefreshTokens.add(tokenHash, refreshExpiresAt, now);
+        return buildTokenPair(user, now, rawReplacement, refreshExpiresAt);
     }
 
     /**
@@ -115,10 +126,9 @@ public class AuthServiceImpl implements AuthService {
         String tokenHash = accessTokenService.hashRefreshToken(rawRefreshToken);
 
         // Idempotent logout: revoke when token is active; otherwise do nothing.
-        refreshTokenDao.findValidByHash(tokenHash, now).ifPresent(token -> {
-            token.setRevokedAt(now);
-            refreshTokenDao.update(token);
-        });
+        if (!revokedRefreshTokens.isRevoked(tokenHash, now) && refreshTokenDao.revoke(tokenHash, now)) {
+            revokedRefreshTokens.add(tokenHash, now.plusSeconds(accessTokenService.getRefreshTokenTtlSeconds()), now);
+        }
     }
 
     /**
@@ -129,11 +139,7 @@ public class AuthServiceImpl implements AuthService {
      * @return token pair payload
      */
     private TokenPairResponseDto issueTokenPair(User user, Instant now) {
-        String role = UserRoleResolver.resolve(user).name();
-        Instant accessExpiresAt = now.plusSeconds(accessTokenService.getAccessTokenTtlSeconds());
         Instant refreshExpiresAt = now.plusSeconds(accessTokenService.getRefreshTokenTtlSeconds());
-
-        String accessToken = accessTokenService.createAccessToken(user, role, now, accessExpiresAt);
         String rawRefreshToken = accessTokenService.generateRefreshToken();
         String hashedRefreshToken = accessTokenService.hashRefreshToken(rawRefreshToken);
 
@@ -158,6 +164,23 @@ public class AuthServiceImpl implements AuthService {
             refreshTokenDao.update(existing);
         }
 
+        return buildTokenPair(user, now, rawRefreshToken, refreshExpiresAt);
+    }
+
+    /**
+     * Signs an access token for the user and pairs it with an already stored refresh token.
+     *
+     * @param user token owner
+     * @param now reference instant used for expirations
+     * @param rawRefreshToken refresh token handed to the client
+     * @param refreshExpiresAt expiration of the refresh token
+     * @return token pair payload
+     */
+    private TokenPairResponseDto buildTokenPair(User user, Instant now, String rawRefreshToken, Instant refreshExpiresAt) {
+        String role = UserRoleResolver.resolve(user).name();
+        Instant accessExpiresAt = now.plusSeconds(accessTokenService.getAccessTokenTtlSeconds());
+        String accessToken = accessTokenService.createAccessToken(user, role, now, accessExpiresAt);
+
         return new TokenPairResponseDto(
                 accessToken,
                 rawRefreshToken,
@@ -5,16 +5,18 @@ import jakarta.ws.rs.ClientErrorException;
 import jakarta.ws.rs.ForbiddenException;
 import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.core.Response;
-import jpa.dao.abstracts.AdminDao;
 import jpa.dao.abstracts.ConcertDao;
 import jpa.dao.abstracts.OrganizerDao;
 import jpa.dao.abstracts.PlaceDao;
 import jpa.dao.abstracts.UserDao;
+import jpa.dao.pagination.KeysetPageQuery;
 import jpa.dto.concert.CreateConcertRequestDto;
 import jpa.dto.concert.ResponseAdminConcertModerationDto;
 import jpa.dto.concert.ResponseConcertDetailsDto;
 import jpa.dto.concert.ResponseConcertPlaceDto;
 import jpa.dto.concert.ResponseOrganizerConcertDto;
+import jpa.dto.concert.ResponseOrganizerConcertStatsRowDto;
+import jpa.dto.pagination.ResponsePageDto;
 import jpa.entities.Admin;
 import jpa.entities.Concert;
 import jpa.entities.Organizer;
@@ -22,16 +24,21 @@ import jpa.entities.Place;
 import jpa.entities.Ticket;
 import jpa.entities.User;
 import jpa.enums.ConcertStatus;
+import jpa.services.cache.CachedJson;
+import jpa.services.cache.CatalogueCache;
 import jpa.services.interfaces.ConcertService;
+import jpa.services.stats.OrganizerStatsStore;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static jpa.utils.StringValidation.normalizeRequired;
 
@@ -54,9 +61,10 @@ public class ConcertServiceImpl implements ConcertService {
     private final ConcertDao concertDao;
     private final OrganizerDao organizerDao;
     private final PlaceDao placeDao;
-    private final AdminDao adminDao;
     private final UserDao userDao;
     private final int maxTicketBatchSize;
+    private final CatalogueCache catalogueCache;
+    private final OrganizerStatsStore organizerStatsStore;
 
     /**
      * Creates a service with DAO dependencies required by concert workflows.
@@ -64,24 +72,27 @@ public class ConcertServiceImpl implements ConcertService {
      * @param concertDao DAO used to persist and query concerts
      * @param organizerDao DAO used to resolve organizers
      * @param placeDao DAO used to resolve places
-     * @param adminDao DAO used to resolve admins
      * @param userDao DAO used to resolve authenticated users
      * @param maxTicketBatchSize maximum number of tickets created at concert creation
+     * @param catalogueCache cache of the public catalogue payloads
+     * @param organizerStatsStore materialized organizer statistics
      */
     public ConcertServiceImpl(
             ConcertDao concertDao,
             OrganizerDao organizerDao,
             PlaceDao placeDao,
-            AdminDao adminDao,
             UserDao userDao,
-            int maxTicketBatchSize
+            int maxTicketBatchSize,
+            CatalogueCache catalogueCache,
+            OrganizerStatsStore organizerStatsStore
     ) {
         this.concertDao = concertDao;
         this.organizerDao = organizerDao;
         this.placeDao = placeDao;
-        this.adminDao = adminDao;
         this.userDao = userDao;
         this.maxTicketBatchSize = maxTicketBatchSize;
+        this.catalogueCache = catalogueCache;
+        this.organizerStatsStore = organizerStatsStore;
     }
 
     /**
@@ -153,23 +164,6 @@ public class ConcertServiceImpl implements ConcertService {
             throw new BadRequestException("ticketQuantity must be <= place capacity");
         }
 
-        Instant bookingWindowStart = request.date().minus(PLACE_BOOKING_DURATION);
-        Instant bookingWindowEnd = request.date().plus(PLACE_BOOKING_DURATION);
-
-        boolean placeAlreadyBooked = concertDao.existsPlaceBookingConflict(
-                place.getId(),
-                bookingWindowStart,
-                bookingWindowEnd,
-                PLACE_BOOKING_BLOCKING_STATUSES
-        );
-
-        if (placeAlreadyBooked) {
-            throw new ClientErrorException(
-                    "Place already booked for the requested time slot",
-                    Response.Status.CONFLICT
-            );
-        }
-
         Concert concert = new Concert();
         concert.setTitle(title);
         concert.setArtist(artist);
@@ -179,8 +173,31 @@ public class ConcertServiceImpl implements ConcertService {
         concert.setPlace(place);
         concert.setStatus(ConcertStatus.PENDING_VALIDATION);
         concert.setTickets(createInitialTickets(concert, request.ticketQuantity(), request.ticketUnitPrice()));
-
-        concertDao.save(concert);
+        concert.setTicketQuantity(request.ticketQuantity());
+        concert.setTicketSold(0);
+        concert.setUnitPrice(request.ticketUnitPrice().setScale(2, RoundingMode.HALF_UP));
+
+        organizerStatsStore.beginChange(organizer.getId());
+        boolean saved;
+        try {
+            saved = concertDao.saveWithTicketsIfPlaceFree(
+                    concert,
+                    PLACE_BOOKING_DURATION,
+                    PLACE_BOOKING_BLOCKING_STATUSES
+            );
+        } catch (RuntimeException ex) {
+            organizerStatsStore.abortChange(organizer.getId());
+            throw ex;
+        }
+        if (!saved) {
+            organizerStatsStore.abortChange(organizer.getId());
+            throw new ClientErrorException(
+                    "Place already booked for the requested time slot",
+                    Response.Status.CONFLICT
+            );
+        }
+        catalogueCache.invalidateAll();
+        organizerStatsStore.recordConcertCreated(organizer.getId(), toStatsRow(concert));
 
         return toResponse(concert);
     }
@@ -249,15 +266,20 @@ public class ConcertServiceImpl implements ConcertService {
             throw new ForbiddenException("User is not an admin");
         }
 
-        Admin admin = adminDao.findOne(authenticatedAdmin.getId());
-        if (admin == null) {
-            throw new NotFoundException("Admin not found");
-        }
-
-        concert.setAdmin(admin);
+        concert.setAdmin(authenticatedAdmin);
         concert.setStatus(targetStatus);
 
-        Concert updated = concertDao.update(concert);
+        UUID organizerId = concert.getOrganizer().getId();
+        organizerStatsStore.beginChange(organizerId);
+        Concert updated;
+        try {
+            updated = concertDao.update(concert);
+        } catch (RuntimeException ex) {
+            organizerStatsStore.abortChange(organizerId);
+            throw ex;
+        }
+        catalogueCache.invalidateAll();
+        organizerStatsStore.recordStatusChanged(organizerId, updated.getId(), targetStatus);
         return toResponse(updated);
     }
 
@@ -268,10 +290,17 @@ public class ConcertServiceImpl implements ConcertService {
      */
     @Override
     public List<ResponseConcertDetailsDto> getPublicConcerts() {
-        return concertDao.findByStatus(ConcertStatus.PUBLISHED)
-                .stream()
-                .map(this::toResponse)
-                .toList();
+        return concertDao.findConcertDetailsProjectionByStatus(ConcertStatus.PUBLISHED);
+    }
+
+    /**
+     * Returns published concerts as cached JSON.
+     *
+     * @return JSON array payload
+     */
+    @Override
+    public CachedJson getPublicConcertsJson() {
+        return catalogueCache.getPublicConcerts(this::getPublicConcerts);
     }
 
     /**
@@ -285,53 +314,120 @@ public class ConcertServiceImpl implements ConcertService {
     }
 
     /**
-     * Returns pending concerts with moderation projection.
+     * Streams concerts of one workflow status with moderation projection.
      *
-     * @return pending moderation concerts
+     * @param status workflow status to list
+     * @return moderation concerts, newest first
      */
     @Override
-    public List<ResponseAdminConcertModerationDto> getPendingModerationConcerts() {
-        return getModerationConcertsByStatus(ConcertStatus.PENDING_VALIDATION);
+    public Stream<ResponseAdminConcertModerationDto> streamModerationConcerts(ConcertStatus status) {
+        return concertDao.streamConcertsForModerationByStatus(status);
     }
 
     /**
-     * Returns approved concerts with moderation projection.
+     * Returns published concerts with place details.
      *
-     * @return approved moderation concerts
+     * @return published concert projections
      */
     @Override
-    public List<ResponseAdminConcertModerationDto> getApprovedConcerts() {
-        return getModerationConcertsByStatus(ConcertStatus.PUBLISHED);
+    public List<ResponseConcertPlaceDto> getPublishedConcertsWithPlace() {
+        return concertDao.findPublishedConcertsWithPlaceProjection();
     }
 
     /**
-     * Returns rejected concerts with moderation projection.
+     * Returns published concerts with place details as cached JSON.
      *
-     * @return rejected moderation concerts
+     * @return JSON array payload
      */
     @Override
-    public List<ResponseAdminConcertModerationDto> getRejectedConcerts() {
-        return getModerationConcertsByStatus(ConcertStatus.REJECTED);
+    public CachedJson getPublishedConcertsWithPlaceJson() {
+        return catalogueCache.getPublishedConcertsWithPlace(this::getPublishedConcertsWithPlace);
     }
 
     /**
-     * Returns published concerts with place details.
+     * Returns concerts created by the authenticated organizer.
      *
-     * @return published concert projections
+     * @param authenticatedOrganizerEmail method parameter
+     * @return organizer concert projections
      */
     @Override
-    public List<ResponseConcertPlaceDto> getPublishedConcertsWithPlace() {
-        return concertDao.findPublishedConcertsWithPlaceProjection();
+    public List<ResponseOrganizerConcertDto> getOrganizerConcerts(String authenticatedOrganizerEmail) {
+        Organizer organizer = resolveAuthenticatedOrganizer(authenticatedOrganizerEmail);
+        return concertDao.findOrganizerConcertsProjection(organizer.getId());
     }
 
     /**
-     * Returns concerts created by the authenticated organizer.
+     * Returns one page of published concerts.
+     *
+     * @param page keyset page and filters
+     * @return page of published concerts
+     */
+    @Override
+    public ResponsePageDto<ResponseConcertDetailsDto> getPublicConcertsPage(KeysetPageQuery page) {
+        return concertDao.findConcertDetailsPage(ConcertStatus.PUBLISHED, page);
+    }
+
+    /**
+     * Returns one page of published concerts with place details.
+     *
+     * @param page keyset page and filters
+     * @return page of published concert projections
+     */
+    @Override
+    public ResponsePageDto<ResponseConcertPlaceDto> getPublishedConcertsWithPlacePage(KeysetPageQuery page) {
+        return concertDao.findPublishedConcertsWithPlacePage(page);
+    }
+
+    /**
+     * Returns one page of pending concerts with moderation projection.
+     *
+     * @param page keyset page and filters
+     * @return page of pending moderation concerts
+     */
+    @Override
+    public ResponsePageDto<ResponseAdminConcertModerationDto> getPendingModerationConcertsPage(KeysetPageQuery page) {
+        return concertDao.findConcertsForModerationPage(ConcertStatus.PENDING_VALIDATION, page);
+    }
+
+    /**
+     * Returns one page of approved concerts with moderation projection.
+     *
+     * @param page keyset page and filters
+     * @return page of approved moderation concerts
+     */
+    @Override
+    public ResponsePageDto<ResponseAdminConcertModerationDto> getApprovedConcertsPage(KeysetPageQuery page) {
+        return concertDao.findConcertsForModerationPage(ConcertStatus.PUBLISHED, page);
+    }
+
+    /**
+     * Returns one page of rejected concerts with moderation projection.
+     *
+     * @param page keyset page and filters
+     * @return page of rejected moderation concerts
+     */
+    @Override
+    public ResponsePageDto<ResponseAdminConcertModerationDto> getRejectedConcertsPage(KeysetPageQuery page) {
+        return concertDao.findConcertsForModerationPage(ConcertStatus.REJECTED, page);
+    }
+
+    /**
+     * Returns one page of concerts created by the authenticated organizer.
      *
      * @param authenticatedOrganizerEmail method parameter
-     * @return organizer concert projections
+     * @param page keyset page and filters
+     * @return page of organizer concert projections
      */
     @Override
-    public List<ResponseOrganizerConcertDto> getOrganizerConcerts(String authenticatedOrganizerEmail) {
+    public ResponsePageDto<ResponseOrganizerConcertDto> getOrganizerConcertsPage(
+            String authenticatedOrganizerEmail,
+            KeysetPageQuery page
+    ) {
+        Organizer organizer = resolveAuthenticatedOrganizer(authenticatedOrganizerEmail);
+        return concertDao.findOrganizerConcertsPage(organizer.getId(), page);
+    }
+
+    private Organizer resolveAuthenticatedOrganizer(String authenticatedOrganizerEmail) {
         String email = normalizeRequired("authenticatedOrganizerEmail", authenticatedOrganizerEmail)
                 .toLowerCase(Locale.ROOT);
 
@@ -340,8 +436,7 @@ public class ConcertServiceImpl implements ConcertService {
         if (!(authenticatedUser instanceof Organizer organizer)) {
             throw new ForbiddenException("User is not an organizer");
         }
-
-        return concertDao.findOrganizerConcertsProjection(organizer.getId());
+        return organizer;
     }
 
     private ResponseConcertDetailsDto toResponse(Concert concert) {
@@ -364,8 +459,26 @@ public class ConcertServiceImpl implements ConcertService {
         );
     }
 
-    private List<ResponseAdminConcertModerationDto> getModerationConcertsByStatus(ConcertStatus status) {
-        return concertDao.findConcertsForModerationByStatus(status);
+    private ResponseOrganizerConcertStatsRowDto toStatsRow(Concert concert) {
+        Place place = concert.getPlace();
+        // Timestamp columns keep microseconds: report what a reload from the database would.
+        Instant createdAt = concert.getCreatedAt() == null ? null : concert.getCreatedAt().truncatedTo(ChronoUnit.MICROS);
+        return new ResponseOrganizerConcertStatsRowDto(
+                concert.getId(),
+                concert.getTitle(),
+                concert.getArtist(),
+                createdAt,
+                concert.getDate(),
+                concert.getStatus(),
+                place == null ? null : place.getName(),
+                place == null ? null : place.getAddress(),
+                place == null ? null : place.getZipCode(),
+                place == null ? null : place.getCity(),
+                place == null ? null : place.getCapacity(),
+                concert.getTicketQuantity().longValue(),
+                concert.getTicketSold().longValue(),
+                concert.getUnitPrice()
+        );
     }
 
     private List<Ticket> createInitialTickets(Concert concert, int quantity, BigDecimal unitPrice) {
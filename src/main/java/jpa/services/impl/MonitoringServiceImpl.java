@@ -0,0 +1,137 @@
+package jpa.services.impl;
+
+import com.zaxxer.hikari.HikariPoolMXBean;
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.ServiceUnavailableException;
+import jpa.config.DatabaseConfig;
+import jpa.config.MetricsConfig;
+import jpa.dao.generic.EntityManagerHelper;
+import jpa.dto.monitoring.ResponseConnectionPoolMetricsDto;
+import jpa.dto.monitoring.ResponsePasswordHashingMetricsDto;
+import jpa.metrics.MetricsRegistry;
+import jpa.metrics.PrometheusText;
+import jpa.security.PasswordHashingExecutor;
+import jpa.services.interfaces.MonitoringService;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import java.util.Arrays;
+
+/**
+ * Service implementation MonitoringServiceImpl.
+ */
+public class MonitoringServiceImpl implements MonitoringService {
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final MetricsRegistry metricsRegistry;
+
+    /**
+     * Creates a new instance of MonitoringServiceImpl.
+     *
+     * @param passwordHashingExecutor pool running login and registration requests
+     * @param metricsRegistry request and persistence metrics
+     */
+    public MonitoringServiceImpl(PasswordHashingExecutor passwordHashingExecutor, MetricsRegistry metricsRegistry) {
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    @Override
+    public ResponseConnectionPoolMetricsDto getConnectionPoolMetrics() {
+        HikariPoolMXBean pool = EntityManagerHelper.getConnectionPoolMXBean();
+        if (pool == null) {
+            throw new ServiceUnavailableException("Connection pool metrics are not available");
+        }
+
+        int maxSize = DatabaseConfig.resolveMaxPoolSize();
+        int active = pool.getActiveConnections();
+        return new ResponseConnectionPoolMetricsDto(
+                DatabaseConfig.POOL_NAME,
+                active,
+                pool.getIdleConnections(),
+                pool.getTotalConnections(),
+                pool.getThreadsAwaitingConnection(),
+                DatabaseConfig.resolveMinIdle(),
+                maxSize,
+                Math.round(active * 1000.0 / maxSize) / 10.0
+        );
+    }
+
+    @Override
+    public ResponsePasswordHashingMetricsDto getPasswordHashingMetrics() {
+        return new ResponsePasswordHashingMetricsDto(
+                passwordHashingExecutor.getPoolSize(),
+                passwordHashingExecutor.getActiveCount(),
+                passwordHashingExecutor.getQueueDepth(),
+                passwordHashingExecutor.getQueueCapacity(),
+                passwordHashingExecutor.getCompletedCount(),
+                passwordHashingExecutor.getRejectedCount()
+        );
+    }
+
+    @Override
+    public String getPrometheusMetrics() {
+        if (!MetricsConfig.resolveEnabled()) {
+            throw new NotFoundException("Metrics are disabled");
+        }
+
+        StringBuilder out = new StringBuilder(16_384);
+        metricsRegistry.writePrometheus(out);
+
+        HikariPoolMXBean pool = EntityManagerHelper.getConnectionPoolMXBean();
+        if (pool != null) {
+            PrometheusText.gauge(out, "hikaricp_connections_active", "Connections in use.", pool.getActiveConnections());
+            PrometheusText.gauge(out, "hikaricp_connections_idle", "Idle pooled connections.", pool.getIdleConnections());
+            PrometheusText.gauge(out, "hikaricp_connections_pending", "Threads waiting for a connection.",
+                    pool.getThreadsAwaitingConnection());
+            PrometheusText.gauge(out, "hikaricp_connections_max", "Maximum pool size.", DatabaseConfig.resolveMaxPoolSize());
+        }
+
+        Statistics statistics = EntityManagerHelper.getStatistics();
+        if (statistics != null) {
+            writeCacheRegionMetrics(out, statistics);
+        }
+
+        PrometheusText.gauge(out, "password_hashing_active_threads", "Threads currently hashing.",
+                passwordHashingExecutor.getActiveCount());
+        PrometheusText.gauge(out, "password_hashing_queue_depth", "Requests waiting for a hashing thread.",
+                passwordHashingExecutor.getQueueDepth());
+        PrometheusText.counter(out, "password_hashing_rejected_total", "Requests rejected with HTTP 503.",
+                passwordHashingExecutor.getRejectedCount());
+        return out.toString();
+    }
+
+    /**
+     * Appends hit, miss and put counters of every second-level and query cache region.
+     */
+    private static void writeCacheRegionMetrics(StringBuilder out, Statistics statistics) {
+        String[] regionNames = statistics.getSecondLevelCacheRegionNames();
+        Arrays.sort(regionNames);
+        CacheRegionStatistics[] regions = new CacheRegionStatistics[regionNames.length];
+        for (int i = 0; i < regionNames.length; i++) {
+            regions[i] = statistics.getCacheRegionStatistics(regionNames[i]);
+        }
+
+        PrometheusText.header(out, "hibernate_cache_hits_total", "counter", "Second-level and query cache hits by region.");
+        for (int i = 0; i < regions.length; i++) {
+            if (regions[i] != null) {
+                PrometheusText.sample(out, "hibernate_cache_hits_total", regionLabel(regionNames[i]), regions[i].getHitCount());
+            }
+        }
+        PrometheusText.header(out, "hibernate_cache_misses_total", "counter", "Second-level and query cache misses by region.");
+        for (int i = 0; i < regions.length; i++) {
+            if (regions[i] != null) {
+                PrometheusText.sample(out, "hibernate_cache_misses_total", regionLabel(regionNames[i]), regions[i].getMissCount());
+            }
+        }
+        PrometheusText.header(out, "hibernate_cache_puts_total", "counter", "Entries stored in the second-level and query caches by region.");
+        for (int i = 0; i < regions.length; i++) {
+            if (regions[i] != null) {
+                PrometheusText.sample(out, "hibernate_cache_puts_total", regionLabel(regionNames[i]), regions[i].getPutCount());
+            }
+        }
+    }
+
+    private static String regionLabel(String regionName) {
+        return "region=\"" + PrometheusText.escape(regionName) + "\"";
+    }
+}
@@ -7,6 +7,8 @@ import jakarta.ws.rs.core.Response;
 import jpa.dao.abstracts.ConcertDao;
 import jpa.dao.abstracts.CustomerDao;
 import jpa.dao.abstracts.TicketDao;
+import jpa.dao.pagination.KeysetPageQuery;
+import jpa.dto.pagination.ResponsePageDto;
 import jpa.dto.ticket.PurchaseTicketsRequestDto;
 import jpa.dto.ticket.ResponseCustomerTicketDto;
 import jpa.dto.ticket.ResponseTicketDetailsDto;
@@ -14,11 +16,16 @@ import jpa.entities.Concert;
 import jpa.entities.Customer;
 import jpa.entities.Ticket;
 import jpa.enums.ConcertStatus;
+import jpa.services.cache.CatalogueCache;
 import jpa.services.interfaces.TicketService;
+import jpa.services.inventory.TicketInventoryRegistry;
+import jpa.services.stats.OrganizerStatsStore;
 
 import java.time.Instant;
 import java.util.List;
 import java.util.Locale;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 import static jpa.utils.StringValidation.normalizeRequired;
 
@@ -29,20 +36,34 @@ public class TicketServiceImpl implements TicketService {
     private final TicketDao ticketDao;
     private final ConcertDao concertDao;
     private final CustomerDao customerDao;
+    private final TicketInventoryRegistry ticketInventory;
+    private final CatalogueCache catalogueCache;
+    private final OrganizerStatsStore organizerStatsStore;
 
     /**
      * Creates a new instance of TicketServiceImpl.
      *
      * @param ticketDao method parameter
+     * @param concertDao method parameter
+     * @param customerDao method parameter
+     * @param ticketInventory in-memory inventory used to claim tickets without row locks
+     * @param catalogueCache public catalogue cache whose availability counts change on sales
+     * @param organizerStatsStore materialized organizer statistics updated on sales
      */
     public TicketServiceImpl(
             TicketDao ticketDao,
             ConcertDao concertDao,
-            CustomerDao customerDao
+            CustomerDao customerDao,
+            TicketInventoryRegistry ticketInventory,
+            CatalogueCache catalogueCache,
+            OrganizerStatsStore organizerStatsStore
     ) {
         this.ticketDao = ticketDao;
         this.concertDao = concertDao;
         this.customerDao = customerDao;
+        this.ticketInventory = ticketInventory;
+        this.catalogueCache = catalogueCache;
+        this.organizerStatsStore = organizerStatsStore;
     }
 
     /**
@@ -89,16 +110,56 @@ public class TicketServiceImpl implements TicketService {
             throw new ClientErrorException("Concert already started", Response.Status.CONFLICT);
         }
 
-        List<Ticket> reserved = ticketDao.reserveAvailableTickets(concert.getId(), customer, request.quantity());
+        UUID organizerId = concert.getOrganizer().getId();
+        organizerStatsStore.beginChange(organizerId);
+        List<Ticket> reserved;
+        try {
+            reserved = reserveTickets(concert.getId(), customer, request.quantity());
+        } catch (RuntimeException ex) {
+            organizerStatsStore.abortChange(organizerId);
+            throw ex;
+        }
         if (reserved.size() < request.quantity()) {
+            organizerStatsStore.abortChange(organizerId);
             throw new ClientErrorException("Not enough tickets available", Response.Status.CONFLICT);
         }
+        catalogueCache.markAvailabilityStale();
+        organizerStatsStore.recordTicketsSold(organizerId, concert.getId(), reserved.size());
 
         return reserved.stream()
                 .map(this::toResponse)
                 .toList();
     }
 
+    /**
+     * Claims tickets from the in-memory inventory, then persists the claim with a short write.
+     *
+     * <p>If the claim cannot be persisted (tickets sold by another writer), the inventory of the
+     * concert is dropped and the reservation falls back to the row-locking DAO path.</p>
+     */
+    private List<Ticket> reserveTickets(UUID concertId, Customer customer, int quantity) {
+        List<UUID> claimed = ticketInventory.inventoryFor(concertId).claim(quantity);
+        if (claimed.isEmpty()) {
+            return List.of();
+        }
+
+        List<Ticket> reserved;
+        try {
+            reserved = ticketDao.claimTickets(concertId, claimed, customer);
+        } catch (RuntimeException ex) {
+            // Claimed identifiers are lost for this snapshot; reload it on next purchase.
+            ticketInventory.invalidate(concertId);
+            throw ex;
+        }
+
+        if (reserved.size() == quantity) {
+            return reserved;
+        }
+
+        ticketInventory.invalidate(concertId);
+        return ticketDao.reserveAvailableTickets(concertId, customer, quantity);
+    }
+
     private ResponseTicketDetailsDto toResponse(Ticket ticket) {
         return new ResponseTicketDetailsDto(
                 ticket.getId(),
@@ -108,19 +169,38 @@ public class TicketServiceImpl implements TicketService {
     }
 
     /**
-     * Executes getCustomerTickets operation.
+     * Executes streamCustomerTickets operation.
      *
      * @param authenticatedCustomerEmail method parameter
      * @return operation result
      */
     @Override
-    public List<ResponseCustomerTicketDto> getCustomerTickets(String authenticatedCustomerEmail) {
+    public Stream<ResponseCustomerTicketDto> streamCustomerTickets(String authenticatedCustomerEmail) {
+        Customer customer = resolveAuthenticatedCustomer(authenticatedCustomerEmail);
+        return ticketDao.streamCustomerTicketsProjection(customer.getId());
+    }
+
+    /**
+     * Executes getCustomerTicketsPage operation.
+     *
+     * @param authenticatedCustomerEmail method parameter
+     * @param page keyset page and filters
+     * @return operation result
+     */
+    @Override
+    public ResponsePageDto<ResponseCustomerTicketDto> getCustomerTicketsPage(
+            String authenticatedCustomerEmail,
+            KeysetPageQuery page
+    ) {
+        Customer customer = resolveAuthenticatedCustomer(authenticatedCustomerEmail);
+        return ticketDao.findCustomerTicketsPage(customer.getId(), page);
+    }
+
+    private Customer resolveAuthenticatedCustomer(String authenticatedCustomerEmail) {
         String customerEmail = normalizeRequired("authenticatedCustomerEmail", authenticatedCustomerEmail)
                 .toLowerCase(Locale.ROOT);
 
-        Customer customer = customerDao.findByEmail(customerEmail)
+        return customerDao.findByEmail(customerEmail)
                 .orElseThrow(() -> new NotFoundException("Customer not found"));
-
-        return ticketDao.findCustomerTicketsProjection(customer.getId());
     }
 }
@@ -1,13 +1,18 @@
 package jpa.services.interfaces;
 
+import jpa.dao.pagination.KeysetPageQuery;
 import jpa.dto.concert.CreateConcertRequestDto;
 import jpa.dto.concert.ResponseAdminConcertModerationDto;
 import jpa.dto.concert.ResponseConcertDetailsDto;
 import jpa.dto.concert.ResponseOrganizerConcertDto;
 import jpa.dto.concert.ResponseConcertPlaceDto;
+import jpa.dto.pagination.ResponsePageDto;
+import jpa.enums.ConcertStatus;
+import jpa.services.cache.CachedJson;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Application service for concert lifecycle operations.
@@ -51,39 +56,42 @@ public interface ConcertService {
     List<ResponseConcertDetailsDto> getPublicConcerts();
 
     /**
-     * Lists concerts awaiting admin validation.
+     * Returns {@link #getPublicConcerts()} serialized as JSON, served from the catalogue cache.
      *
-     * @return concerts with status {@code PENDING_VALIDATION}
+     * @return JSON array payload with the catalogue version it reflects
      */
-    List<ResponseConcertDetailsDto> getPendingConcerts();
+    CachedJson getPublicConcertsJson();
 
     /**
-     * Lists pending concerts for admin moderation using flattened projection.
+     * Lists concerts awaiting admin validation.
      *
      * @return concerts with status {@code PENDING_VALIDATION}
      */
-    List<ResponseAdminConcertModerationDto> getPendingModerationConcerts();
+    List<ResponseConcertDetailsDto> getPendingConcerts();
 
     /**
-     * Lists approved concerts for admin moderation using flattened projection.
+     * Streams concerts of one workflow status for admin moderation, without materializing them.
      *
-     * @return concerts with status {@code PUBLISHED}
+     * @param status workflow status to list
+     * @return concerts newest first; the caller must close the stream
      */
-    List<ResponseAdminConcertModerationDto> getApprovedConcerts();
+    Stream<ResponseAdminConcertModerationDto> streamModerationConcerts(ConcertStatus status);
 
     /**
-     * Lists rejected concerts for admin moderation using flattened projection.
+     * Lists published concerts with venue details.
      *
-     * @return concerts with status {@code REJECTED}
+     * @return published concerts projected with place information
      */
-    List<ResponseAdminConcertModerationDto> getRejectedConcerts();
+    List<ResponseConcertPlaceDto> getPublishedConcertsWithPlace();
 
     /**
-     * Lists published concerts with venue details.
+     * Returns {@link #getPublishedConcertsWithPlace()} serialized as JSON, served from the catalogue cache.
      *
-     * @return published concerts projected with place information
+     * <p>Available places may lag behind ticket sales by the configured staleness budget.</p>
+     *
+     * @return JSON array payload with the catalogue version it reflects
      */
-    List<ResponseConcertPlaceDto> getPublishedConcertsWithPlace();
+    CachedJson getPublishedConcertsWithPlaceJson();
 
     /**
      * Lists concerts created by the authenticated organizer.
@@ -92,4 +100,56 @@ public interface ConcertService {
      * @return organizer concert projections
      */
     List<ResponseOrganizerConcertDto> getOrganizerConcerts(String authenticatedOrganizerEmail);
+
+    /**
+     * Returns one page of {@link #getPublicConcerts()}.
+     *
+     * @param page keyset page and filters
+     * @return page of published concerts, ordered by date
+     */
+    ResponsePageDto<ResponseConcertDetailsDto> getPublicConcertsPage(KeysetPageQuery page);
+
+    /**
+     * Returns one page of {@link #getPublishedConcertsWithPlace()}.
+     *
+     * @param page keyset page and filters
+     * @return page of published concerts with place information, ordered by date
+     */
+    ResponsePageDto<ResponseConcertPlaceDto> getPublishedConcertsWithPlacePage(KeysetPageQuery page);
+
+    /**
+     * Returns one page of {@link #streamModerationConcerts(ConcertStatus)} for {@code PENDING_VALIDATION}.
+     *
+     * @param page keyset page and filters
+     * @return page of pending concerts, newest first
+     */
+    ResponsePageDto<ResponseAdminConcertModerationDto> getPendingModerationConcertsPage(KeysetPageQuery page);
+
+    /**
+     * Returns one page of {@link #streamModerationConcerts(ConcertStatus)} for {@code PUBLISHED}.
+     *
+     * @param page keyset page and filters
+     * @return page of approved concerts, newest first
+     */
+    ResponsePageDto<ResponseAdminConcertModerationDto> getApprovedConcertsPage(KeysetPageQuery page);
+
+    /**
+     * Returns one page of {@link #streamModerationConcerts(ConcertStatus)} for {@code REJECTED}.
+     *
+     * @param page keyset page and filters
+     * @return page of rejected concerts, newest first
+     */
+    ResponsePageDto<ResponseAdminConcertModerationDto> getRejectedConcertsPage(KeysetPageQuery page);
+
+    /**
+     * Returns one page of {@link #getOrganizerConcerts(String)}.
+     *
+     * @param authenticatedOrganizerEmail organizer email extracted from JWT context
+     * @param page keyset page and filters
+     * @return page of organizer concerts, newest first
+     */
+    ResponsePageDto<ResponseOrganizerConcertDto> getOrganizerConcertsPage(
+            String authenticatedOrganizerEmail,
+            KeysetPageQuery page
+    );
 }
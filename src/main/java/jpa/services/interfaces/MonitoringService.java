@@ -0,0 +1,30 @@
+package jpa.services.interfaces;
+
+import jpa.dto.monitoring.ResponseConnectionPoolMetricsDto;
+import jpa.dto.monitoring.ResponsePasswordHashingMetricsDto;
+
+/**
+ * Service contract for MonitoringService.
+ */
+public interface MonitoringService {
+    /**
+     * Returns a snapshot of the JDBC connection pool usage.
+     *
+     * @return connection pool metrics
+     */
+    ResponseConnectionPoolMetricsDto getConnectionPoolMetrics();
+
+    /**
+     * Returns a snapshot of the password hashing pool usage.
+     *
+     * @return password hashing metrics
+     */
+    ResponsePasswordHashingMetricsDto getPasswordHashingMetrics();
+
+    /**
+     * Renders request, persistence, connection pool and password hashing metrics for Prometheus.
+     *
+     * @return metrics in the Prometheus text exposition format
+     */
+    String getPrometheusMetrics();
+}
@@ -19,4 +19,11 @@ public interface OrganizerConcertStatsService {
             String authenticatedOrganizerEmail,
             RequestOrganizerConcertStatsDto request
     );
+
+    /**
+     * Recomputes the materialized statistics from the database and repairs any drift.
+     *
+     * @return number of organizers whose statistics had drifted
+     */
+    int verifyOrganizerStats();
 }
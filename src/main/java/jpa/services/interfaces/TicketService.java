@@ -1,10 +1,13 @@
 package jpa.services.interfaces;
 
+import jpa.dao.pagination.KeysetPageQuery;
+import jpa.dto.pagination.ResponsePageDto;
 import jpa.dto.ticket.PurchaseTicketsRequestDto;
 import jpa.dto.ticket.ResponseCustomerTicketDto;
 import jpa.dto.ticket.ResponseTicketDetailsDto;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Service contract for TicketService.
@@ -23,10 +26,24 @@ public interface TicketService {
     );
 
     /**
-     * Lists tickets purchased by the authenticated customer.
+     * Streams tickets purchased by the authenticated customer, without materializing them.
+     *
+     * <p>The customer is resolved eagerly, so an unknown customer fails before any byte is written.</p>
      *
      * @param authenticatedCustomerEmail customer email extracted from JWT context
-     * @return customer tickets projection
+     * @return customer tickets projection; the caller must close the stream
      */
-    List<ResponseCustomerTicketDto> getCustomerTickets(String authenticatedCustomerEmail);
+    Stream<ResponseCustomerTicketDto> streamCustomerTickets(String authenticatedCustomerEmail);
+
+    /**
+     * Returns one page of {@link #streamCustomerTickets(String)}.
+     *
+     * @param authenticatedCustomerEmail customer email extracted from JWT context
+     * @param page keyset page and filters
+     * @return page of customer tickets, ordered by concert date
+     */
+    ResponsePageDto<ResponseCustomerTicketDto> getCustomerTicketsPage(
+            String authenticatedCustomerEmail,
+            KeysetPageQuery page
+    );
 }
@@ -0,0 +1,61 @@
+package jpa.services.inventory;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lock-free snapshot of the unsold tickets of one concert.
+ *
+ * <p>Ticket identifiers are kept in reservation order (oldest first). Buyers claim
+ * consecutive slices by advancing a shared cursor with a compare-and-set, so concurrent
+ * purchases on the same concert never block each other. Ticket stock never grows once a
+ * concert is published, therefore a failed claim means the concert is really short of
+ * tickets.</p>
+ */
+public final class ConcertTicketInventory {
+    private final UUID[] ticketIds;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    /**
+     * Creates a new inventory snapshot.
+     *
+     * @param availableTicketIds unsold ticket identifiers in reservation order
+     */
+    public ConcertTicketInventory(List<UUID> availableTicketIds) {
+        this.ticketIds = availableTicketIds.toArray(new UUID[0]);
+    }
+
+    /**
+     * Claims the next tickets of this concert.
+     *
+     * @param quantity number of tickets to claim
+     * @return claimed ticket identifiers, or empty list if fewer tickets remain
+     */
+    public List<UUID> claim(int quantity) {
+        if (quantity <= 0) {
+            return List.of();
+        }
+
+        while (true) {
+            int start = cursor.get();
+            int end = start + quantity;
+            if (end > ticketIds.length || end < 0) {
+                return List.of();
+            }
+            if (cursor.compareAndSet(start, end)) {
+                return Arrays.asList(Arrays.copyOfRange(ticketIds, start, end));
+            }
+        }
+    }
+
+    /**
+     * Returns the number of tickets not claimed yet.
+     *
+     * @return remaining tickets
+     */
+    public int remaining() {
+        return Math.max(0, ticketIds.length - cursor.get());
+    }
+}
@@ -0,0 +1,72 @@
+package jpa.services.inventory;
+
+import jpa.dao.abstracts.TicketDao;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * Holds one {@link ConcertTicketInventory} per concert.
+ *
+ * <p>Inventories are rehydrated from the database at startup and loaded lazily for
+ * concerts published afterwards. The database stays the source of truth: whenever a
+ * claim cannot be persisted, the caller invalidates the concert so that the next
+ * purchase reloads a fresh snapshot.</p>
+ */
+public class TicketInventoryRegistry {
+    private static final Logger logger = Logger.getLogger(TicketInventoryRegistry.class.getName());
+
+    private final TicketDao ticketDao;
+    private final Map<UUID, ConcertTicketInventory> inventories = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new instance of TicketInventoryRegistry.
+     *
+     * @param ticketDao DAO used to load unsold tickets
+     */
+    public TicketInventoryRegistry(TicketDao ticketDao) {
+        this.ticketDao = ticketDao;
+    }
+
+    /**
+     * Loads the inventory of every published concert.
+     */
+    public void rehydrate() {
+        Map<UUID, List<UUID>> ticketIdsByConcert = ticketDao.findAvailableTicketIdsOfPublishedConcerts();
+        ticketIdsByConcert.forEach((concertId, ticketIds) ->
+                inventories.put(concertId, new ConcertTicketInventory(ticketIds)));
+        logger.info(() -> "Ticket inventory rehydrated for " + ticketIdsByConcert.size() + " published concerts.");
+    }
+
+    /**
+     * Returns the inventory of one concert, loading it from the database on first use.
+     *
+     * @param concertId target concert identifier
+     * @return concert inventory
+     */
+    public ConcertTicketInventory inventoryFor(UUID concertId) {
+        ConcertTicketInventory inventory = inventories.get(concertId);
+        if (inventory != null) {
+            return inventory;
+        }
+
+        // Load outside the map lock; if two threads race, the first snapshot published wins.
+        ConcertTicketInventory loaded = new ConcertTicketInventory(ticketDao.findAvailableTicketIds(concertId));
+        ConcertTicketInventory existing = inventories.putIfAbsent(concertId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    /**
+     * Drops the inventory of one concert so it is reloaded on next use.
+     *
+     * @param concertId target concert identifier
+     */
+    public void invalidate(UUID concertId) {
+        if (concertId != null) {
+            inventories.remove(concertId);
+        }
+    }
+}
@@ -0,0 +1,510 @@
+package jpa.services.stats;
+
+import jpa.dto.concert.ResponseOrganizerConcertStatsDto;
+import jpa.dto.concert.ResponseOrganizerConcertStatsRowDto;
+import jpa.enums.ConcertStatus;
+import jpa.enums.StatsGranularity;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.time.temporal.WeekFields;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+/**
+ * Single-pass aggregation of organizer concert stats rows.
+ *
+ * <p>Each {@link #add(ResponseOrganizerConcertStatsRowDto)} updates the overview, the status,
+ * city and place breakdowns, the timeline and the rankings at once. Money is accumulated in
+ * cents and rates in hundredths of a percent as {@code long}s, {@link BigDecimal} values are
+ * only built for the response. Rankings keep bounded heaps of {@code top} entries instead of
+ * sorting every concert; ties keep row order, like a stable sort would.</p>
+ *
+ * <p>Instances are not thread-safe and are meant to be used for a single response.</p>
+ */
+public final class OrganizerStatsAccumulator {
+
+    private static final BigDecimal ZERO_AMOUNT = BigDecimal.ZERO.setScale(2, RoundingMode.HALF_UP);
+
+    private static final Comparator<Ranked> BY_REVENUE_DESC = Comparator
+            .comparingLong((Ranked ranked) -> ranked.revenueCents).reversed()
+            .thenComparingInt(ranked -> ranked.index);
+    private static final Comparator<Ranked> BY_SELL_THROUGH_DESC = Comparator
+            .comparingLong((Ranked ranked) -> ranked.sellThroughHundredths).reversed()
+            .thenComparingInt(ranked -> ranked.index);
+    private static final Comparator<Ranked> BY_SOLD_DESC = Comparator
+            .comparingInt((Ranked ranked) -> ranked.sold).reversed()
+            .thenComparingInt(ranked -> ranked.index);
+    private static final Comparator<Ranked> BY_SELL_THROUGH_ASC = Comparator
+            .comparingLong((Ranked ranked) -> ranked.sellThroughHundredths)
+            .thenComparingInt(ranked -> ranked.index);
+
+    private final Instant now;
+    private final StatsGranularity granularity;
+    private final List<ResponseOrganizerConcertStatsDto.ConcertItem> concerts = new ArrayList<>();
+
+    private int published;
+    private int pending;
+    private int rejected;
+    private int upcoming;
+    private int past;
+    private long ticketQuantity;
+    private long ticketSold;
+    private long revenueCents;
+    private long sellThroughHundredthsSum;
+
+    private final Map<String, Totals> statusBreakdown = new LinkedHashMap<>();
+    private final Map<String, Totals> cityBreakdown = new LinkedHashMap<>();
+    private final Map<String, Totals> placeBreakdown = new LinkedHashMap<>();
+    private final TreeMap<Instant, Totals> timeline = new TreeMap<>();
+
+    private final TopK topByRevenue;
+    private final TopK topBySellThrough;
+    private final TopK topByTicketsSold;
+    private final TopK worstBySellThrough;
+
+    /**
+     * Creates a new instance of OrganizerStatsAccumulator.
+     *
+     * @param now reference instant for upcoming/past figures
+     * @param granularity timeline bucket size
+     * @param top number of concerts kept per ranking
+     */
+    public OrganizerStatsAccumulator(Instant now, StatsGranularity granularity, int top) {
+        this.now = now;
+        this.granularity = granularity;
+        this.topByRevenue = new TopK(top, BY_REVENUE_DESC);
+        this.topBySellThrough = new TopK(top, BY_SELL_THROUGH_DESC);
+        this.topByTicketsSold = new TopK(top, BY_SOLD_DESC);
+        this.worstBySellThrough = new TopK(top, BY_SELL_THROUGH_ASC);
+    }
+
+    /**
+     * Aggregates every row and returns the overview, without building breakdowns or rankings.
+     *
+     * @param rows stats rows
+     * @param now reference instant for upcoming/past figures
+     * @return overview of the rows
+     */
+    public static ResponseOrganizerConcertStatsDto.Overview overviewOf(
+            List<ResponseOrganizerConcertStatsRowDto> rows,
+            Instant now
+    ) {
+        OrganizerStatsAccumulator accumulator = new OrganizerStatsAccumulator(now, null, 0);
+        rows.forEach(accumulator::add);
+        return accumulator.overview();
+    }
+
+    /**
+     * Aggregates one concert row.
+     *
+     * @param row stats row
+     */
+    public void add(ResponseOrganizerConcertStatsRowDto row) {
+        int quantity = row.ticketQuantity() == null ? 0 : Math.toIntExact(row.ticketQuantity());
+        int sold = row.ticketSold() == null ? 0 : Math.toIntExact(row.ticketSold());
+        BigDecimal unitPrice = row.ticketUnitPrice() == null
+                ? BigDecimal.ZERO
+                : row.ticketUnitPrice().setScale(2, RoundingMode.HALF_UP);
+        long priceCents = unitPrice.movePointRight(2).longValueExact();
+        long concertRevenueCents = priceCents * sold;
+        long sellThroughHundredths = hundredthsOfPercent(sold, quantity);
+        ConcertStatus status = row.concertStatus();
+
+        ResponseOrganizerConcertStatsDto.ConcertItem item = new ResponseOrganizerConcertStatsDto.ConcertItem(
+                row.concertId(),
+                row.concertTitle(),
+                row.concertArtist(),
+                row.concertCreatedAt(),
+                row.concertDate(),
+                status == null ? null : status.name(),
+                row.placeName(),
+                row.placeAddress(),
+                row.placeZipCode(),
+                row.placeCity(),
+                row.placeCapacity(),
+                quantity,
+                sold,
+                Math.max(0, quantity - sold),
+                BigDecimal.valueOf(sellThroughHundredths, 2),
+                BigDecimal.valueOf(concertRevenueCents, 2),
+                unitPrice,
+                status == ConcertStatus.PUBLISHED,
+                row.concertDate() == null ? null : row.concertDate().isBefore(now),
+                row.concertDate() == null ? null : Duration.between(now, row.concertDate()).toDays()
+        );
+        int index = concerts.size();
+        concerts.add(item);
+
+        if (status == ConcertStatus.PUBLISHED) {
+            published++;
+        } else if (status == ConcertStatus.PENDING_VALIDATION) {
+            pending++;
+        } else if (status == ConcertStatus.REJECTED) {
+            rejected++;
+        }
+        if (row.concertDate() != null && row.concertDate().isAfter(now)) {
+            upcoming++;
+        } else if (row.concertDate() != null && row.concertDate().isBefore(now)) {
+            past++;
+        }
+        ticketQuantity += quantity;
+        ticketSold += sold;
+        revenueCents += concertRevenueCents;
+        sellThroughHundredthsSum += sellThroughHundredths;
+
+        if (granularity == null) {
+            return;
+        }
+
+        statusBreakdown.computeIfAbsent(status == null ? "UNKNOWN_STATUS" : status.name(),
+                key -> new Totals(status == null ? "Unknown status" : key)).add(quantity, sold, concertRevenueCents);
+        cityBreakdown.computeIfAbsent(row.placeCity() == null ? "UNKNOWN_CITY" : row.placeCity(),
+                key -> new Totals(row.placeCity() == null ? "Unknown city" : key)).add(quantity, sold, concertRevenueCents);
+        placeBreakdown.computeIfAbsent(row.placeName() == null ? "UNKNOWN_PLACE" : row.placeName(),
+                key -> new Totals(row.placeName() == null ? "Unknown place" : key)).add(quantity, sold, concertRevenueCents);
+
+        Instant source = row.concertCreatedAt() != null ? row.concertCreatedAt() : row.concertDate();
+        if (source != null) {
+            timeline.computeIfAbsent(bucketStart(source, granularity), key -> new Totals(null))
+                    .add(quantity, sold, concertRevenueCents);
+        }
+
+        Ranked ranked = new Ranked(item, index, concertRevenueCents, sellThroughHundredths, sold);
+        topByRevenue.offer(ranked);
+        topBySellThrough.offer(ranked);
+        topByTicketsSold.offer(ranked);
+        worstBySellThrough.offer(ranked);
+    }
+
+    /**
+     * Returns the concerts aggregated so far, in row order.
+     *
+     * @return concert items
+     */
+    public List<ResponseOrganizerConcertStatsDto.ConcertItem> concerts() {
+        return List.copyOf(concerts);
+    }
+
+    /**
+     * Returns the overview figures.
+     *
+     * @return overview
+     */
+    public ResponseOrganizerConcertStatsDto.Overview overview() {
+        int totalConcerts = concerts.size();
+        int totalQuantity = Math.toIntExact(ticketQuantity);
+        int totalSold = Math.toIntExact(ticketSold);
+        BigDecimal grossRevenue = BigDecimal.valueOf(revenueCents, 2);
+
+        BigDecimal averageConcertSellThrough = totalConcerts == 0
+                ? ZERO_AMOUNT
+                : BigDecimal.valueOf(sellThroughHundredthsSum, 2)
+                .divide(BigDecimal.valueOf(totalConcerts), 2, RoundingMode.HALF_UP);
+        BigDecimal averageTicketPrice = totalSold == 0
+                ? ZERO_AMOUNT
+                : grossRevenue.divide(BigDecimal.valueOf(totalSold), 2, RoundingMode.HALF_UP);
+        BigDecimal averageRevenuePerConcert = totalConcerts == 0
+                ? ZERO_AMOUNT
+                : grossRevenue.divide(BigDecimal.valueOf(totalConcerts), 2, RoundingMode.HALF_UP);
+
+        return new ResponseOrganizerConcertStatsDto.Overview(
+                totalConcerts,
+                published,
+                pending,
+                rejected,
+                upcoming,
+                past,
+                totalQuantity,
+                totalSold,
+                Math.max(0, totalQuantity - totalSold),
+                BigDecimal.valueOf(hundredthsOfPercent(ticketSold, ticketQuantity), 2),
+                averageConcertSellThrough,
+                grossRevenue,
+                averageTicketPrice,
+                averageRevenuePerConcert
+        );
+    }
+
+    /**
+     * Returns the breakdown by workflow status, largest first.
+     *
+     * @return breakdown items
+     */
+    public List<ResponseOrganizerConcertStatsDto.BreakdownItem> statusBreakdown() {
+        return toBreakdown(statusBreakdown);
+    }
+
+    /**
+     * Returns the breakdown by city, largest first.
+     *
+     * @return breakdown items
+     */
+    public List<ResponseOrganizerConcertStatsDto.BreakdownItem> cityBreakdown() {
+        return toBreakdown(cityBreakdown);
+    }
+
+    /**
+     * Returns the breakdown by place, largest first.
+     *
+     * @return breakdown items
+     */
+    public List<ResponseOrganizerConcertStatsDto.BreakdownItem> placeBreakdown() {
+        return toBreakdown(placeBreakdown);
+    }
+
+    /**
+     * Returns the timeline, bucketed by creation date (concert date when unknown).
+     *
+     * @return chronological timeline points
+     */
+    public List<ResponseOrganizerConcertStatsDto.TimelinePoint> timeline() {
+        List<ResponseOrganizerConcertStatsDto.TimelinePoint> points = new ArrayList<>(timeline.size());
+        timeline.forEach((start, totals) -> points.add(toTimelinePoint(
+                start,
+                granularity,
+                totals.concertCount,
+                totals.ticketQuantity,
+                totals.ticketSold,
+                totals.revenueCents
+        )));
+        return points;
+    }
+
+    /**
+     * Returns the rankings.
+     *
+     * @return best and worst concerts
+     */
+    public ResponseOrganizerConcertStatsDto.Rankings rankings() {
+        return new ResponseOrganizerConcertStatsDto.Rankings(
+                topByRevenue.ranking(),
+                topBySellThrough.ranking(),
+                topByTicketsSold.ranking(),
+                worstBySellThrough.ranking()
+        );
+    }
+
+    /**
+     * Builds a timeline from per-day rollups, merging days into the requested buckets.
+     *
+     * @param days totals keyed by creation day (UTC)
+     * @param granularity timeline bucket size
+     * @return chronological timeline points
+     */
+    public static List<ResponseOrganizerConcertStatsDto.TimelinePoint> timelineOf(
+            NavigableMap<LocalDate, OrganizerStatsSnapshot.DayRollup> days,
+            StatsGranularity granularity
+    ) {
+        TreeMap<Instant, Totals> buckets = new TreeMap<>();
+        days.forEach((day, rollup) -> {
+            if (rollup.concertsCreated() > 0) {
+                Instant start = bucketStart(day.atStartOfDay(ZoneOffset.UTC).toInstant(), granularity);
+                buckets.computeIfAbsent(start, key -> new Totals(null)).add(rollup);
+            }
+        });
+
+        List<ResponseOrganizerConcertStatsDto.TimelinePoint> points = new ArrayList<>(buckets.size());
+        buckets.forEach((start, totals) -> points.add(toTimelinePoint(
+                start,
+                granularity,
+                totals.concertCount,
+                totals.ticketQuantity,
+                totals.ticketSold,
+                totals.revenueCents
+        )));
+        return points;
+    }
+
+    private List<ResponseOrganizerConcertStatsDto.BreakdownItem> toBreakdown(Map<String, Totals> breakdown) {
+        int totalConcerts = concerts.size();
+        List<ResponseOrganizerConcertStatsDto.BreakdownItem> items = new ArrayList<>(breakdown.size());
+        breakdown.forEach((key, totals) -> {
+            int quantity = Math.toIntExact(totals.ticketQuantity);
+            int sold = Math.toIntExact(totals.ticketSold);
+            items.add(new ResponseOrganizerConcertStatsDto.BreakdownItem(
+                    key,
+                    totals.label,
+                    totals.concertCount,
+                    quantity,
+                    sold,
+                    Math.max(0, quantity - sold),
+                    BigDecimal.valueOf(hundredthsOfPercent(sold, quantity), 2),
+                    BigDecimal.valueOf(totals.revenueCents, 2),
+                    BigDecimal.valueOf(hundredthsOfPercent(totals.concertCount, totalConcerts), 2)
+            ));
+        });
+        // List.sort is stable: equal counts keep first-seen order.
+        items.sort(Comparator.comparing(ResponseOrganizerConcertStatsDto.BreakdownItem::concertCount).reversed());
+        return items;
+    }
+
+    private static ResponseOrganizerConcertStatsDto.TimelinePoint toTimelinePoint(
+            Instant start,
+            StatsGranularity granularity,
+            int concertCount,
+            long quantity,
+            long sold,
+            long revenueCents
+    ) {
+        return new ResponseOrganizerConcertStatsDto.TimelinePoint(
+                start,
+                bucketEnd(start, granularity),
+                bucketLabel(start, granularity),
+                concertCount,
+                Math.toIntExact(quantity),
+                Math.toIntExact(sold),
+                BigDecimal.valueOf(revenueCents, 2)
+        );
+    }
+
+    /**
+     * Computes {@code part / total} in hundredths of a percent, rounded half up.
+     */
+    private static long hundredthsOfPercent(long part, long total) {
+        if (total <= 0) {
+            return 0L;
+        }
+        long scaled = part * 10_000L;
+        long quotient = scaled / total;
+        long remainder = scaled % total;
+        return Math.abs(remainder) * 2 >= total ? quotient + Long.signum(scaled) : quotient;
+    }
+
+    private static Instant bucketStart(Instant source, StatsGranularity granularity) {
+        ZonedDateTime zdt = source.atZone(ZoneOffset.UTC);
+        return switch (granularity) {
+            case DAY -> zdt.toLocalDate().atStartOfDay(ZoneOffset.UTC).toInstant();
+            case WEEK -> zdt.toLocalDate()
+                    .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                    .atStartOfDay(ZoneOffset.UTC)
+                    .toInstant();
+            case MONTH -> zdt.withDayOfMonth(1).toLocalDate().atStartOfDay(ZoneOffset.UTC).toInstant();
+        };
+    }
+
+    private static Instant bucketEnd(Instant start, StatsGranularity granularity) {
+        ZonedDateTime zdt = start.atZone(ZoneOffset.UTC);
+        return switch (granularity) {
+            case DAY -> zdt.plusDays(1).toInstant();
+            case WEEK -> zdt.plusWeeks(1).toInstant();
+            case MONTH -> zdt.plusMonths(1).toInstant();
+        };
+    }
+
+    private static String bucketLabel(Instant start, StatsGranularity granularity) {
+        ZonedDateTime zdt = start.atZone(ZoneOffset.UTC);
+        return switch (granularity) {
+            case DAY -> zdt.toLocalDate().toString();
+            case WEEK -> {
+                WeekFields weekFields = WeekFields.ISO;
+                int week = zdt.get(weekFields.weekOfWeekBasedYear());
+                int year = zdt.get(weekFields.weekBasedYear());
+                yield year + "-W" + String.format("%02d", week);
+            }
+            case MONTH -> String.format("%d-%02d", zdt.getYear(), zdt.getMonthValue());
+        };
+    }
+
+    /**
+     * Counters shared by breakdown entries and timeline buckets.
+     */
+    private static final class Totals {
+        private final String label;
+        private int concertCount;
+        private long ticketQuantity;
+        private long ticketSold;
+        private long revenueCents;
+
+        private Totals(String label) {
+            this.label = label;
+        }
+
+        private void add(int quantity, int sold, long concertRevenueCents) {
+            concertCount += 1;
+            ticketQuantity += quantity;
+            ticketSold += sold;
+            revenueCents += concertRevenueCents;
+        }
+
+        private void add(OrganizerStatsSnapshot.DayRollup rollup) {
+            concertCount += rollup.concertsCreated();
+            ticketQuantity += rollup.ticketQuantity();
+            ticketSold += rollup.ticketSold();
+            revenueCents += rollup.grossRevenueCents();
+        }
+    }
+
+    /**
+     * Concert with its primitive ranking keys.
+     */
+    private record Ranked(
+            ResponseOrganizerConcertStatsDto.ConcertItem item,
+            int index,
+            long revenueCents,
+            long sellThroughHundredths,
+            int sold
+    ) {
+    }
+
+    /**
+     * Keeps the {@code limit} best entries for an ordering in a heap whose head is the worst kept.
+     */
+    private static final class TopK {
+        private final int limit;
+        private final Comparator<Ranked> order;
+        private final PriorityQueue<Ranked> heap;
+
+        private TopK(int limit, Comparator<Ranked> order) {
+            this.limit = limit;
+            this.order = order;
+            this.heap = new PriorityQueue<>(Math.max(1, limit), order.reversed());
+        }
+
+        private void offer(Ranked ranked) {
+            if (limit <= 0) {
+                return;
+            }
+            if (heap.size() < limit) {
+                heap.add(ranked);
+            } else if (order.compare(ranked, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(ranked);
+            }
+        }
+
+        private List<ResponseOrganizerConcertStatsDto.RankingItem> ranking() {
+            List<Ranked> kept = new ArrayList<>(heap);
+            kept.sort(order);
+            List<ResponseOrganizerConcertStatsDto.RankingItem> items = new ArrayList<>(kept.size());
+            for (Ranked ranked : kept) {
+                ResponseOrganizerConcertStatsDto.ConcertItem item = ranked.item();
+                items.add(new ResponseOrganizerConcertStatsDto.RankingItem(
+                        item.concertId(),
+                        item.concertTitle(),
+                        item.concertArtist(),
+                        item.concertDate(),
+                        item.concertStatus(),
+                        item.ticketQuantity(),
+                        item.ticketSold(),
+                        item.sellThroughRatePct(),
+                        item.grossRevenue()
+                ));
+            }
+            return items;
+        }
+    }
+}
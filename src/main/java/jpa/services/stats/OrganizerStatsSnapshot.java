@@ -0,0 +1,50 @@
+package jpa.services.stats;
+
+import jpa.dto.concert.ResponseOrganizerConcertStatsRowDto;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Objects;
+
+/**
+ * Point-in-time copy of the rollups of one organizer.
+ *
+ * @param concerts per-concert rows, newest creation first
+ * @param days per-day totals keyed by concert creation day (UTC)
+ */
+public record OrganizerStatsSnapshot(
+        List<ResponseOrganizerConcertStatsRowDto> concerts,
+        NavigableMap<LocalDate, DayRollup> days
+) {
+
+    /**
+     * Totals of the concerts created on one day.
+     *
+     * @param concertsCreated number of concerts
+     * @param ticketQuantity tickets put on sale
+     * @param ticketSold tickets sold
+     * @param grossRevenueCents revenue of the sold tickets, in cents
+     */
+    public record DayRollup(int concertsCreated, long ticketQuantity, long ticketSold, long grossRevenueCents) {}
+
+    /**
+     * Returns the concerts whose date lies within the bounds, as the stats query filters them.
+     *
+     * @param fromInclusive lower bound on the concert date, {@code null} for none
+     * @param toInclusive upper bound on the concert date, {@code null} for none
+     * @return matching rows, newest creation first
+     */
+    public List<ResponseOrganizerConcertStatsRowDto> concertsDated(Instant fromInclusive, Instant toInclusive) {
+        if (fromInclusive == null && toInclusive == null) {
+            return concerts;
+        }
+
+        return concerts.stream()
+                .filter(row -> Objects.nonNull(row.concertDate()))
+                .filter(row -> fromInclusive == null || !row.concertDate().isBefore(fromInclusive))
+                .filter(row -> toInclusive == null || !row.concertDate().isAfter(toInclusive))
+                .toList();
+    }
+}
@@ -0,0 +1,374 @@
+package jpa.services.stats;
+
+import jpa.dto.concert.ResponseOrganizerConcertStatsRowDto;
+import jpa.enums.ConcertStatus;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+/**
+ * Materialized organizer statistics, kept up to date by business events instead of queries.
+ *
+ * <p>Each organizer gets a per-concert rollup (the stats rows, newest first) and a per-day
+ * rollup keyed by concert creation day. They are loaded from the database on first read and
+ * then updated incrementally on concert creation, status transitions and ticket sales.</p>
+ *
+ * <p>Writers call {@link #beginChange(UUID)} before their transaction and apply the event once
+ * it committed, or call {@link #abortChange(UUID)} when it failed. A load is only installed when
+ * no change of the organizer was in progress or applied while it ran (otherwise the next read
+ * loads again), so rows already holding a committed change never receive its event as well.
+ * {@link #verify(Function)} recomputes loaded organizers from the database as a consistency
+ * check and repairs any drift.</p>
+ */
+public class OrganizerStatsStore {
+
+    private static final Logger logger = Logger.getLogger(OrganizerStatsStore.class.getName());
+    private static final Comparator<ResponseOrganizerConcertStatsRowDto> NEWEST_FIRST = Comparator
+            .comparing(ResponseOrganizerConcertStatsRowDto::concertCreatedAt,
+                    Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(ResponseOrganizerConcertStatsRowDto::concertId);
+
+    private final ConcurrentHashMap<UUID, OrganizerRollup> rollups = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the statistics of one organizer, loading them on first access.
+     *
+     * @param organizerId organizer identifier
+     * @param loader full recomputation of the organizer rows from the database
+     * @return immutable snapshot
+     */
+    public OrganizerStatsSnapshot snapshot(
+            UUID organizerId,
+            Function<UUID, List<ResponseOrganizerConcertStatsRowDto>> loader
+    ) {
+        OrganizerRollup rollup = rollups.computeIfAbsent(organizerId, ignored -> new OrganizerRollup());
+        long loadStamp;
+        synchronized (rollup) {
+            if (rollup.isLoaded()) {
+                return rollup.snapshot();
+            }
+            loadStamp = rollup.changeCount;
+        }
+
+        List<ResponseOrganizerConcertStatsRowDto> rows = loader.apply(organizerId);
+        synchronized (rollup) {
+            if (!rollup.isLoaded() && rollup.isSettled(loadStamp)) {
+                rollup.load(rows);
+            }
+            if (rollup.isLoaded()) {
+                return rollup.snapshot();
+            }
+        }
+
+        // A change was in progress while loading: serve the rows read, the next call loads again.
+        OrganizerRollup detached = new OrganizerRollup();
+        detached.load(rows);
+        return detached.snapshot();
+    }
+
+    /**
+     * Announces a write about to change the statistics of an organizer.
+     *
+     * <p>Must be followed by the matching {@code record...} call once the write committed, or by
+     * {@link #abortChange(UUID)} when it failed.</p>
+     *
+     * @param organizerId owner of the concert about to change
+     */
+    public void beginChange(UUID organizerId) {
+        if (organizerId == null) {
+            return;
+        }
+
+        OrganizerRollup rollup = rollups.computeIfAbsent(organizerId, ignored -> new OrganizerRollup());
+        synchronized (rollup) {
+            rollup.changeCount++;
+            rollup.pendingChanges++;
+        }
+    }
+
+    /**
+     * Ends a change announced by {@link #beginChange(UUID)} whose write did not commit.
+     *
+     * @param organizerId owner of the concert
+     */
+    public void abortChange(UUID organizerId) {
+        apply(organizerId, rollup -> true);
+    }
+
+    /**
+     * Records a newly created concert, ending the change announced for it.
+     *
+     * @param organizerId owner of the concert
+     * @param row stats row of the created concert
+     */
+    public void recordConcertCreated(UUID organizerId, ResponseOrganizerConcertStatsRowDto row) {
+        apply(organizerId, rollup -> rollup.add(row));
+    }
+
+    /**
+     * Records a workflow status transition, ending the change announced for it.
+     *
+     * @param organizerId owner of the concert
+     * @param concertId transitioned concert
+     * @param status new status
+     */
+    public void recordStatusChanged(UUID organizerId, UUID concertId, ConcertStatus status) {
+        apply(organizerId, rollup -> rollup.replace(concertId, row -> withStatus(row, status)));
+    }
+
+    /**
+     * Records committed ticket sales, ending the change announced for them.
+     *
+     * @param organizerId owner of the concert
+     * @param concertId concert whose tickets were sold
+     * @param quantity number of tickets sold
+     */
+    public void recordTicketsSold(UUID organizerId, UUID concertId, int quantity) {
+        apply(organizerId, rollup -> rollup.replace(concertId, row -> withSold(row, quantity)));
+    }
+
+    /**
+     * Recomputes every loaded organizer from the database and repairs drifted rollups.
+     *
+     * @param loader full recomputation of the organizer rows from the database
+     * @return number of organizers whose rollup had drifted
+     */
+    public int verify(Function<UUID, List<ResponseOrganizerConcertStatsRowDto>> loader) {
+        int repaired = 0;
+        for (Map.Entry<UUID, OrganizerRollup> entry : rollups.entrySet()) {
+            OrganizerRollup rollup = entry.getValue();
+            long stamp;
+            synchronized (rollup) {
+                if (!rollup.isLoaded()) {
+                    continue;
+                }
+                stamp = rollup.changeCount;
+            }
+
+            List<ResponseOrganizerConcertStatsRowDto> rows = loader.apply(entry.getKey());
+            synchronized (rollup) {
+                // A concurrent change makes the comparison meaningless; the next run checks again.
+                if (rollup.isLoaded() && rollup.isSettled(stamp) && !rollup.matches(rows)) {
+                    logger.warning("Organizer stats rollup drifted for organizer " + entry.getKey() + "; reloaded.");
+                    rollup.load(rows);
+                    repaired++;
+                }
+            }
+        }
+        return repaired;
+    }
+
+    private void apply(UUID organizerId, Predicate<OrganizerRollup> change) {
+        if (organizerId == null) {
+            return;
+        }
+
+        OrganizerRollup rollup = rollups.computeIfAbsent(organizerId, ignored -> new OrganizerRollup());
+        synchronized (rollup) {
+            rollup.changeCount++;
+            if (rollup.pendingChanges > 0) {
+                rollup.pendingChanges--;
+            }
+            if (rollup.isLoaded() && !change.test(rollup)) {
+                // The rollup misses the concert: drop it rather than serve wrong figures.
+                rollup.unload();
+            }
+        }
+    }
+
+    private static ResponseOrganizerConcertStatsRowDto withStatus(
+            ResponseOrganizerConcertStatsRowDto row,
+            ConcertStatus status
+    ) {
+        return new ResponseOrganizerConcertStatsRowDto(
+                row.concertId(),
+                row.concertTitle(),
+                row.concertArtist(),
+                row.concertCreatedAt(),
+                row.concertDate(),
+                status,
+                row.placeName(),
+                row.placeAddress(),
+                row.placeZipCode(),
+                row.placeCity(),
+                row.placeCapacity(),
+                row.ticketQuantity(),
+                row.ticketSold(),
+                row.ticketUnitPrice()
+        );
+    }
+
+    private static ResponseOrganizerConcertStatsRowDto withSold(ResponseOrganizerConcertStatsRowDto row, int quantity) {
+        long sold = row.ticketSold() == null ? 0L : row.ticketSold();
+        return new ResponseOrganizerConcertStatsRowDto(
+                row.concertId(),
+                row.concertTitle(),
+                row.concertArtist(),
+                row.concertCreatedAt(),
+                row.concertDate(),
+                row.concertStatus(),
+                row.placeName(),
+                row.placeAddress(),
+                row.placeZipCode(),
+                row.placeCity(),
+                row.placeCapacity(),
+                row.ticketQuantity(),
+                sold + quantity,
+                row.ticketUnitPrice()
+        );
+    }
+
+    private static LocalDate dayOf(ResponseOrganizerConcertStatsRowDto row) {
+        Instant source = row.concertCreatedAt() != null ? row.concertCreatedAt() : row.concertDate();
+        return source == null ? null : LocalDate.ofInstant(source, ZoneOffset.UTC);
+    }
+
+    private static long revenueCents(ResponseOrganizerConcertStatsRowDto row, long sold) {
+        if (row.ticketUnitPrice() == null) {
+            return 0L;
+        }
+        return row.ticketUnitPrice().setScale(2, RoundingMode.HALF_UP).movePointRight(2).longValueExact() * sold;
+    }
+
+    /**
+     * Rollups of one organizer; every access holds the instance monitor.
+     */
+    private static final class OrganizerRollup {
+        private long changeCount;
+        private int pendingChanges;
+        private TreeMap<ResponseOrganizerConcertStatsRowDto, ResponseOrganizerConcertStatsRowDto> concerts;
+        private Map<UUID, ResponseOrganizerConcertStatsRowDto> concertsById;
+        private TreeMap<LocalDate, DayTotals> days;
+
+        private boolean isLoaded() {
+            return concerts != null;
+        }
+
+        /**
+         * Tells whether rows read since {@code stamp} reflect every change applied to this rollup.
+         */
+        private boolean isSettled(long stamp) {
+            return changeCount == stamp && pendingChanges == 0;
+        }
+
+        private void load(List<ResponseOrganizerConcertStatsRowDto> rows) {
+            concerts = new TreeMap<>(NEWEST_FIRST);
+            concertsById = new HashMap<>();
+            days = new TreeMap<>();
+            for (ResponseOrganizerConcertStatsRowDto row : rows) {
+                add(row);
+            }
+        }
+
+        private void unload() {
+            concerts = null;
+            concertsById = null;
+            days = null;
+        }
+
+        private boolean add(ResponseOrganizerConcertStatsRowDto row) {
+            if (concertsById.containsKey(row.concertId())) {
+                return false;
+            }
+            concerts.put(row, row);
+            concertsById.put(row.concertId(), row);
+            LocalDate day = dayOf(row);
+            if (day != null) {
+                days.computeIfAbsent(day, ignored -> new DayTotals()).add(row, 1);
+            }
+            return true;
+        }
+
+        private boolean replace(
+                UUID concertId,
+                Function<ResponseOrganizerConcertStatsRowDto, ResponseOrganizerConcertStatsRowDto> change
+        ) {
+            ResponseOrganizerConcertStatsRowDto previous = concertsById.get(concertId);
+            if (previous == null) {
+                return false;
+            }
+
+            ResponseOrganizerConcertStatsRowDto updated = change.apply(previous);
+            // Same creation timestamp and id: the sort key is unchanged, only the value is swapped.
+            concerts.put(previous, updated);
+            concertsById.put(concertId, updated);
+            LocalDate day = dayOf(previous);
+            if (day != null) {
+                DayTotals totals = days.get(day);
+                totals.add(previous, -1);
+                totals.add(updated, 1);
+            }
+            return true;
+        }
+
+        private boolean matches(List<ResponseOrganizerConcertStatsRowDto> rows) {
+            if (rows.size() != concertsById.size()) {
+                return false;
+            }
+            for (ResponseOrganizerConcertStatsRowDto row : rows) {
+                ResponseOrganizerConcertStatsRowDto stored = concertsById.get(row.concertId());
+                if (stored == null || !sameFigures(stored, row)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private OrganizerStatsSnapshot snapshot() {
+            NavigableMap<LocalDate, OrganizerStatsSnapshot.DayRollup> dayCopy = new TreeMap<>();
+            days.forEach((day, totals) -> dayCopy.put(day, totals.toRollup()));
+            return new OrganizerStatsSnapshot(List.copyOf(concerts.values()), Collections.unmodifiableNavigableMap(dayCopy));
+        }
+    }
+
+    private static boolean sameFigures(ResponseOrganizerConcertStatsRowDto a, ResponseOrganizerConcertStatsRowDto b) {
+        // Only the figures events change are compared: dates and place details are set at creation,
+        // and the in-memory instants may carry more precision than the stored columns.
+        return a.concertStatus() == b.concertStatus()
+                && Objects.equals(a.ticketQuantity(), b.ticketQuantity())
+                && Objects.equals(a.ticketSold(), b.ticketSold())
+                && compareNullable(a.ticketUnitPrice(), b.ticketUnitPrice());
+    }
+
+    private static boolean compareNullable(BigDecimal a, BigDecimal b) {
+        return a == null ? b == null : b != null && a.compareTo(b) == 0;
+    }
+
+    /**
+     * Mutable per-day totals.
+     */
+    private static final class DayTotals {
+        private int concertsCreated;
+        private long ticketQuantity;
+        private long ticketSold;
+        private long grossRevenueCents;
+
+        private void add(ResponseOrganizerConcertStatsRowDto row, int sign) {
+            long sold = row.ticketSold() == null ? 0L : row.ticketSold();
+            concertsCreated += sign;
+            ticketQuantity += sign * (row.ticketQuantity() == null ? 0L : row.ticketQuantity());
+            ticketSold += sign * sold;
+            grossRevenueCents += sign * revenueCents(row, sold);
+        }
+
+        private OrganizerStatsSnapshot.DayRollup toRollup() {
+            return new OrganizerStatsSnapshot.DayRollup(concertsCreated, ticketQuantity, ticketSold, grossRevenueCents);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package jpa.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Utility helper GzipCompression.
+ */
+public final class GzipCompression {
+
+    private GzipCompression() {}
+
+    /**
+     * Compresses a payload in memory.
+     *
+     * @param data bytes to compress
+     * @return gzip-encoded bytes
+     */
+    public static byte[] compress(byte[] data) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(data);
+        } catch (IOException ex) {
+            // In-memory streams do not fail; keep the checked exception out of callers.
+            throw new UncheckedIOException(ex);
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,326 @@
+package jpa.queryplans;
+
+import jpa.config.ReferenceDataInitializer;
+import jpa.dao.abstracts.ConcertDao;
+import jpa.dao.abstracts.CustomerDao;
+import jpa.dao.abstracts.OrganizerConcertStatsDao;
+import jpa.dao.abstracts.RefreshTokenDao;
+import jpa.dao.abstracts.TicketDao;
+import jpa.dao.abstracts.UserDao;
+import jpa.dao.generic.EntityManagerHelper;
+import jpa.dao.impl.ConcertDaoImpl;
+import jpa.dao.impl.CustomerDaoImpl;
+import jpa.dao.impl.OrganizerConcertStatsDaoImpl;
+import jpa.dao.impl.RefreshTokenDaoImpl;
+import jpa.dao.impl.TicketDaoImpl;
+import jpa.dao.impl.UserDaoImpl;
+import jpa.dao.pagination.KeysetCursor;
+import jpa.dao.pagination.KeysetPageQuery;
+import jpa.dto.ticket.ResponseCustomerTicketDto;
+import jpa.entities.Concert;
+import jpa.entities.Customer;
+import jpa.entities.RefreshToken;
+import jpa.enums.ConcertStatus;
+import org.hibernate.Session;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Checks that the hot DAO queries are served by their intended index.
+ *
+ * <p>Seeds an in-memory HSQLDB database with the reference data, runs each DAO method while
+ * capturing the SQL Hibernate sends, then asks HSQLDB for the plan of every captured statement
+ * ({@code EXPLAIN PLAN FOR}). A check fails when an expected index is not used, or when one of
+ * its tables is read with a full scan. The process exits with status {@code 1} on failure, so a
+ * query rewrite silently falling back to a scan fails the build.</p>
+ */
+public final class QueryPlanCheck {
+
+    private static final Logger logger = Logger.getLogger(QueryPlanCheck.class.getName());
+    private static final String SIGNING_KEY = "queryplans-signing-key-0123456789abcdefghijklmnop";
+    private static final String UNIQUE_CONSTRAINT = "SYS_CT_";
+    private static final Pattern RANGE_VARIABLE = Pattern.compile(
+            "table=(\\S+).*?access=([A-Z ]+?)\\s*\\n(?:\\s*join condition = \\[index=(\\S+))?",
+            Pattern.DOTALL
+    );
+
+    private final List<String> capturedSql = new ArrayList<>();
+
+    private QueryPlanCheck() {}
+
+    /**
+     * Runs every check and exits with status {@code 1} when one of them fails.
+     *
+     * @param args unused
+     */
+    public static void main(String[] args) {
+        setIfAbsent("app.db.url", "jdbc:hsqldb:mem:queryplans-" + UUID.randomUUID());
+        setIfAbsent("app.auth.jwt.signing.key", SIGNING_KEY);
+        setIfAbsent("app.admin.registration.key", SIGNING_KEY);
+        setIfAbsent("app.db.show-sql", "false");
+        Logger.getLogger("").setLevel(Level.WARNING);
+        logger.setLevel(Level.INFO);
+
+        QueryPlanCheck check = new QueryPlanCheck();
+        List<String> failures = check.run();
+        for (String failure : failures) {
+            logger.severe(failure);
+        }
+        logger.info(failures.isEmpty() ? "Query plans: every check passed." : "Query plans: " + failures.size() + " failure(s).");
+        System.exit(failures.isEmpty() ? 0 : 1);
+    }
+
+    private List<String> run() {
+        ConcertDao concertDao = new ConcertDaoImpl();
+        TicketDao ticketDao = new TicketDaoImpl();
+        UserDao userDao = new UserDaoImpl();
+        CustomerDao customerDao = new CustomerDaoImpl();
+        RefreshTokenDao refreshTokenDao = new RefreshTokenDaoImpl();
+        OrganizerConcertStatsDao organizerConcertStatsDao = new OrganizerConcertStatsDaoImpl();
+
+        ReferenceDataInitializer.seedPlacesIfEmpty();
+        ReferenceDataInitializer.seedConcertsIfEmpty();
+        Concert concert = concertDao.findAll().stream()
+                .filter(candidate -> candidate.getStatus() == ConcertStatus.PUBLISHED)
+                .max(Comparator.comparing(Concert::getDate))
+                .orElseThrow(() -> new IllegalStateException("Reference data has no published concert"));
+        UUID concertId = concert.getId();
+        UUID placeId = concert.getPlace().getId();
+        UUID organizerId = concert.getOrganizer().getId();
+        Customer customer = seedCustomer(customerDao);
+        ticketDao.reserveAvailableTickets(concertId, customer, 1);
+        String tokenHash = seedRefreshToken(refreshTokenDao, customer);
+        EntityManagerHelper.getEntityManager().clear();
+
+        Instant now = Instant.now();
+        KeysetPageQuery firstPage = new KeysetPageQuery(10, null, null, null, null);
+        KeysetPageQuery nextPage = new KeysetPageQuery(10, new KeysetCursor(now, concertId), null, null, null);
+
+        List<String> failures = new ArrayList<>();
+        List<Expected> concertsByStatus = List.of(new Expected("CONCERTS", "IDX_CONCERTS_STATUS_DATE"));
+        List<Expected> concertsByPlace = List.of(new Expected("CONCERTS", "IDX_CONCERTS_PLACE_DATE"));
+        List<Expected> concertsByOrganizer = List.of(new Expected("CONCERTS", "IDX_CONCERTS_ORGANIZER_CREATED_AT"));
+        List<Expected> ticketsByConcert = List.of(new Expected("TICKETS", "IDX_TICKETS_CONCERT_SOLD_CREATED_AT"));
+        List<Expected> ticketsByCustomer = List.of(new Expected("TICKETS", "IDX_TICKETS_CUSTOMER_SOLD"));
+        // Columns declared unique inline get a generated constraint name, reported by the plan.
+        List<Expected> usersByEmail = List.of(new Expected("USERS", UNIQUE_CONSTRAINT));
+        List<Expected> refreshTokensByHash = List.of(new Expected("REFRESH_TOKENS", UNIQUE_CONSTRAINT));
+
+        check(failures, "concerts by status", concertsByStatus,
+                () -> concertDao.findConcertDetailsProjectionByStatus(ConcertStatus.PUBLISHED));
+        check(failures, "concert details page", concertsByStatus,
+                () -> concertDao.findConcertDetailsPage(ConcertStatus.PUBLISHED, firstPage));
+        check(failures, "concert details next page", concertsByStatus,
+                () -> concertDao.findConcertDetailsPage(ConcertStatus.PUBLISHED, nextPage));
+        check(failures, "published concerts with place", concertsByStatus,
+                concertDao::findPublishedConcertsWithPlaceProjection);
+        check(failures, "published concerts with place next page", concertsByStatus,
+                () -> concertDao.findPublishedConcertsWithPlacePage(nextPage));
+        check(failures, "place booking conflict", concertsByPlace,
+                () -> concertDao.existsPlaceBookingConflict(
+                        placeId,
+                        now,
+                        now.plus(3, ChronoUnit.HOURS),
+                        List.of(ConcertStatus.PENDING_VALIDATION, ConcertStatus.PUBLISHED)
+                ));
+        check(failures, "organizer concerts", concertsByOrganizer,
+                () -> concertDao.findOrganizerConcertsProjection(organizerId));
+        check(failures, "organizer concerts next page", concertsByOrganizer,
+                () -> concertDao.findOrganizerConcertsPage(organizerId, nextPage));
+        check(failures, "organizer stats rows", List.of(
+                        new Expected("CONCERTS", "IDX_CONCERTS_ORGANIZER_CREATED_AT"),
+                        new Expected("TICKETS", "IDX_TICKETS_CONCERT_SOLD_CREATED_AT")
+                ),
+                () -> organizerConcertStatsDao.findOrganizerConcertStatsRows(organizerId, null, null));
+        check(failures, "available ticket ids", ticketsByConcert,
+                () -> ticketDao.findAvailableTicketIds(concertId));
+        check(failures, "ticket reservation", ticketsByConcert,
+                () -> ticketDao.reserveAvailableTickets(concertId, customer, 1));
+        check(failures, "customer tickets", ticketsByCustomer,
+                () -> {
+                    try (Stream<ResponseCustomerTicketDto> rows = ticketDao.streamCustomerTicketsProjection(customer.getId())) {
+                        rows.forEach(row -> {});
+                    }
+                });
+        check(failures, "customer tickets next page", ticketsByCustomer,
+                () -> ticketDao.findCustomerTicketsPage(customer.getId(), nextPage));
+        check(failures, "user by email", usersByEmail,
+                () -> userDao.findByEmail(customer.getEmail()));
+        check(failures, "customer by email", usersByEmail,
+                () -> customerDao.findByEmail(customer.getEmail()));
+        check(failures, "valid refresh token", refreshTokensByHash,
+                () -> refreshTokenDao.findValidByHash(tokenHash, now));
+        check(failures, "refresh token revocation", refreshTokensByHash,
+                () -> refreshTokenDao.revoke(tokenHash, now));
+        check(failures, "refresh token purge", List.of(
+                        new Expected("REFRESH_TOKENS", "IDX_REFRESH_TOKENS_EXPIRES_AT"),
+                        new Expected("REFRESH_TOKENS", "IDX_REFRESH_TOKENS_REVOKED_AT")
+                ),
+                () -> refreshTokenDao.deleteExpiredOrRevoked(now.minus(1, ChronoUnit.DAYS), 100));
+        return failures;
+    }
+
+    /**
+     * Runs one DAO call and checks the plans of the statements it sent.
+     *
+     * @param failures collected failure messages
+     * @param name check name
+     * @param expectedIndexes indexes the statements must use
+     * @param action DAO call under test
+     */
+    private void check(List<String> failures, String name, List<Expected> expectedIndexes, Runnable action) {
+        List<String> statements = capture(action);
+        List<Access> accesses = new ArrayList<>();
+        for (String sql : statements) {
+            // Inserts read no table: there is no access path to check.
+            if (!sql.stripLeading().toLowerCase(Locale.ROOT).startsWith("insert")) {
+                accesses.addAll(explain(sql));
+            }
+        }
+
+        int before = failures.size();
+        for (Expected expected : expectedIndexes) {
+            String table = expected.table();
+            boolean used = accesses.stream().anyMatch(access -> access.table().equals(table)
+                    && !access.isScan()
+                    && access.index().startsWith(expected.indexPrefix()));
+            if (!used) {
+                failures.add(name + ": " + table + " not read through " + expected.indexPrefix() + ", plans: " + accesses);
+            }
+            accesses.stream()
+                    .filter(access -> access.table().equals(table) && access.isScan())
+                    .findFirst()
+                    .ifPresent(access -> failures.add(name + ": " + table + " read by " + access.access()));
+        }
+        if (failures.size() == before) {
+            logger.info(() -> "OK   " + name + " " + accesses);
+        }
+    }
+
+    private List<String> capture(Runnable action) {
+        Logger sqlLogger = Logger.getLogger("org.hibernate.SQL");
+        Handler handler = new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                capturedSql.add(record.getMessage());
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        capturedSql.clear();
+        Level previousLevel = sqlLogger.getLevel();
+        sqlLogger.setLevel(Level.ALL);
+        sqlLogger.addHandler(handler);
+        try {
+            action.run();
+        } finally {
+            sqlLogger.removeHandler(handler);
+            sqlLogger.setLevel(previousLevel);
+            EntityManagerHelper.getEntityManager().clear();
+        }
+        if (capturedSql.isEmpty()) {
+            throw new IllegalStateException("No SQL captured: is org.hibernate.SQL logged through java.util.logging?");
+        }
+        return List.copyOf(capturedSql);
+    }
+
+    private static List<Access> explain(String sql) {
+        StringBuilder plan = new StringBuilder();
+        Session session = EntityManagerHelper.getEntityManager().unwrap(Session.class);
+        session.doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN PLAN FOR " + sql);
+                 ResultSet rows = statement.executeQuery()) {
+                while (rows.next()) {
+                    plan.append(rows.getString(1)).append('\n');
+                }
+            }
+        });
+
+        List<Access> accesses = new ArrayList<>();
+        for (String rangeVariable : plan.toString().split("\\[range variable")) {
+            Matcher matcher = RANGE_VARIABLE.matcher(rangeVariable);
+            if (matcher.find()) {
+                String table = matcher.group(1);
+                accesses.add(new Access(
+                        table.substring(table.lastIndexOf('.') + 1),
+                        matcher.group(2).trim(),
+                        matcher.group(3)
+                ));
+            }
+        }
+        return accesses;
+    }
+
+    private static Customer seedCustomer(CustomerDao customerDao) {
+        Customer customer = new Customer();
+        customer.setEmail("queryplans.customer@sir.local");
+        customer.setPassword(SIGNING_KEY);
+        customer.setFirstName("Query");
+        customer.setLastName("Plans");
+        customerDao.save(customer);
+        return customer;
+    }
+
+    private static String seedRefreshToken(RefreshTokenDao refreshTokenDao, Customer customer) {
+        RefreshToken token = new RefreshToken();
+        token.setTokenHash("queryplans-" + UUID.randomUUID());
+        token.setUser(customer);
+        token.setExpiresAt(Instant.now().plus(1, ChronoUnit.DAYS));
+        refreshTokenDao.save(token);
+        return token.getTokenHash();
+    }
+
+    private static void setIfAbsent(String name, String value) {
+        if (System.getProperty(name) == null) {
+            System.setProperty(name, value);
+        }
+    }
+
+    /**
+     * Index a check expects on one table.
+     *
+     * @param table table name
+     * @param indexPrefix index name, or prefix of generated names
+     */
+    private record Expected(String table, String indexPrefix) {}
+
+    /**
+     * Access path of one table in a plan.
+     *
+     * @param table table name
+     * @param access HSQLDB access kind, e.g. {@code INDEX PRED} or {@code FULL SCAN}
+     * @param index index named by the plan; a full scan walks the primary key index
+     */
+    private record Access(String table, String access, String index) {
+
+        private boolean isScan() {
+            return index == null || access.startsWith("FULL SCAN");
+        }
+
+        @Override
+        public String toString() {
+            return table + "=" + (isScan() ? access : index);
+        }
+    }
+}